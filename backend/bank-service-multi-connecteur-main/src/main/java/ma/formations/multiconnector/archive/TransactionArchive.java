@@ -0,0 +1,218 @@
+package ma.formations.multiconnector.archive;
+
+import jakarta.annotation.PostConstruct;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.ArchiveSegmentRepository;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.model.ArchiveSegment;
+import ma.formations.multiconnector.service.model.LedgerTotals;
+import ma.formations.multiconnector.service.model.TransactionRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Archive froide des opérations : un ou plusieurs segments par mois (TransactionSegment) dans
+ * bank.archive.directory, projetés en mémoire à l'ouverture. Les mois archivés ne sont plus en base
+ * (cf. TransactionArchiveJob) : les lectures de l'historique fusionnent la base et l'archive.
+ * Seuls les segments inscrits au manifeste de la base (ArchiveSegment) sont relus ; un segment écrit
+ * n'est lisible qu'une fois validée la transaction qui l'inscrit et supprime ses opérations de la base.
+ */
+@Component
+public class TransactionArchive {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionArchive.class);
+
+    private static final Comparator<TransactionRow> ROW_ORDER =
+            Comparator.comparing(TransactionRow::createdAt).thenComparing(TransactionRow::id);
+
+    private final TransferProperties transferProperties;
+    private final ArchiveSegmentRepository archiveSegmentRepository;
+    private final NavigableMap<YearMonth, List<TransactionSegment>> segments = new ConcurrentSkipListMap<>();
+
+    public TransactionArchive(TransferProperties transferProperties,
+                              ArchiveSegmentRepository archiveSegmentRepository) {
+        this.transferProperties = transferProperties;
+        this.archiveSegmentRepository = archiveSegmentRepository;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Map<String, ArchiveSegment> manifest = archiveSegmentRepository.findAll().stream()
+                .collect(Collectors.toMap(ArchiveSegment::getFileName, Function.identity()));
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(TransactionArchive::isSegment).sorted().toList()) {
+                ArchiveSegment entry = manifest.get(file.getFileName().toString());
+                TransactionSegment segment = entry == null ? null : TransactionSegment.open(file);
+                if (segment == null || !matches(entry, segment)) {
+                    // Archivage annulé avant son commit, ou segment d'une autre base
+                    logger.warn("Transaction archive: {} is not in the database manifest, ignored", file);
+                    continue;
+                }
+                add(segment);
+            }
+        }
+        logger.info("Transaction archive opened: {} month(s) in {}", segments.size(), directory);
+    }
+
+    /**
+     * Début de la période en base : premier instant qui suit le dernier mois archivé, null si l'archive est vide
+     */
+    public Date hotFrom() {
+        return segments.isEmpty() ? null : startOf(segments.lastKey().plusMonths(1));
+    }
+
+    /**
+     * Plus grand identifiant déjà archivé pour le mois (0 si aucun)
+     */
+    public long archivedUpToId(YearMonth month) {
+        return segments.getOrDefault(month, List.of()).stream()
+                .mapToLong(TransactionSegment::maxId)
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * Nombre d'opérations archivées du compte (répertoires des segments, sans décompression)
+     */
+    public long countOf(long accountId) {
+        long count = 0;
+        for (List<TransactionSegment> month : segments.values()) {
+            for (TransactionSegment segment : month) {
+                count += segment.count(accountId);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Opérations archivées du compte datées entre from et to inclus, dans l'ordre (date, id)
+     */
+    public List<TransactionRow> find(long accountId, Date from, Date to) {
+        if (segments.isEmpty() || from.after(to)) {
+            return List.of();
+        }
+        List<TransactionRow> rows = new ArrayList<>();
+        for (List<TransactionSegment> month : segments.subMap(monthOf(from), true, monthOf(to), true).values()) {
+            for (TransactionSegment segment : month) {
+                rows.addAll(segment.read(accountId, from, to));
+            }
+        }
+        // Un mois peut avoir plusieurs segments (opérations arrivées après un premier archivage)
+        rows.sort(ROW_ORDER);
+        return rows;
+    }
+
+    /**
+     * Cumul des opérations archivées du compte postérieures à l'instant at
+     */
+    public LedgerTotals sumAfter(long accountId, Date at) {
+        long net = 0;
+        long entries = 0;
+        if (!segments.isEmpty()) {
+            Date from = new Date(at.getTime() + 1);
+            for (TransactionRow row : find(accountId, from, new Date(Long.MAX_VALUE))) {
+                net += row.transactionType() == TransactionType.CREDIT ? row.amount() : -row.amount();
+                entries++;
+            }
+        }
+        return new LedgerTotals(net, entries);
+    }
+
+    /**
+     * Écrit le segment des opérations d'un mois (ordre compte, date, id) et l'inscrit au manifeste.
+     * Dans une transaction, le segment n'est lisible qu'après son commit (la suppression des opérations
+     * qu'il couvre est alors visible elle aussi) ; en cas d'annulation, le fichier est supprimé.
+     * @return le nombre d'opérations archivées et le plus grand identifiant du segment, null si aucune
+     */
+    public synchronized long[] archive(YearMonth month, Iterator<TransactionRow> rows) throws IOException {
+        Path directory = directory();
+        Files.createDirectories(directory);
+        TransactionSegment segment = TransactionSegment.write(directory, month, rows);
+        if (segment == null) {
+            return null;
+        }
+        archiveSegmentRepository.save(ArchiveSegment.builder()
+                .fileName(segment.file().getFileName().toString())
+                .month(month.toString())
+                .minId(segment.minId())
+                .maxId(segment.maxId())
+                .rowCount(segment.rows())
+                .build());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        add(segment);
+                    } else {
+                        discard(segment);
+                    }
+                }
+            });
+        } else {
+            add(segment);
+        }
+        logger.info("Transaction archive: {} operation(s) of {} written to {}", segment.rows(), month, segment.file());
+        return new long[]{segment.rows(), segment.maxId()};
+    }
+
+    public static YearMonth monthOf(Date date) {
+        return YearMonth.from(date.toInstant().atZone(ZoneId.systemDefault()));
+    }
+
+    public static Date startOf(YearMonth month) {
+        return Date.from(month.atDay(1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private void add(TransactionSegment segment) {
+        segments.computeIfAbsent(segment.month(), month -> new CopyOnWriteArrayList<>()).add(segment);
+    }
+
+    private static boolean matches(ArchiveSegment entry, TransactionSegment segment) {
+        return entry.getMonth().equals(segment.month().toString()) && entry.getMinId() == segment.minId()
+                && entry.getMaxId() == segment.maxId() && entry.getRowCount() == segment.rows();
+    }
+
+    private static void discard(TransactionSegment segment) {
+        try {
+            Files.deleteIfExists(segment.file());
+        } catch (IOException e) {
+            // Fichier absent du manifeste : ignoré à la prochaine ouverture, remplacé au prochain archivage
+            logger.warn("Transaction archive: could not delete {}", segment.file(), e);
+        }
+    }
+
+    private Path directory() {
+        return Path.of(transferProperties.getArchiveDirectory());
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(TransactionSegment.FILE_PREFIX) && name.endsWith(TransactionSegment.FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,355 @@
+package ma.formations.multiconnector.archive;
+
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.model.TransactionRow;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Segment d'archive : les opérations d'un mois, écrites une fois puis lues par projection mémoire.
+ * Les opérations sont rangées par (compte, date, id), en un bloc compressé (Deflate) par compte ;
+ * dans un bloc, les colonnes se suivent (dates et identifiants en deltas, types en bits, montants,
+ * utilisateurs, soldes courants), encodées en entiers de longueur variable.
+ * Un répertoire des comptes trié en fin de fichier permet de lire le bloc d'un compte par dichotomie,
+ * sans décompresser le reste du segment.
+ * Format : MAGIC | blocs | répertoire | pied (version, mois, comptes, lignes, premier id, dernier id,
+ * position du répertoire, MAGIC). Entrée du répertoire (44 octets) : compte(8) position(8) longueur
+ * compressée(4) longueur brute(4) lignes(4) première date(8) dernière date(8).
+ */
+final class TransactionSegment {
+
+    static final String FILE_PREFIX = "tx-";
+    static final String FILE_SUFFIX = ".seg";
+
+    private static final int MAGIC = 0x42545853;
+    private static final int VERSION = 1;
+    private static final int ENTRY_SIZE = 44;
+    private static final int FOOTER_SIZE = 44;
+
+    private final Path file;
+    private final YearMonth month;
+    private final MappedByteBuffer buffer;
+    private final int accounts;
+    private final int rows;
+    private final long minId;
+    private final long maxId;
+    private final int directory;
+
+    private TransactionSegment(Path file, MappedByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        int footer = buffer.capacity() - FOOTER_SIZE;
+        if (buffer.capacity() < FOOTER_SIZE + 4 || buffer.getInt(0) != MAGIC
+                || buffer.getInt(footer + 40) != MAGIC || buffer.getInt(footer) != VERSION) {
+            throw new IllegalStateException("Segment d'archive invalide : " + file);
+        }
+        int yearMonth = buffer.getInt(footer + 4);
+        this.month = YearMonth.of(yearMonth / 100, yearMonth % 100);
+        this.accounts = buffer.getInt(footer + 8);
+        this.rows = buffer.getInt(footer + 12);
+        this.minId = buffer.getLong(footer + 16);
+        this.maxId = buffer.getLong(footer + 24);
+        this.directory = (int) buffer.getLong(footer + 32);
+    }
+
+    static TransactionSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // La projection reste valide après la fermeture du canal
+            return new TransactionSegment(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Écrit le segment des opérations d'un mois, reçues dans l'ordre (compte, date, id).
+     * Le fichier est écrit sous un nom temporaire, synchronisé, puis renommé : un segment visible est complet.
+     * @return le segment ouvert, ou null s'il n'y a aucune opération
+     */
+    static TransactionSegment write(Path directory, YearMonth month, Iterator<TransactionRow> source)
+            throws IOException {
+        if (!source.hasNext()) {
+            return null;
+        }
+        Path temporary = directory.resolve(FILE_PREFIX + month + FILE_SUFFIX + ".tmp");
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        DataOutputStream directoryOut = new DataOutputStream(entries);
+        int accountCount = 0;
+        int rowCount = 0;
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(MAGIC);
+            List<TransactionRow> block = new ArrayList<>();
+            TransactionRow row = source.next();
+            while (row != null) {
+                block.add(row);
+                minId = Math.min(minId, row.id());
+                maxId = Math.max(maxId, row.id());
+                row = source.hasNext() ? source.next() : null;
+                if (row == null || !row.accountId().equals(block.get(0).accountId())) {
+                    byte[] raw = encode(block);
+                    byte[] compressed = compress(raw);
+                    directoryOut.writeLong(block.get(0).accountId());
+                    directoryOut.writeLong(out.size());
+                    directoryOut.writeInt(compressed.length);
+                    directoryOut.writeInt(raw.length);
+                    directoryOut.writeInt(block.size());
+                    directoryOut.writeLong(block.get(0).createdAt().getTime());
+                    directoryOut.writeLong(block.get(block.size() - 1).createdAt().getTime());
+                    out.write(compressed);
+                    accountCount++;
+                    rowCount += block.size();
+                    block.clear();
+                }
+            }
+            long directoryOffset = out.size();
+            entries.writeTo(out);
+            out.writeInt(VERSION);
+            out.writeInt(month.getYear() * 100 + month.getMonthValue());
+            out.writeInt(accountCount);
+            out.writeInt(rowCount);
+            out.writeLong(minId);
+            out.writeLong(maxId);
+            out.writeLong(directoryOffset);
+            out.writeInt(MAGIC);
+            out.flush();
+            channel.force(true);
+        }
+        Path file = directory.resolve(String.format("%s%s-%020d%s", FILE_PREFIX, month, minId, FILE_SUFFIX));
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+        return open(file);
+    }
+
+    Path file() {
+        return file;
+    }
+
+    YearMonth month() {
+        return month;
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    long minId() {
+        return minId;
+    }
+
+    long maxId() {
+        return maxId;
+    }
+
+    /**
+     * Nombre d'opérations du compte dans le segment (entrée du répertoire)
+     */
+    int count(long accountId) {
+        int entry = findEntry(accountId);
+        return entry < 0 ? 0 : buffer.getInt(directory + entry * ENTRY_SIZE + 24);
+    }
+
+    /**
+     * Opérations du compte datées entre from et to inclus, dans l'ordre (date, id)
+     */
+    List<TransactionRow> read(long accountId, Date from, Date to) {
+        int entry = findEntry(accountId);
+        if (entry < 0) {
+            return List.of();
+        }
+        int position = directory + entry * ENTRY_SIZE;
+        // Dates de la première et de la dernière opération du bloc : bloc hors période, rien à décompresser
+        if (buffer.getLong(position + 36) < from.getTime() || buffer.getLong(position + 28) > to.getTime()) {
+            return List.of();
+        }
+        byte[] raw = inflate(buffer.slice((int) buffer.getLong(position + 8), buffer.getInt(position + 16)),
+                buffer.getInt(position + 20));
+        return decode(accountId, raw, buffer.getInt(position + 24), from.getTime(), to.getTime());
+    }
+
+    private int findEntry(long accountId) {
+        int low = 0;
+        int high = accounts - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long candidate = buffer.getLong(directory + middle * ENTRY_SIZE);
+            if (candidate < accountId) {
+                low = middle + 1;
+            } else if (candidate > accountId) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] encode(List<TransactionRow> block) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(block.size() * 16);
+        long previous = 0;
+        for (TransactionRow row : block) {
+            writeVarLong(out, row.createdAt().getTime() - previous);
+            previous = row.createdAt().getTime();
+        }
+        previous = 0;
+        for (TransactionRow row : block) {
+            writeVarLong(out, zigZag(row.id() - previous));
+            previous = row.id();
+        }
+        byte[] credits = new byte[(block.size() + 7) / 8];
+        byte[] withBalance = new byte[credits.length];
+        for (int i = 0; i < block.size(); i++) {
+            if (block.get(i).transactionType() == TransactionType.CREDIT) {
+                credits[i >> 3] |= (byte) (1 << (i & 7));
+            }
+            if (block.get(i).balanceAfter() != null) {
+                withBalance[i >> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        out.writeBytes(credits);
+        for (TransactionRow row : block) {
+            writeVarLong(out, row.amount());
+        }
+        for (TransactionRow row : block) {
+            writeVarLong(out, row.userId() == null ? 0 : row.userId() + 1);
+        }
+        out.writeBytes(withBalance);
+        previous = 0;
+        for (TransactionRow row : block) {
+            if (row.balanceAfter() != null) {
+                writeVarLong(out, zigZag(row.balanceAfter() - previous));
+                previous = row.balanceAfter();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static List<TransactionRow> decode(long accountId, byte[] raw, int count, long from, long to) {
+        int[] position = {0};
+        long[] createdAt = new long[count];
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += readVarLong(raw, position);
+            createdAt[i] = previous;
+        }
+        long[] ids = new long[count];
+        previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += unZigZag(readVarLong(raw, position));
+            ids[i] = previous;
+        }
+        int credits = position[0];
+        position[0] += (count + 7) / 8;
+        long[] amounts = new long[count];
+        for (int i = 0; i < count; i++) {
+            amounts[i] = readVarLong(raw, position);
+        }
+        long[] users = new long[count];
+        for (int i = 0; i < count; i++) {
+            users[i] = readVarLong(raw, position);
+        }
+        int withBalance = position[0];
+        position[0] += (count + 7) / 8;
+        List<TransactionRow> rows = new ArrayList<>();
+        previous = 0;
+        for (int i = 0; i < count; i++) {
+            Long balanceAfter = null;
+            if (isSet(raw, withBalance, i)) {
+                previous += unZigZag(readVarLong(raw, position));
+                balanceAfter = previous;
+            }
+            if (createdAt[i] < from || createdAt[i] > to) {
+                continue;
+            }
+            rows.add(new TransactionRow(ids[i], accountId, new Date(createdAt[i]),
+                    isSet(raw, credits, i) ? TransactionType.CREDIT : TransactionType.DEBIT,
+                    amounts[i], users[i] == 0 ? null : users[i] - 1, balanceAfter));
+        }
+        return rows;
+    }
+
+    private static byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(ByteBuffer compressed, int rawLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                length += inflater.inflate(raw, length, rawLength - length);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new UncheckedIOException(new IOException("Bloc corrompu dans le segment " + file, e));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static boolean isSet(byte[] raw, int offset, int i) {
+        return (raw[offset + (i >> 3)] & (1 << (i & 7))) != 0;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] raw, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = raw[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
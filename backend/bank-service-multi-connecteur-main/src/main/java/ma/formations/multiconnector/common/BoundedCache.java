@@ -0,0 +1,133 @@
+package ma.formations.multiconnector.common;
+
+import ma.formations.multiconnector.dtos.metrics.CacheStatsDto;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Cache mémoire borné : LRU (maxSize entrées) avec expiration (TTL), statistiques de hits / misses / évictions.
+ * Une invalidation fait échouer les chargements concurrents commencés avant elle (générations par bande de clés) :
+ * une valeur lue en base avant une écriture ne peut pas être installée après son invalidation.
+ * Les absences (loader renvoyant null) ne sont pas mises en cache.
+ */
+public final class BoundedCache<K, V> {
+
+    private static final int STRIPES = 64;
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> entries;
+    private final long[] generations = new long[STRIPES];
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+
+    public BoundedCache(String name, int maxSize, long ttlMillis) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        // LRU borné : l'entrée la moins récemment utilisée est évincée au-delà de maxSize
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Valeur en cache, ou chargée par loader (hors verrou) puis installée si aucune invalidation n'est survenue
+     */
+    public V get(K key, Function<K, V> loader) {
+        long generation;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() >= System.currentTimeMillis()) {
+                    hits++;
+                    return entry.value();
+                }
+                entries.remove(key);
+                expirations++;
+            }
+            misses++;
+            generation = generations[stripe(key)];
+        }
+        V value = loader.apply(key);
+        if (value != null && maxSize > 0) {
+            synchronized (this) {
+                if (generations[stripe(key)] == generation) {
+                    entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Installe une valeur qui vient d'être écrite ; les chargements concurrents commencés avant ne l'écrasent pas
+     */
+    public synchronized void put(K key, V value) {
+        generations[stripe(key)]++;
+        if (maxSize > 0) {
+            entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        generations[stripe(key)]++;
+        if (entries.remove(key) != null) {
+            invalidations++;
+        }
+    }
+
+    /**
+     * Invalide les entrées vérifiant predicate ; toutes les bandes sont avancées (clés non connues à l'avance)
+     */
+    public synchronized void invalidateIf(BiPredicate<K, V> predicate) {
+        for (int i = 0; i < STRIPES; i++) {
+            generations[i]++;
+        }
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> entry = iterator.next();
+            if (predicate.test(entry.getKey(), entry.getValue().value())) {
+                iterator.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    public synchronized CacheStatsDto stats() {
+        long requests = hits + misses;
+        return CacheStatsDto.builder()
+                .name(name)
+                .size(entries.size())
+                .maxSize(maxSize)
+                .hits(hits)
+                .misses(misses)
+                .hitRate(requests == 0 ? 0 : (double) hits / requests)
+                .evictions(evictions)
+                .expirations(expirations)
+                .invalidations(invalidations)
+                .build();
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), STRIPES);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
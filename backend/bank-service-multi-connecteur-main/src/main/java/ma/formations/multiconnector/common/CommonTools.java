@@ -4,6 +4,7 @@ import lombok.Data;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -16,8 +17,15 @@ public class CommonTools {
     private String dateFormat;
 
     public String dateToString(Date date) {
-        SimpleDateFormat formatter = new SimpleDateFormat(dateFormat);
-        return formatter.format(date);
+        return dateFormatter().format(date);
+    }
+
+    /**
+     * Formateur au format graphql.date.format, à réutiliser pour toute une écriture
+     * (non thread-safe : une instance par thread).
+     */
+    public DateFormat dateFormatter() {
+        return new SimpleDateFormat(dateFormat);
     }
 
     public Date stringToDate(String date) throws ParseException {
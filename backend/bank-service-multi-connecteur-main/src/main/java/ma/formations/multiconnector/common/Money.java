@@ -0,0 +1,66 @@
+package ma.formations.multiconnector.common;
+
+import ma.formations.multiconnector.service.exception.BusinessException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Montants en virgule fixe : un montant est un long exprimé en centimes (unité mineure du MAD).
+ * Les soldes et opérations sont stockés et calculés en centimes (arithmétique exacte,
+ * sans allocation). La conversion vers/depuis les montants décimaux en MAD n'a lieu
+ * qu'aux frontières (DTO REST/SOAP/GraphQL/gRPC).
+ */
+public final class Money {
+
+    public static final long CENTIMES_PER_MAD = 100;
+
+    // Au-delà, un montant en MAD ne tient plus dans un long de centimes
+    private static final double MAX_MAD = (double) Long.MAX_VALUE / CENTIMES_PER_MAD;
+
+    private Money() {
+    }
+
+    /**
+     * Convertit un montant en MAD en centimes. Le montant est lu par sa représentation décimale
+     * la plus courte (celle saisie par le client) : au-delà de 2 décimales, il est refusé plutôt qu'arrondi.
+     */
+    public static long ofMad(Double amount) {
+        if (amount == null) {
+            throw new BusinessException("Le montant est obligatoire");
+        }
+        double value = amount;
+        if (Double.isNaN(value) || Double.isInfinite(value) || Math.abs(value) >= MAX_MAD) {
+            throw new BusinessException(String.format("Montant invalide : %s", amount));
+        }
+        try {
+            return BigDecimal.valueOf(value).setScale(2, RoundingMode.UNNECESSARY).movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new BusinessException(String.format("Le montant ne peut pas avoir plus de 2 décimales : %s", amount));
+        }
+    }
+
+    /**
+     * Convertit un montant en centimes en MAD (double le plus proche de la valeur décimale)
+     */
+    public static double toMad(long centimes) {
+        return centimes / (double) CENTIMES_PER_MAD;
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    /**
+     * Représentation décimale exacte, ex : 123456 -> "1234.56"
+     */
+    public static String format(long centimes) {
+        long abs = Math.abs(centimes);
+        long fraction = abs % CENTIMES_PER_MAD;
+        return (centimes < 0 ? "-" : "") + (abs / CENTIMES_PER_MAD) + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
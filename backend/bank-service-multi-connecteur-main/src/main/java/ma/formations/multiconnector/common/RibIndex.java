@@ -0,0 +1,192 @@
+package ma.formations.multiconnector.common;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Index mémoire RIB → identifiant de compte, sans objet par entrée :
+ * les 24 chiffres du RIB sont rangés dans deux long (12 chiffres chacun) et la table est
+ * à adressage ouvert (sondage linéaire) sur trois tableaux primitifs parallèles.
+ * Lectures sans verrou (lecture optimiste StampedLock), écritures sérialisées.
+ * Seuls les RIB de exactement 24 chiffres sont indexés ; les autres ne sont jamais trouvés.
+ */
+public final class RibIndex {
+
+    public static final long NOT_FOUND = -1;
+
+    private static final int DIGITS_PER_HALF = 12;
+    private static final int RIB_LENGTH = 2 * DIGITS_PER_HALF;
+    // Case libre : une moitié de RIB est toujours positive ou nulle
+    private static final long EMPTY = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table;
+    private int size;
+
+    public RibIndex(int expectedSize) {
+        this.table = new Table(capacityFor(expectedSize));
+    }
+
+    /**
+     * @return l'identifiant du compte, ou NOT_FOUND
+     */
+    public long find(String rib) {
+        if (!indexable(rib)) {
+            return NOT_FOUND;
+        }
+        long high = half(rib, 0);
+        long low = half(rib, DIGITS_PER_HALF);
+        long stamp = lock.tryOptimisticRead();
+        long id = table.find(high, low);
+        if (!lock.validate(stamp)) {
+            // Écriture concurrente : relire sous verrou partagé
+            stamp = lock.readLock();
+            try {
+                id = table.find(high, low);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Ajoute ou remplace l'entrée du RIB ; sans effet si le RIB n'est pas indexable
+     */
+    public void put(String rib, long id) {
+        if (!indexable(rib)) {
+            return;
+        }
+        long high = half(rib, 0);
+        long low = half(rib, DIGITS_PER_HALF);
+        long stamp = lock.writeLock();
+        try {
+            if (table.put(high, low, id)) {
+                size++;
+                if (size > table.resizeAt) {
+                    table = table.grow();
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Octets occupés par les tableaux de la table
+     */
+    public long footprintBytes() {
+        return 3L * Long.BYTES * table.highs.length;
+    }
+
+    public static boolean indexable(String rib) {
+        if (rib == null || rib.length() != RIB_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < RIB_LENGTH; i++) {
+            char c = rib.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long half(String rib, int from) {
+        long value = 0;
+        for (int i = from; i < from + DIGITS_PER_HALF; i++) {
+            value = value * 10 + (rib.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        // Taux de remplissage maximal de 3/4 : une case libre termine toujours le sondage
+        long needed = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / 0.75));
+        long capacity = Long.highestOneBit(needed - 1) << 1;
+        if (capacity > 1 << 30) {
+            throw new IllegalArgumentException("RIB index too large: " + expectedSize);
+        }
+        return (int) capacity;
+    }
+
+    private static int hash(long high, long low) {
+        // Mélange de type murmur3 (fmix64) des deux moitiés
+        long h = high * 0x9E3779B97F4A7C15L ^ low;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static final class Table {
+        private final long[] highs;
+        private final long[] lows;
+        private final long[] ids;
+        private final int mask;
+        private final int resizeAt;
+
+        private Table(int capacity) {
+            this.highs = new long[capacity];
+            this.lows = new long[capacity];
+            this.ids = new long[capacity];
+            this.mask = capacity - 1;
+            this.resizeAt = (int) (capacity * 0.75);
+            Arrays.fill(highs, EMPTY);
+        }
+
+        private long find(long high, long low) {
+            for (int slot = hash(high, low) & mask; ; slot = (slot + 1) & mask) {
+                long h = highs[slot];
+                if (h == EMPTY) {
+                    return NOT_FOUND;
+                }
+                if (h == high && lows[slot] == low) {
+                    return ids[slot];
+                }
+            }
+        }
+
+        /**
+         * @return true si une nouvelle case a été occupée
+         */
+        private boolean put(long high, long low, long id) {
+            for (int slot = hash(high, low) & mask; ; slot = (slot + 1) & mask) {
+                long h = highs[slot];
+                if (h == EMPTY) {
+                    // L'identifiant et la moitié basse sont écrits avant la moitié haute qui rend la case visible
+                    ids[slot] = id;
+                    lows[slot] = low;
+                    highs[slot] = high;
+                    return true;
+                }
+                if (h == high && lows[slot] == low) {
+                    ids[slot] = id;
+                    return false;
+                }
+            }
+        }
+
+        private Table grow() {
+            Table grown = new Table(highs.length * 2);
+            for (int slot = 0; slot < highs.length; slot++) {
+                if (highs[slot] != EMPTY) {
+                    grown.put(highs[slot], lows[slot], ids[slot]);
+                }
+            }
+            return grown;
+        }
+    }
+}
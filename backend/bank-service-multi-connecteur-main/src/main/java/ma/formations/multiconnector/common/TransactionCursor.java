@@ -0,0 +1,51 @@
+package ma.formations.multiconnector.common;
+
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.TransactionRow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Curseur de pagination de l'historique : position (createdAt, id) de la dernière opération lue.
+ * Encodé en base64url opaque pour les clients ; l'id départage les opérations de même date.
+ * Ordre naturel : celui de l'historique, (createdAt, id) croissants.
+ */
+public record TransactionCursor(long createdAt, long id) implements Comparable<TransactionCursor> {
+
+    public static TransactionCursor of(BankAccountTransaction transaction) {
+        return new TransactionCursor(transaction.getCreatedAt().getTime(), transaction.getId());
+    }
+
+    public static TransactionCursor of(TransactionRow row) {
+        return new TransactionCursor(row.createdAt().getTime(), row.id());
+    }
+
+    @Override
+    public int compareTo(TransactionCursor other) {
+        int byDate = Long.compare(createdAt, other.createdAt);
+        return byDate != 0 ? byDate : Long.compare(id, other.id);
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            return new TransactionCursor(Long.parseLong(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessException(String.format("Curseur de pagination invalide : %s", cursor));
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Date createdAtDate() {
+        return new Date(createdAt);
+    }
+}
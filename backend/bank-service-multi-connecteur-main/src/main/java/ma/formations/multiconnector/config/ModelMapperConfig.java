@@ -2,7 +2,14 @@ package ma.formations.multiconnector.config;
 
 import lombok.AllArgsConstructor;
 import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
 import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
 import org.modelmapper.AbstractConverter;
 import org.modelmapper.Converter;
 import org.modelmapper.ModelMapper;
@@ -60,6 +67,42 @@ public class ModelMapperConfig {
         modelMapper.addConverter(stringToDateConverter);
         modelMapper.addConverter(stringToBooleanConverter);
 
+        // Montants : centimes (long) côté entités, MAD (Double) côté DTO
+        Converter<Long, Double> centimesToMadConverter = new AbstractConverter<>() {
+            @Override
+            protected Double convert(Long centimes) {
+                return centimes == null ? null : Money.toMad(centimes);
+            }
+        };
+        Converter<Double, Long> madToCentimesConverter = new AbstractConverter<>() {
+            @Override
+            protected Long convert(Double amount) {
+                return amount == null ? 0L : Money.ofMad(amount);
+            }
+        };
+
+        modelMapper.emptyTypeMap(AddBankAccountRequest.class, BankAccount.class)
+                .addMappings(mapper -> mapper.using(madToCentimesConverter)
+                        .map(AddBankAccountRequest::getAmount, BankAccount::setAmount))
+                .implicitMappings();
+        modelMapper.emptyTypeMap(BankAccount.class, BankAccountDto.class)
+                .addMappings(mapper -> mapper.using(centimesToMadConverter)
+                        .map(BankAccount::getAmount, BankAccountDto::setAmount))
+                .implicitMappings();
+        modelMapper.emptyTypeMap(BankAccount.class, AddBankAccountResponse.class)
+                .addMappings(mapper -> mapper.using(centimesToMadConverter)
+                        .map(BankAccount::getAmount, AddBankAccountResponse::setAmount))
+                .implicitMappings();
+        modelMapper.emptyTypeMap(BankAccountTransaction.class, TransactionDto.class)
+                .addMappings(mapper -> {
+                    mapper.using(centimesToMadConverter)
+                            .map(BankAccountTransaction::getAmount, TransactionDto::setAmount);
+                    mapper.using(centimesToMadConverter).<Double>map(
+                            src -> src.getBankAccount().getAmount(),
+                            (dest, amount) -> dest.getBankAccount().setAmount(amount));
+                })
+                .implicitMappings();
+
         return modelMapper;
     }
 }
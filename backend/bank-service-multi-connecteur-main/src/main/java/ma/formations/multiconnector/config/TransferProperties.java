@@ -0,0 +1,135 @@
+package ma.formations.multiconnector.config;
+
+import lombok.Data;
+import ma.formations.multiconnector.enums.BalanceMode;
+import ma.formations.multiconnector.enums.TransferConcurrencyMode;
+import ma.formations.multiconnector.enums.TransferEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Paramètres du moteur de virements (préfixe bank.transfer dans application.properties)
+ * et de la lecture de l'historique et du tableau de bord (préfixes bank.transactions, bank.dashboard)
+ */
+@Component
+@Data
+public class TransferProperties {
+
+    @Value("${bank.transfer.engine:TRANSACTIONAL}")
+    private TransferEngine engine;
+
+    @Value("${bank.transfer.concurrency-mode:PESSIMISTIC}")
+    private TransferConcurrencyMode concurrencyMode;
+
+    // Nombre maximal de rejeux après un conflit de version (mode OPTIMISTIC)
+    @Value("${bank.transfer.optimistic.max-retries:5}")
+    private int optimisticMaxRetries;
+
+    // Attente de base entre deux rejeux, doublée à chaque tentative (avec gigue)
+    @Value("${bank.transfer.optimistic.backoff-ms:5}")
+    private long optimisticBackoffMs;
+
+    // Nombre maximal de lignes acceptées dans un lot de virements
+    @Value("${bank.transfer.batch.max-size:10000}")
+    private int batchMaxSize;
+
+    // Cache mémoire des clés d'idempotence : taille maximale et durée de vie
+    @Value("${bank.transfer.idempotency.cache-size:10000}")
+    private int idempotencyCacheSize;
+
+    @Value("${bank.transfer.idempotency.ttl-seconds:86400}")
+    private long idempotencyTtlSeconds;
+
+    // Moteur SHARDED : nombre de shards, taille de chaque anneau, taille maximale d'un commit groupé
+    @Value("${bank.transfer.sharded.shards:4}")
+    private int shardCount;
+
+    @Value("${bank.transfer.sharded.ring-size:4096}")
+    private int shardRingSize;
+
+    @Value("${bank.transfer.sharded.group-commit-size:512}")
+    private int groupCommitSize;
+
+    // Source de vérité des soldes (préfixe bank.balance)
+    @Value("${bank.balance.mode:STORED}")
+    private BalanceMode balanceMode;
+
+    // Mode LEDGER : un instantané est écrit toutes les N opérations
+    @Value("${bank.balance.snapshot-interval:100}")
+    private int snapshotInterval;
+
+    // Parallélisme du job de reconstruction des instantanés (fork/join)
+    @Value("${bank.balance.rebuild-parallelism:4}")
+    private int snapshotRebuildParallelism;
+
+    // Parallélisme du job de reconstruction des agrégats journaliers (fork/join)
+    @Value("${bank.balance.daily-rebuild-parallelism:4}")
+    private int dailyRebuildParallelism;
+
+    // Mode LEDGER : rangées journalières (1..K) entre lesquelles les crédits d'un compte sont répartis
+    @Value("${bank.balance.daily-credit-rows:8}")
+    private int dailyCreditRows;
+
+    // Archive froide des opérations : répertoire des segments mensuels et âge minimal d'un mois archivé
+    @Value("${bank.archive.directory:./data/archive}")
+    private String archiveDirectory;
+
+    @Value("${bank.archive.horizon-days:365}")
+    private int archiveHorizonDays;
+
+    // Relevés mensuels de fin de mois : répertoire des fichiers par client et parallélisme (fork/join)
+    @Value("${bank.statements.directory:./data/statements}")
+    private String statementsDirectory;
+
+    @Value("${bank.statements.parallelism:4}")
+    private int statementsParallelism;
+
+    // Journal des virements projeté en mémoire (désactivé par défaut)
+    @Value("${bank.transfer.journal.enabled:false}")
+    private boolean journalEnabled;
+
+    @Value("${bank.transfer.journal.directory:./data/journal}")
+    private String journalDirectory;
+
+    @Value("${bank.transfer.journal.file-size-mb:64}")
+    private int journalFileSizeMb;
+
+    // Historique paginé par curseur : taille par défaut et taille maximale d'une page
+    @Value("${bank.transactions.page.default-size:50}")
+    private int transactionPageDefaultSize;
+
+    @Value("${bank.transactions.page.max-size:500}")
+    private int transactionPageMaxSize;
+
+    // Flux gRPC de l'historique : opérations par message et nombre de flux servis en parallèle
+    @Value("${bank.transactions.stream.chunk-size:500}")
+    private int transactionStreamChunkSize;
+
+    @Value("${bank.transactions.stream.max-concurrent:8}")
+    private int transactionStreamMaxConcurrent;
+
+    // Projection de lecture du tableau de bord (UC-4) et nombre maximal de clients gardés en mémoire
+    @Value("${bank.dashboard.projection.enabled:true}")
+    private boolean dashboardProjectionEnabled;
+
+    @Value("${bank.dashboard.projection.max-customers:100000}")
+    private int dashboardProjectionMaxCustomers;
+
+    // Caches des recherches de comptes (RIB → compte, client → comptes) : tailles maximales et durée de vie
+    @Value("${bank.cache.accounts.max-size:10000}")
+    private int cacheAccountsMaxSize;
+
+    @Value("${bank.cache.customers.max-size:10000}")
+    private int cacheCustomersMaxSize;
+
+    @Value("${bank.cache.ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    // Index mémoire RIB → identifiant : nombre de comptes attendu (dimensionnement initial de la table)
+    @Value("${bank.rib-index.expected-accounts:1024}")
+    private int ribIndexExpectedAccounts;
+
+    // Contrôle des plans d'exécution (EXPLAIN) des requêtes fréquentes au démarrage (QueryPlanCheck)
+    @Value("${bank.query-plan.check.enabled:true}")
+    private boolean queryPlanCheckEnabled;
+}
@@ -0,0 +1,7 @@
+package ma.formations.multiconnector.dao;
+
+import ma.formations.multiconnector.service.model.ArchiveSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArchiveSegmentRepository extends JpaRepository<ArchiveSegment, Long> {
+}
@@ -0,0 +1,38 @@
+package ma.formations.multiconnector.dao;
+
+import ma.formations.multiconnector.service.model.BankAccountDailyBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BankAccountDailyBalanceRepository extends JpaRepository<BankAccountDailyBalance, Long> {
+
+    // Cumul d'un virement (ou d'un lot) sur la ligne du jour ; 0 si la ligne n'existe pas encore
+    @Modifying
+    @Query("update BankAccountDailyBalance d set d.debitCount = d.debitCount + :debitCount, " +
+            "d.debitSum = d.debitSum + :debitSum, d.creditCount = d.creditCount + :creditCount, " +
+            "d.creditSum = d.creditSum + :creditSum, d.closingBalance = d.closingBalance + :creditSum - :debitSum " +
+            "where d.bankAccountId = :accountId and d.businessDay = :day and d.slot = :slot")
+    int addToDay(@Param("accountId") Long accountId, @Param("day") LocalDate day, @Param("slot") int slot,
+                 @Param("debitCount") long debitCount, @Param("debitSum") long debitSum,
+                 @Param("creditCount") long creditCount, @Param("creditSum") long creditSum);
+
+    boolean existsByBankAccountIdAndBusinessDayAndSlot(Long bankAccountId, LocalDate businessDay, int slot);
+
+    // Relevés et analyses : une ligne par jour (et par rangée) au lieu de toutes les opérations
+    List<BankAccountDailyBalance> findByBankAccountIdAndBusinessDayBetweenOrderByBusinessDayAscSlotAsc(
+            Long bankAccountId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("delete from BankAccountDailyBalance d where d.bankAccountId = :accountId")
+    int deleteByAccount(@Param("accountId") Long accountId);
+
+    // Jours dont les opérations sont encore en base (les jours des mois archivés sont conservés)
+    @Modifying
+    @Query("delete from BankAccountDailyBalance d where d.bankAccountId = :accountId and d.businessDay >= :from")
+    int deleteByAccountFrom(@Param("accountId") Long accountId, @Param("from") LocalDate from);
+}
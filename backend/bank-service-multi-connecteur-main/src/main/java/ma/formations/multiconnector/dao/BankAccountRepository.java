@@ -1,13 +1,33 @@
 package ma.formations.multiconnector.dao;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import ma.formations.multiconnector.service.model.AccountRib;
 import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountView;
 import ma.formations.multiconnector.service.model.Customer;
+import ma.formations.multiconnector.service.model.StatementAccount;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BankAccountRepository extends JpaRepository<BankAccount, Long> {
+    // Lectures projetées sur les champs de BankAccountDto (client en jointure externe), sans entité gérée
+    String ACCOUNT_VIEW = "select b.id as id, b.rib as rib, b.amount as amount, b.createdAt as createdAt, " +
+            "b.accountStatus as accountStatus, b.subBalanceCount as subBalanceCount, c.id as customerId, " +
+            "c.username as customerUsername, c.identityRef as customerIdentityRef, " +
+            "c.firstname as customerFirstname, c.lastname as customerLastname " +
+            "from BankAccount b left join b.customer c ";
+
     Optional<BankAccount> findByRib(String rib);
 
     // 🆕 NOUVELLE MÉTHODE pour UC-4 : Récupérer tous les comptes d'un client
@@ -15,4 +35,55 @@ public interface BankAccountRepository extends JpaRepository<BankAccount, Long>
 
     // 🆕 NOUVELLE MÉTHODE pour UC-4 : Récupérer le compte le plus récemment mouvementé
     Optional<BankAccount> findFirstByCustomerOrderByIdDesc(Customer customer);
-}
\ No newline at end of file
+
+    // UC-5 : Résoudre l'identifiant d'un compte sans le charger (ordre de verrouillage)
+    @Query("select b.id from BankAccount b where b.rib = :rib")
+    Optional<Long> findIdByRib(@Param("rib") String rib);
+
+    @Query(ACCOUNT_VIEW + "order by b.id")
+    List<BankAccountView> findAllViews();
+
+    @Query(ACCOUNT_VIEW + "where b.id = :id")
+    Optional<BankAccountView> findViewById(@Param("id") Long id);
+
+    // Chargement de l'index mémoire des RIB (BankAccountRibIndex) : lecture en flux, sans entité
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new ma.formations.multiconnector.service.model.AccountRib(b.rib, b.id) from BankAccount b")
+    Stream<AccountRib> streamRibs();
+
+    // UC-5 : Charger un compte avec un verrou en écriture (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from BankAccount b where b.id = :id")
+    Optional<BankAccount> findByIdForUpdate(@Param("id") Long id);
+
+    // Verrouiller la ligne d'un compte déjà chargé sans verrou, sans la charger à nouveau
+    // (la requête sur l'entité comparerait la version chargée) ; l'appelant relit ensuite le compte
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b.id from BankAccount b where b.id = :id")
+    Optional<Long> lockById(@Param("id") Long id);
+
+    // Lot de virements : charger et verrouiller tous les comptes du lot en une seule requête
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from BankAccount b where b.rib in :ribs order by b.id")
+    List<BankAccount> findAllByRibInForUpdate(@Param("ribs") Collection<String> ribs);
+
+    // Reconstruction des instantanés de solde (mode LEDGER)
+    @Query("select b.id from BankAccount b order by b.id")
+    List<Long> findAllIds();
+
+    // Relevés mensuels : comptes rangés par client (comptes sans client à la fin), puis par identifiant
+    @Query("select new ma.formations.multiconnector.service.model.StatementAccount(" +
+            "b.id, b.rib, b.customer.id, b.createdAt) " +
+            "from BankAccount b order by b.customer.id nulls last, b.id")
+    List<StatementAccount> findStatementAccounts();
+
+    // Moteur SHARDED : appliquer au solde le cumul (en centimes) des virements d'un groupe
+    // et au compteur le nombre d'opérations insérées pour ce compte
+    @Modifying
+    @Query("update BankAccount b set b.amount = b.amount + :delta, b.transactionCount = b.transactionCount + :entries, " +
+            "b.version = b.version + 1 where b.id = :id")
+    int addToAmount(@Param("id") Long id, @Param("delta") long delta, @Param("entries") long entries);
+}
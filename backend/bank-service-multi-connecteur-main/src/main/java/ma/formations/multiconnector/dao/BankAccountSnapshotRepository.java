@@ -0,0 +1,12 @@
+package ma.formations.multiconnector.dao;
+
+import ma.formations.multiconnector.service.model.BankAccountSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface BankAccountSnapshotRepository extends JpaRepository<BankAccountSnapshot, Long> {
+    Optional<BankAccountSnapshot> findFirstByBankAccount_IdOrderByUpToIdDesc(Long bankAccountId);
+
+    void deleteByBankAccount_Id(Long bankAccountId);
+}
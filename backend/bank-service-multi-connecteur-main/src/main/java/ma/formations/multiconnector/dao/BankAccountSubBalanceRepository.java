@@ -0,0 +1,35 @@
+package ma.formations.multiconnector.dao;
+
+import jakarta.persistence.LockModeType;
+import ma.formations.multiconnector.service.model.BankAccountSubBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface BankAccountSubBalanceRepository extends JpaRepository<BankAccountSubBalance, Long> {
+
+    // Crédit d'un compte chaud : seule la ligne du sous-solde choisi est verrouillée
+    @Modifying
+    @Query("update BankAccountSubBalance s set s.amount = s.amount + :amount, s.entryCount = s.entryCount + 1 " +
+            "where s.bankAccount.id = :accountId and s.slot = :slot")
+    int addToSlot(@Param("accountId") Long accountId, @Param("slot") int slot, @Param("amount") long amount);
+
+    @Query("select coalesce(sum(s.amount), 0) from BankAccountSubBalance s where s.bankAccount.id = :accountId")
+    long sumByAccount(@Param("accountId") Long accountId);
+
+    @Query("select coalesce(sum(s.entryCount), 0) from BankAccountSubBalance s where s.bankAccount.id = :accountId")
+    long sumEntryCountByAccount(@Param("accountId") Long accountId);
+
+    // Débit d'un compte chaud : verrouiller les sous-soldes avant de les reverser sur le compte
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from BankAccountSubBalance s where s.bankAccount.id = :accountId order by s.slot")
+    List<BankAccountSubBalance> findByAccountForUpdate(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query("delete from BankAccountSubBalance s where s.bankAccount.id = :accountId")
+    int deleteByAccount(@Param("accountId") Long accountId);
+}
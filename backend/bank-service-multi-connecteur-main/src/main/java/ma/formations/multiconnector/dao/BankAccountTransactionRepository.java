@@ -1,17 +1,165 @@
 package ma.formations.multiconnector.dao;
 
-import ma.formations.multiconnector.service.model.BankAccount;
+import jakarta.persistence.QueryHint;
 import ma.formations.multiconnector.service.model.BankAccountTransaction;
-import org.springframework.data.domain.Page;
+import ma.formations.multiconnector.service.model.DashboardTransactionRow;
+import ma.formations.multiconnector.service.model.LedgerTotals;
+import ma.formations.multiconnector.service.model.MonthlyStatementLine;
+import ma.formations.multiconnector.service.model.RunningBalance;
+import ma.formations.multiconnector.service.model.StatementLine;
+import ma.formations.multiconnector.service.model.TransactionRow;
+import ma.formations.multiconnector.service.model.TransactionView;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BankAccountTransactionRepository extends JpaRepository<BankAccountTransaction, Long> {
-    List<BankAccountTransaction> findByBankAccount_RibAndCreatedAtBetween(String rib, Date from, Date to);
+    // Jointure interne explicite : la requête dérivée (jointure externe) parcourait toute la table des opérations
+    @Query("select t from BankAccountTransaction t join t.bankAccount b " +
+            "where b.rib = :rib and t.createdAt between :from and :to")
+    List<BankAccountTransaction> findByBankAccount_RibAndCreatedAtBetween(@Param("rib") String rib, @Param("from") Date from,
+                                                                        @Param("to") Date to);
 
-    // 🆕 NOUVELLE MÉTHODE pour UC-4 : Les 10 dernières transactions d'un compte (paginées)
-    Page<BankAccountTransaction> findByBankAccountOrderByCreatedAtDesc(BankAccount bankAccount, Pageable pageable);
+    // Historique d'un compte projeté sur les champs de TransactionDto (auteur en jointure externe), sans entité gérée
+    @Query("select t.id as id, t.createdAt as createdAt, t.transactionType as transactionType, t.amount as amount, " +
+            "u.id as userId, u.username as username, u.firstname as firstname, u.lastname as lastname " +
+            "from BankAccountTransaction t left join t.user u " +
+            "where t.bankAccount.id = :accountId and t.createdAt between :from and :to " +
+            "order by t.createdAt, t.id")
+    List<TransactionView> findViewsByAccount(@Param("accountId") Long accountId, @Param("from") Date from,
+                                             @Param("to") Date to);
+
+    // Historique par curseur : première page, de la plus récente à la plus ancienne (limite via Pageable, sans OFFSET)
+    @Query("select t from BankAccountTransaction t join fetch t.bankAccount b left join fetch t.user " +
+            "where b.rib = :rib and t.createdAt between :from and :to " +
+            "order by t.createdAt desc, t.id desc")
+    List<BankAccountTransaction> findPageByRib(@Param("rib") String rib, @Param("from") Date from,
+                                               @Param("to") Date to, Pageable limit);
+
+    // Historique par curseur : page suivante, recherche directe après la position (createdAt, id) du curseur
+    @Query("select t from BankAccountTransaction t join fetch t.bankAccount b left join fetch t.user " +
+            "where b.rib = :rib and t.createdAt between :from and :to " +
+            "and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id)) " +
+            "order by t.createdAt desc, t.id desc")
+    List<BankAccountTransaction> findPageByRibAfter(@Param("rib") String rib, @Param("from") Date from,
+                                                    @Param("to") Date to, @Param("createdAt") Date createdAt,
+                                                    @Param("id") Long id, Pageable limit);
+
+    // Export de relevé : lecture en flux par curseur JDBC, projections non gérées par le contexte de persistance
+    // (à consommer dans une transaction et à fermer)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new ma.formations.multiconnector.service.model.StatementLine(" +
+            "t.id, t.createdAt, t.transactionType, t.amount, u.username, u.firstname, u.lastname) " +
+            "from BankAccountTransaction t left join t.user u " +
+            "where t.bankAccount.id = :accountId and t.createdAt between :from and :to " +
+            "order by t.createdAt, t.id")
+    Stream<StatementLine> streamStatement(@Param("accountId") Long accountId, @Param("from") Date from,
+                                          @Param("to") Date to);
+
+    // Relevés mensuels : une seule lecture en flux pour un groupe de comptes,
+    // rangée comme les comptes des relevés (client, compte) puis par (date, id)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new ma.formations.multiconnector.service.model.MonthlyStatementLine(" +
+            "b.id, t.id, t.createdAt, t.transactionType, t.amount, u.username) " +
+            "from BankAccountTransaction t join t.bankAccount b left join t.user u " +
+            "where b.id in :accountIds and t.createdAt >= :from and t.createdAt < :to " +
+            "order by b.customer.id nulls last, b.id, t.createdAt, t.id")
+    Stream<MonthlyStatementLine> streamMonthlyStatements(@Param("accountIds") Collection<Long> accountIds,
+                                                         @Param("from") Date from, @Param("to") Date to);
+
+    // Archivage : opérations d'un mois non encore archivées, en flux, rangées par (compte, date, id)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new ma.formations.multiconnector.service.model.TransactionRow(" +
+            "t.id, t.bankAccount.id, t.createdAt, t.transactionType, t.amount, u.id, t.balanceAfter) " +
+            "from BankAccountTransaction t left join t.user u " +
+            "where t.createdAt >= :from and t.createdAt < :to and t.id > :afterId " +
+            "order by t.bankAccount.id, t.createdAt, t.id")
+    Stream<TransactionRow> streamForArchive(@Param("from") Date from, @Param("to") Date to,
+                                            @Param("afterId") Long afterId);
+
+    // Archivage : suppression des opérations d'un mois recopiées dans un segment (identifiants jusqu'à upToId)
+    @Modifying
+    @Query("delete from BankAccountTransaction t " +
+            "where t.createdAt >= :from and t.createdAt < :to and t.id <= :upToId")
+    int deleteArchived(@Param("from") Date from, @Param("to") Date to, @Param("upToId") Long upToId);
+
+    @Query("select min(t.createdAt) from BankAccountTransaction t")
+    Optional<Date> findOldestCreatedAt();
+
+    // UC-4 : Les 10 dernières transactions d'un compte (paginées), avec l'utilisateur, en une seule requête.
+    // Slice : aucun COUNT(*) ; le total vient du compteur du compte (AccountBalanceService.transactionCountOf)
+    // Borne asOf (instant de la lecture) : sans condition sur created_at, H2 préfère l'index de la clé étrangère
+    // (bank_account_id seul) puis trie tout l'historique du compte
+    @Query("select new ma.formations.multiconnector.service.model.DashboardTransactionRow(" +
+            "t.id, t.createdAt, t.transactionType, t.amount, u.username, u.firstname, u.lastname) " +
+            "from BankAccountTransaction t left join t.user u " +
+            "where t.bankAccount.id = :accountId and t.createdAt <= :asOf order by t.createdAt desc, t.id desc")
+    Slice<DashboardTransactionRow> findDashboardRows(@Param("accountId") Long accountId, @Param("asOf") Date asOf,
+                                                     Pageable pageable);
+
+    // Reprise du journal des virements : le virement journalisé a-t-il été validé en base ?
+    boolean existsByJournalSeq(Long journalSeq);
+
+    // Mode LEDGER : filigrane des opérations validées (cf. LedgerWatermark)
+    @Query("select coalesce(max(t.id), 0) from BankAccountTransaction t")
+    long findMaxId();
+
+    // Mode LEDGER : cumul des opérations d'un compte après l'instantané (queue du registre, identifiants > afterId)
+    @Query("select new ma.formations.multiconnector.service.model.LedgerTotals(" +
+            "coalesce(sum(case when t.transactionType = ma.formations.multiconnector.enums.TransactionType.CREDIT " +
+            "then t.amount else -t.amount end), 0), count(t)) " +
+            "from BankAccountTransaction t where t.bankAccount.id = :accountId and t.id > :afterId")
+    LedgerTotals sumLedgerAfterId(@Param("accountId") Long accountId, @Param("afterId") long afterId);
+
+    // Mode LEDGER : cumul des opérations d'un compte d'identifiant dans ]afterId, upToId]
+    @Query("select new ma.formations.multiconnector.service.model.LedgerTotals(" +
+            "coalesce(sum(case when t.transactionType = ma.formations.multiconnector.enums.TransactionType.CREDIT " +
+            "then t.amount else -t.amount end), 0), count(t)) " +
+            "from BankAccountTransaction t where t.bankAccount.id = :accountId " +
+            "and t.id > :afterId and t.id <= :upToId")
+    LedgerTotals sumLedgerBetweenIds(@Param("accountId") Long accountId, @Param("afterId") long afterId,
+                                     @Param("upToId") long upToId);
+
+    // Solde à une date : dernière opération du compte jusqu'à l'instant (une recherche sur l'index compte, date, id)
+    @Query("select new ma.formations.multiconnector.service.model.RunningBalance(" +
+            "t.balanceAfter, t.transactionType, t.amount) " +
+            "from BankAccountTransaction t where t.bankAccount.id = :accountId and t.createdAt <= :at " +
+            "order by t.createdAt desc, t.id desc")
+    List<RunningBalance> findRunningBalanceAtOrBefore(@Param("accountId") Long accountId, @Param("at") Date at,
+                                                      Pageable limit);
+
+    // Solde à une date antérieure à toute opération : première opération du compte après l'instant
+    @Query("select new ma.formations.multiconnector.service.model.RunningBalance(" +
+            "t.balanceAfter, t.transactionType, t.amount) " +
+            "from BankAccountTransaction t where t.bankAccount.id = :accountId and t.createdAt > :at " +
+            "order by t.createdAt, t.id")
+    List<RunningBalance> findRunningBalanceAfter(@Param("accountId") Long accountId, @Param("at") Date at,
+                                                 Pageable limit);
+
+    // Solde à une date sans solde courant tenu : cumul des opérations postérieures à l'instant
+    @Query("select new ma.formations.multiconnector.service.model.LedgerTotals(" +
+            "coalesce(sum(case when t.transactionType = ma.formations.multiconnector.enums.TransactionType.CREDIT " +
+            "then t.amount else -t.amount end), 0), count(t)) " +
+            "from BankAccountTransaction t where t.bankAccount.id = :accountId and t.createdAt > :at")
+    LedgerTotals sumLedgerAfter(@Param("accountId") Long accountId, @Param("at") Date at);
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package ma.formations.multiconnector.dao;
 
 import ma.formations.multiconnector.service.model.Customer;
+import ma.formations.multiconnector.service.model.CustomerView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
@@ -10,5 +13,10 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     Optional<Customer> findByUsername(String username);
 
+    // Liste des clients projetée sur les champs de CustomerDto, sans charger les rôles ni les comptes
+    @Query("select c.id as id, c.username as username, c.identityRef as identityRef, " +
+            "c.firstname as firstname, c.lastname as lastname from Customer c order by c.id")
+    List<CustomerView> findAllViews();
+
 
 }
@@ -0,0 +1,159 @@
+package ma.formations.multiconnector.dao;
+
+import ma.formations.multiconnector.config.TransferProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contrôle au démarrage des plans d'exécution H2 (EXPLAIN) des requêtes fréquentes :
+ * l'application refuse de démarrer si l'une d'elles parcourt une table entière
+ * (index manquant ou non retenu, cf. @Table(indexes) des entités).
+ * Chaque requête vérifiée est rapprochée du SQL réellement généré par Hibernate dans TestQueryPlanCheck.
+ * Le contrôle s'exécute avant la reprise du journal et le démarrage des connecteurs (serveur web,
+ * serveur gRPC) : aucune requête n'est servie par une application qui refusera de démarrer.
+ */
+@Component
+public class QueryPlanCheck implements SmartLifecycle {
+
+    // Avant TransferJournalRecovery (phase 0), WebServerStartStopLifecycle et GrpcServerLifecycle
+    private static final int PHASE = -1;
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryPlanCheck.class);
+
+    private static final String TABLE_SCAN = ".tableScan";
+    private static final String PERIOD = "between TIMESTAMP '1970-01-01 00:00:00' and TIMESTAMP '2100-01-01 00:00:00'";
+
+    // Requête SQL équivalente (identifiants entre guillemets, cf. globally_quoted_identifiers) par méthode de dépôt
+    private static final Map<String, String> HOT_QUERIES = new LinkedHashMap<>();
+
+    static {
+        HOT_QUERIES.put("BankAccountRepository.findByRib",
+                "select \"id\" from \"bank_account\" where \"rib\" = '0'");
+        HOT_QUERIES.put("BankAccountRepository.findByCustomer",
+                "select \"id\" from \"bank_account\" where \"customer_id\" = 0");
+        HOT_QUERIES.put("BankAccountTransactionRepository.findByBankAccount_RibAndCreatedAtBetween",
+                "select t.\"id\" from \"bank_account_transaction\" t " +
+                        "join \"bank_account\" b on t.\"bank_account_id\" = b.\"id\" " +
+                        "where b.\"rib\" = '0' and t.\"created_at\" " + PERIOD);
+        HOT_QUERIES.put("BankAccountTransactionRepository.findViewsByAccount",
+                "select \"id\" from \"bank_account_transaction\" where \"bank_account_id\" = 0 " +
+                        "and \"created_at\" " + PERIOD + " order by \"created_at\", \"id\"");
+        // Colonne hors index (amount) : comme la requête réelle, l'index ne couvre pas la lecture
+        HOT_QUERIES.put("BankAccountTransactionRepository.findDashboardRows",
+                "select \"id\", \"amount\" from \"bank_account_transaction\" where \"bank_account_id\" = 0 " +
+                        "and \"created_at\" <= TIMESTAMP '2100-01-01 00:00:00' order by \"created_at\" desc, \"id\" desc");
+        HOT_QUERIES.put("BankAccountTransactionRepository.streamStatement",
+                "select \"id\" from \"bank_account_transaction\" where \"bank_account_id\" = 0 " +
+                        "and \"created_at\" " + PERIOD + " order by \"created_at\", \"id\"");
+        HOT_QUERIES.put("BankAccountTransactionRepository.sumLedgerAfterId",
+                "select count(*) from \"bank_account_transaction\" where \"bank_account_id\" = 0 and \"id\" > 0");
+        HOT_QUERIES.put("BankAccountTransactionRepository.findRunningBalanceAtOrBefore",
+                "select \"balance_after\" from \"bank_account_transaction\" where \"bank_account_id\" = 0 " +
+                        "and \"created_at\" <= TIMESTAMP '2100-01-01 00:00:00' " +
+                        "order by \"created_at\" desc, \"id\" desc fetch first 1 rows only");
+        HOT_QUERIES.put("BankAccountTransactionRepository.findRunningBalanceAfter",
+                "select \"balance_after\" from \"bank_account_transaction\" where \"bank_account_id\" = 0 " +
+                        "and \"created_at\" > TIMESTAMP '1970-01-01 00:00:00' " +
+                        "order by \"created_at\", \"id\" fetch first 1 rows only");
+        HOT_QUERIES.put("BankAccountTransactionRepository.sumLedgerAfter",
+                "select count(*) from \"bank_account_transaction\" where \"bank_account_id\" = 0 " +
+                        "and \"created_at\" > TIMESTAMP '1970-01-01 00:00:00'");
+        HOT_QUERIES.put("BankAccountTransactionRepository.existsByJournalSeq",
+                "select \"id\" from \"bank_account_transaction\" where \"journal_seq\" = 0");
+        HOT_QUERIES.put("UserRepository.findByUsername",
+                "select \"id\" from \"user\" where \"username\" = '0'");
+        HOT_QUERIES.put("UserRepository.findByEmail",
+                "select \"id\" from \"user\" where \"email\" = '0'");
+    }
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransferProperties transferProperties;
+    private volatile boolean running;
+
+    public QueryPlanCheck(DataSource dataSource, TransferProperties transferProperties) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transferProperties = transferProperties;
+    }
+
+    @Override
+    public void start() {
+        check();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Refuse le démarrage (IllegalStateException) si une requête fréquente parcourt une table entière
+     */
+    public void check() {
+        if (!transferProperties.isQueryPlanCheckEnabled()) {
+            return;
+        }
+        String product;
+        try {
+            product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Query plan check could not read the database product", e);
+        }
+        if (!"H2".equals(product)) {
+            logger.info("Query plan check skipped: EXPLAIN output of {} is not supported", product);
+            return;
+        }
+        List<String> fullScans = new ArrayList<>();
+        HOT_QUERIES.forEach((name, sql) -> {
+            String plan = explain(sql);
+            if (plan == null || plan.contains(TABLE_SCAN)) {
+                fullScans.add(name + " -> " + plan);
+            }
+        });
+        if (!fullScans.isEmpty()) {
+            throw new IllegalStateException("Hot queries doing a full table scan:\n" + String.join("\n", fullScans));
+        }
+        logger.info("Query plan check passed for {} hot queries", HOT_QUERIES.size());
+    }
+
+    /**
+     * @return les requêtes vérifiées, par méthode de dépôt (Repository.methode)
+     */
+    public static Map<String, String> hotQueries() {
+        return Collections.unmodifiableMap(HOT_QUERIES);
+    }
+
+    /**
+     * Plan d'exécution H2 d'une requête, sans l'exécuter ; les paramètres (?) peuvent rester non renseignés
+     */
+    public String explain(String sql) {
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                (ResultSetExtractor<String>) resultSet -> resultSet.next() ? resultSet.getString(1) : null);
+    }
+}
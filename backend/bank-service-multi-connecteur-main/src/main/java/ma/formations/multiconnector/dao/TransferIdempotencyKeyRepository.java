@@ -0,0 +1,18 @@
+package ma.formations.multiconnector.dao;
+
+import ma.formations.multiconnector.service.model.TransferIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+
+public interface TransferIdempotencyKeyRepository extends JpaRepository<TransferIdempotencyKey, String> {
+    // Purge des clés expirées (index sur created_at)
+    @Transactional
+    @Modifying
+    @Query("delete from TransferIdempotencyKey k where k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") Date cutoff);
+}
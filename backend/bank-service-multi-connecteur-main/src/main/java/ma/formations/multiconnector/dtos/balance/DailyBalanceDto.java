@@ -0,0 +1,24 @@
+package ma.formations.multiconnector.dtos.balance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Soldes et volumes d'un compte sur une journée (montants en MAD)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyBalanceDto {
+    // yyyy-MM-dd
+    private String day;
+    private Double openingBalance;
+    private Double closingBalance;
+    private long debitCount;
+    private Double debitSum;
+    private long creditCount;
+    private Double creditSum;
+}
@@ -0,0 +1,19 @@
+package ma.formations.multiconnector.dtos.balance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Résultat de la reconstruction des instantanés de solde (mode LEDGER)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RebuildBalanceSnapshotsResponse {
+    private String message;
+    private int accounts;
+    private long durationMs;
+}
@@ -0,0 +1,20 @@
+package ma.formations.multiconnector.dtos.balance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Résultat de la reconstruction des agrégats journaliers
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RebuildDailyBalancesResponse {
+    private String message;
+    private int accounts;
+    private long days;
+    private long durationMs;
+}
@@ -0,0 +1,16 @@
+package ma.formations.multiconnector.dtos.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class AccountContentionDto {
+    private String rib;
+    private long conflicts;
+    private long retries;
+}
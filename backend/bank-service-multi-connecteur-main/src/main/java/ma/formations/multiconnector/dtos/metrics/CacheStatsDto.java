@@ -0,0 +1,25 @@
+package ma.formations.multiconnector.dtos.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class CacheStatsDto {
+    private String name;
+    private int size;
+    private int maxSize;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    // Entrées retirées pour respecter maxSize
+    private long evictions;
+    // Entrées retirées car plus anciennes que le TTL
+    private long expirations;
+    // Entrées retirées par une écriture (compte, virement, client)
+    private long invalidations;
+}
@@ -0,0 +1,23 @@
+package ma.formations.multiconnector.dtos.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Latences d'une phase de virement pour un connecteur, en microsecondes
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class PhaseLatencyDto {
+    private String protocol;
+    private String phase;
+    private long count;
+    private double p50Micros;
+    private double p99Micros;
+    private double p999Micros;
+    private double maxMicros;
+}
@@ -0,0 +1,23 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO pour un lot de virements (ex : paie)
+ * Chaque ligne est validée individuellement : une ligne invalide n'annule pas le lot
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AddWirerTransferBatchRequest {
+
+    @NotEmpty(message = "Le lot doit contenir au moins un virement")
+    private List<AddWirerTransferRequest> transfers;
+}
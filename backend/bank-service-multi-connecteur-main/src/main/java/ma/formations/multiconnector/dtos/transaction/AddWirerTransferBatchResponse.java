@@ -0,0 +1,19 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AddWirerTransferBatchResponse {
+    private String message;
+    private int succeeded;
+    private int failed;
+    private List<WirerTransferLineResult> results;
+}
@@ -3,6 +3,7 @@ package ma.formations.multiconnector.dtos.transaction;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -30,4 +31,9 @@ public class AddWirerTransferRequest {
 
     // ❌ RETIRÉ : private String username;
     // Le username sera récupéré depuis le token JWT dans le controller
+
+    // Clé d'idempotence (optionnelle) : un rejeu avec la même clé renvoie la réponse d'origine
+    // En REST, elle est transmise par l'en-tête Idempotency-Key
+    @Size(max = 128, message = "La clé d'idempotence ne doit pas dépasser 128 caractères")
+    private String idempotencyKey;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Résultat d'un archivage des opérations anciennes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchiveTransactionsResponse {
+    private String message;
+    private int months;
+    private long transactions;
+    private long durationMs;
+}
@@ -0,0 +1,19 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Solde d'un compte à une date passée (litiges, fin de mois)
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class BalanceAtDto {
+    private String rib;
+    private String at;
+    private Double balance;
+}
@@ -0,0 +1,22 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Historique paginé par curseur : after est le curseur (endCursor) de la page précédente,
+ * absent pour la première page
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class GetTransactionPageRequest {
+    private String rib;
+    private String dateTo;
+    private String dateFrom;
+    private String after;
+    private Integer size;
+}
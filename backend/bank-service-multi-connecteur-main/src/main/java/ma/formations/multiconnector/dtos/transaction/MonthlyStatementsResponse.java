@@ -0,0 +1,25 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Résultat du batch des relevés mensuels
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyStatementsResponse {
+    private String message;
+    // yyyy-MM
+    private String month;
+    // Fichiers (clients) écrits par ce passage, et déjà écrits par un passage précédent (reprise)
+    private int files;
+    private int skipped;
+    private int accounts;
+    private long lines;
+    private long durationMs;
+}
@@ -0,0 +1,20 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page d'historique au format "connexion" (edges + pageInfo), commune à tous les connecteurs
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class TransactionPageDto {
+    private List<TransactionEdgeDto> edges;
+    private PageInfoDto pageInfo;
+}
@@ -0,0 +1,22 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Résultat d'une ligne d'un lot de virements
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WirerTransferLineResult {
+    private int line;
+    private String ribFrom;
+    private String ribTo;
+    private Double amount;
+    private boolean success;
+    private String message;
+}
@@ -0,0 +1,11 @@
+package ma.formations.multiconnector.enums;
+
+/**
+ * Source de vérité des soldes
+ * STORED : le champ BankAccount.amount est mis à jour à chaque virement
+ * LEDGER : BankAccount.amount est le solde d'ouverture, le solde courant est dérivé
+ * des opérations (BankAccountTransaction) à partir du dernier instantané
+ */
+public enum BalanceMode {
+    STORED, LEDGER
+}
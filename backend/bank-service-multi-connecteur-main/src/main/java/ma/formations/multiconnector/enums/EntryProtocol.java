@@ -0,0 +1,8 @@
+package ma.formations.multiconnector.enums;
+
+/**
+ * Connecteur par lequel est arrivée la requête (INTERNAL : appel direct au service)
+ */
+public enum EntryProtocol {
+    REST, SOAP, GRAPHQL, GRPC, INTERNAL
+}
@@ -0,0 +1,8 @@
+package ma.formations.multiconnector.enums;
+
+/**
+ * Format de l'export de relevé : une opération JSON par ligne (NDJSON) ou CSV avec en-tête
+ */
+public enum StatementFormat {
+    NDJSON, CSV
+}
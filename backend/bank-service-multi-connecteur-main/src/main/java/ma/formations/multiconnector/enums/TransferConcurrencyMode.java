@@ -0,0 +1,10 @@
+package ma.formations.multiconnector.enums;
+
+/**
+ * Stratégie de contrôle de concurrence appliquée aux virements (UC-5)
+ * PESSIMISTIC : verrous en écriture sur les deux comptes, dans l'ordre des identifiants
+ * OPTIMISTIC : contrôle par version (@Version) avec rejeu automatique borné
+ */
+public enum TransferConcurrencyMode {
+    PESSIMISTIC, OPTIMISTIC
+}
@@ -0,0 +1,10 @@
+package ma.formations.multiconnector.enums;
+
+/**
+ * Moteur d'exécution des virements (UC-5)
+ * TRANSACTIONAL : une transaction JPA par virement (verrous ou @Version, cf. TransferConcurrencyMode)
+ * SHARDED : comptes répartis sur des shards mono-thread, écriture groupée en base
+ */
+public enum TransferEngine {
+    TRANSACTIONAL, SHARDED
+}
@@ -0,0 +1,15 @@
+package ma.formations.multiconnector.enums;
+
+/**
+ * Phases mesurées d'un virement (UC-5)
+ * USER_LOOKUP : chargement de l'utilisateur
+ * ACCOUNT_LOOKUP : chargement (et verrouillage) des deux comptes
+ * RULE_CHECKS : RG_11, RG_12
+ * INSERTS : mise à jour des soldes, journal et insertion des deux opérations
+ * MAPPING : construction de la réponse (ModelMapper)
+ * COMMIT : validation de la transaction (file d'attente et commit groupé en moteur SHARDED)
+ * TOTAL : durée complète de l'appel au service
+ */
+public enum TransferPhase {
+    USER_LOOKUP, ACCOUNT_LOOKUP, RULE_CHECKS, INSERTS, MAPPING, COMMIT, TOTAL
+}
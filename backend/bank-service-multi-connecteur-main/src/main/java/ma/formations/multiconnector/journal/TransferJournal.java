@@ -0,0 +1,313 @@
+package ma.formations.multiconnector.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import ma.formations.multiconnector.config.TransferProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Journal des virements en ajout seul, projeté en mémoire (bank.transfer.journal.enabled=true).
+ * Chaque virement est écrit dans le journal avant le commit en base : les écritures d'une
+ * transaction sont rendues durables par un seul fsync juste avant le commit, et les fsync
+ * concurrents sont regroupés (le premier thread synchronise pour tous ceux qui attendent).
+ * L'issue de la transaction est ensuite tracée (COMMIT / ABORT), ce qui permet au démarrage
+ * de rejouer uniquement les virements journalisés dont l'issue est inconnue. Un ABORT est rendu
+ * durable avant qu'un virement échoué puisse être retenté (sous une nouvelle séquence).
+ * Les fichiers sont nommés transfer-&lt;première séquence&gt;.journal et conservés comme piste d'audit ;
+ * chacun commence par un point de reprise (CHECKPOINT) portant la plus ancienne séquence encore
+ * non résolue, jusqu'à laquelle le démarrage relit les fichiers.
+ */
+@Component
+public class TransferJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferJournal.class);
+
+    static final String FILE_PREFIX = "transfer-";
+    static final String FILE_SUFFIX = ".journal";
+
+    private final TransferProperties transferProperties;
+    // Verrou des fsync ; l'ajout et le changement de fichier se font sous le verrou du journal (this)
+    private final Object syncLock = new Object();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int position;
+    private long lastSeq;
+    private final AtomicLong durableSeq = new AtomicLong();
+    // Virements journalisés dont l'issue (COMMIT / ABORT) n'est pas encore écrite
+    private final ConcurrentSkipListSet<Long> unresolvedSeqs = new ConcurrentSkipListSet<>();
+    // Virements sans issue relus au démarrage, pour la reprise
+    private List<TransferJournalRecord> unresolvedTransfers = List.of();
+
+    public TransferJournal(TransferProperties transferProperties) {
+        this.transferProperties = transferProperties;
+    }
+
+    public boolean isEnabled() {
+        return transferProperties.isJournalEnabled();
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        Path directory = Path.of(transferProperties.getJournalDirectory());
+        Files.createDirectories(directory);
+
+        // Du plus récent au plus ancien, jusqu'au fichier qui contient la séquence du dernier point de reprise
+        // durable ; sans point de reprise, tous les fichiers sont relus
+        List<Path> files = journalFiles(directory);
+        List<TransferJournalRecord> records = new ArrayList<>();
+        Long checkpoint = null;
+        for (int i = files.size() - 1; i >= 0; i--) {
+            List<TransferJournalRecord> fileRecords = read(files.get(i));
+            records.addAll(0, fileRecords);
+            if (checkpoint == null && !fileRecords.isEmpty()
+                    && fileRecords.get(0).kind() == TransferJournalRecord.CHECKPOINT) {
+                checkpoint = fileRecords.get(0).seq();
+            }
+            if (checkpoint != null && firstSeq(files.get(i)) <= checkpoint) {
+                break;
+            }
+        }
+        unresolvedTransfers = unresolved(records);
+        unresolvedTransfers.forEach(record -> unresolvedSeqs.add(record.seq()));
+        lastSeq = records.stream().mapToLong(TransferJournalRecord::seq).max().orElse(0);
+        if (!files.isEmpty()) {
+            // Le dernier fichier peut ne contenir que des issues d'anciennes séquences : ne jamais le rouvrir
+            lastSeq = Math.max(lastSeq, firstSeq(files.get(files.size() - 1)));
+        }
+        durableSeq.set(lastSeq);
+        synchronized (this) {
+            roll(lastSeq + 1);
+            // Point de reprise durable dès l'ouverture : il couvre les virements à reprendre
+            buffer.force();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (this) {
+            if (channel != null) {
+                buffer.force();
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Journalise un virement dans la transaction courante
+     * @return le numéro de séquence, ou null si le journal est désactivé
+     */
+    public Long append(long fromId, long toId, long amount, long timestamp, long userId) {
+        if (!isEnabled()) {
+            return null;
+        }
+        long seq;
+        synchronized (this) {
+            seq = ++lastSeq;
+            unresolvedSeqs.add(seq);
+            write(new TransferJournalRecord(seq, TransferJournalRecord.TRANSFER,
+                    fromId, toId, amount, timestamp, userId));
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            registerOutcome(seq);
+        } else {
+            sync(seq);
+        }
+        return seq;
+    }
+
+    /**
+     * Virements relus au démarrage dont l'issue est inconnue, dans l'ordre du journal
+     */
+    List<TransferJournalRecord> unresolvedTransfers() {
+        return unresolvedTransfers;
+    }
+
+    void markCommitted(long seq) {
+        appendOutcome(seq, TransferJournalRecord.COMMIT);
+    }
+
+    void markAborted(long seq) {
+        sync(appendOutcome(seq, TransferJournalRecord.ABORT));
+    }
+
+    /**
+     * Rend durables toutes les écritures jusqu'à seq incluse.
+     * Un seul thread appelle force() à la fois ; ceux qui attendaient derrière lui
+     * trouvent en général leur enregistrement déjà synchronisé (commit groupé).
+     */
+    void sync(long seq) {
+        if (durableSeq.get() >= seq) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durableSeq.get() >= seq) {
+                return;
+            }
+            long target;
+            MappedByteBuffer current;
+            synchronized (this) {
+                target = lastSeq;
+                current = buffer;
+            }
+            current.force();
+            durableSeq.accumulateAndGet(target, Math::max);
+        }
+    }
+
+    private void registerOutcome(long seq) {
+        @SuppressWarnings("unchecked")
+        List<Long> seqs = (List<Long>) TransactionSynchronizationManager.getResource(this);
+        if (seqs != null) {
+            seqs.add(seq);
+            return;
+        }
+        List<Long> pending = new ArrayList<>();
+        pending.add(seq);
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // Le virement doit être durable dans le journal avant d'être validé en base
+                sync(pending.get(pending.size() - 1));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TransferJournal.this);
+                if (status == STATUS_COMMITTED) {
+                    pending.forEach(TransferJournal.this::markCommitted);
+                } else {
+                    // Durable avant de rendre la main : un rejeu du virement (nouvelle séquence)
+                    // ne doit pas coexister avec l'ancienne séquence sans issue après un arrêt brutal
+                    pending.forEach(s -> appendOutcome(s, TransferJournalRecord.ABORT));
+                    sync(lastSeq());
+                }
+            }
+        });
+    }
+
+    /**
+     * COMMIT n'est pas synchronisé immédiatement : au pire la reprise vérifie en base
+     * @return la position de l'enregistrement dans le journal, pour sync()
+     */
+    private synchronized long appendOutcome(long seq, int kind) {
+        long position = ++lastSeq;
+        write(TransferJournalRecord.outcome(seq, kind));
+        unresolvedSeqs.remove(seq);
+        return position;
+    }
+
+    private synchronized long lastSeq() {
+        return lastSeq;
+    }
+
+    private void write(TransferJournalRecord record) {
+        if (position + TransferJournalRecord.SIZE > buffer.capacity()) {
+            roll(lastSeq);
+        }
+        record.writeTo(buffer, position);
+        position += TransferJournalRecord.SIZE;
+    }
+
+    /**
+     * Ouvre un nouveau fichier (au démarrage ou quand le fichier courant est plein) et y écrit le point de reprise.
+     * Appelé sous le verrou du journal : l'ancien fichier est synchronisé avant d'être fermé.
+     */
+    private void roll(long firstSeq) {
+        try {
+            if (channel != null) {
+                buffer.force();
+                channel.close();
+                // Tout ce qui précède l'enregistrement en cours d'écriture est désormais durable
+                durableSeq.accumulateAndGet(firstSeq - 1, Math::max);
+            }
+            Path file = Path.of(transferProperties.getJournalDirectory(),
+                    String.format("%s%020d%s", FILE_PREFIX, firstSeq, FILE_SUFFIX));
+            long capacity = (transferProperties.getJournalFileSizeMb() * 1024L * 1024L
+                    / TransferJournalRecord.SIZE) * TransferJournalRecord.SIZE;
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            position = 0;
+            Long oldestUnresolved = unresolvedSeqs.isEmpty() ? null : unresolvedSeqs.first();
+            TransferJournalRecord.checkpoint(oldestUnresolved == null ? firstSeq : Math.min(oldestUnresolved, firstSeq))
+                    .writeTo(buffer, position);
+            position += TransferJournalRecord.SIZE;
+            logger.info("Transfer journal opened: {}", file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open the transfer journal", e);
+        }
+    }
+
+    static List<Path> journalFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.getFileName().toString().startsWith(FILE_PREFIX)
+                            && f.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Virements (TRANSFER) sans COMMIT ni ABORT parmi les enregistrements relus
+     */
+    private static List<TransferJournalRecord> unresolved(List<TransferJournalRecord> records) {
+        Map<Long, TransferJournalRecord> transfers = new LinkedHashMap<>();
+        Set<Long> resolved = new HashSet<>();
+        for (TransferJournalRecord record : records) {
+            if (record.kind() == TransferJournalRecord.TRANSFER) {
+                transfers.put(record.seq(), record);
+            } else if (record.kind() != TransferJournalRecord.CHECKPOINT) {
+                resolved.add(record.seq());
+            }
+        }
+        transfers.keySet().removeAll(resolved);
+        return List.copyOf(transfers.values());
+    }
+
+    private static long firstSeq(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+
+    static List<TransferJournalRecord> read(Path file) throws IOException {
+        List<TransferJournalRecord> records = new ArrayList<>();
+        try (FileChannel readChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+            for (int offset = 0; offset + TransferJournalRecord.SIZE <= mapped.capacity();
+                 offset += TransferJournalRecord.SIZE) {
+                TransferJournalRecord record = TransferJournalRecord.readFrom(mapped, offset);
+                if (record == null) {
+                    break;
+                }
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
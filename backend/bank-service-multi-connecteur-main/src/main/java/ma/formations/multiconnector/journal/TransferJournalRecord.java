@@ -0,0 +1,65 @@
+package ma.formations.multiconnector.journal;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * Enregistrement binaire du journal des virements (56 octets, taille fixe) :
+ * seq(8) kind(4) fromId(8) toId(8) amount(8) timestamp(8) userId(8) crc32(4)
+ * TRANSFER décrit le virement, COMMIT / ABORT indiquent l'issue de la transaction en base,
+ * CHECKPOINT (en tête de fichier) porte la plus ancienne séquence non résolue à l'ouverture du fichier.
+ */
+public record TransferJournalRecord(long seq, int kind, long fromId, long toId, long amount,
+                                    long timestamp, long userId) {
+
+    public static final int SIZE = 56;
+    public static final int TRANSFER = 1;
+    public static final int COMMIT = 2;
+    public static final int ABORT = 3;
+    public static final int CHECKPOINT = 4;
+
+    private static final int CRC_OFFSET = SIZE - 4;
+
+    static TransferJournalRecord outcome(long seq, int kind) {
+        return new TransferJournalRecord(seq, kind, 0, 0, 0, System.currentTimeMillis(), 0);
+    }
+
+    static TransferJournalRecord checkpoint(long oldestUnresolvedSeq) {
+        return new TransferJournalRecord(oldestUnresolvedSeq, CHECKPOINT, 0, 0, 0, System.currentTimeMillis(), 0);
+    }
+
+    void writeTo(ByteBuffer buffer, int offset) {
+        buffer.putLong(offset, seq)
+                .putInt(offset + 8, kind)
+                .putLong(offset + 12, fromId)
+                .putLong(offset + 20, toId)
+                .putLong(offset + 28, amount)
+                .putLong(offset + 36, timestamp)
+                .putLong(offset + 44, userId);
+        buffer.putInt(offset + CRC_OFFSET, checksum(buffer, offset));
+    }
+
+    /**
+     * Relit l'enregistrement à la position donnée
+     * @return null en fin de journal (zone vide ou enregistrement incomplet / corrompu)
+     */
+    static TransferJournalRecord readFrom(ByteBuffer buffer, int offset) {
+        long seq = buffer.getLong(offset);
+        if (seq == 0 || buffer.getInt(offset + CRC_OFFSET) != checksum(buffer, offset)) {
+            return null;
+        }
+        return new TransferJournalRecord(seq,
+                buffer.getInt(offset + 8),
+                buffer.getLong(offset + 12),
+                buffer.getLong(offset + 20),
+                buffer.getLong(offset + 28),
+                buffer.getLong(offset + 36),
+                buffer.getLong(offset + 44));
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+}
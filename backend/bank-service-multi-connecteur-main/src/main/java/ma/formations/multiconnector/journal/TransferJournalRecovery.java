@@ -0,0 +1,162 @@
+package ma.formations.multiconnector.journal;
+
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.DailyBalanceService;
+import ma.formations.multiconnector.service.dashboard.DashboardProjection;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reprise au démarrage : les virements journalisés sans issue connue (arrêt brutal entre
+ * l'écriture du journal et le commit) et absents de la base sont rejoués.
+ * Les règles métier ne sont pas revérifiées : elles l'ont été avant la journalisation.
+ * La reprise s'exécute avant le démarrage des connecteurs (serveur web, serveur gRPC),
+ * dont les phases de démarrage sont plus tardives : aucun virement ne peut la croiser.
+ */
+@Component
+public class TransferJournalRecovery implements SmartLifecycle {
+
+    // Avant WebServerStartStopLifecycle et GrpcServerLifecycle (phases proches de Integer.MAX_VALUE)
+    private static final int PHASE = 0;
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferJournalRecovery.class);
+
+    private final TransferJournal journal;
+    private final BankAccountRepository bankAccountRepository;
+    private final BankAccountTransactionRepository bankAccountTransactionRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountBalanceService balanceService;
+    private final DailyBalanceService dailyBalanceService;
+    private final DashboardProjection dashboardProjection;
+    private volatile boolean running;
+
+    public TransferJournalRecovery(TransferJournal journal,
+                                   BankAccountRepository bankAccountRepository,
+                                   BankAccountTransactionRepository bankAccountTransactionRepository,
+                                   UserRepository userRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   AccountBalanceService balanceService,
+                                   DailyBalanceService dailyBalanceService,
+                                   DashboardProjection dashboardProjection) {
+        this.journal = journal;
+        this.bankAccountRepository = bankAccountRepository;
+        this.bankAccountTransactionRepository = bankAccountTransactionRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.balanceService = balanceService;
+        this.dailyBalanceService = dailyBalanceService;
+        this.dashboardProjection = dashboardProjection;
+    }
+
+    @Override
+    public void start() {
+        recover();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Rejoue les virements sans issue du journal absents de la base, puis trace leur issue
+     * @return le nombre de virements rejoués
+     */
+    public int recover() {
+        if (!journal.isEnabled()) {
+            return 0;
+        }
+        List<TransferJournalRecord> transfers = journal.unresolvedTransfers();
+        int replayed = 0;
+        for (TransferJournalRecord record : transfers) {
+            if (!bankAccountTransactionRepository.existsByJournalSeq(record.seq())) {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> replay(record)))) {
+                    replayed++;
+                } else {
+                    // Comptes supprimés : le virement ne pourra jamais être rejoué
+                    journal.markAborted(record.seq());
+                    continue;
+                }
+            }
+            journal.markCommitted(record.seq());
+        }
+        logger.info("Transfer journal recovery: {} unresolved transfer(s), {} replayed", transfers.size(), replayed);
+        return replayed;
+    }
+
+    private boolean replay(TransferJournalRecord record) {
+        Optional<BankAccount> from = bankAccountRepository.findById(record.fromId());
+        Optional<BankAccount> to = bankAccountRepository.findById(record.toId());
+        if (from.isEmpty() || to.isEmpty()) {
+            logger.warn("Journal transfer {} references unknown accounts {} -> {}, skipped",
+                    record.seq(), record.fromId(), record.toId());
+            return false;
+        }
+        User user = userRepository.findById(record.userId()).orElse(null);
+        Date createdAt = new Date(record.timestamp());
+
+        BankAccount bankAccountFrom = from.get();
+        BankAccount bankAccountTo = to.get();
+        balanceService.debit(bankAccountFrom, record.amount());
+        int creditSlot = balanceService.credit(bankAccountTo, record.amount());
+        BankAccountTransaction transactionFrom =
+                bankAccountTransactionRepository.save(newTransaction(record, TransactionType.DEBIT, bankAccountFrom, user, createdAt));
+        BankAccountTransaction transactionTo =
+                bankAccountTransactionRepository.save(newTransaction(record, TransactionType.CREDIT, bankAccountTo, user, createdAt));
+        // Cumulé sur le jour d'origine du virement
+        dailyBalanceService.apply(dailyBalanceService.newRollup()
+                .add(transactionFrom)
+                .add(transactionTo, creditSlot));
+        // Opérations datées dans le passé : les vues des clients concernés sont reconstruites à la lecture suivante
+        for (BankAccount account : new BankAccount[]{bankAccountFrom, bankAccountTo}) {
+            if (account.getCustomer() != null) {
+                dashboardProjection.evictCustomer(account.getCustomer().getId());
+            }
+        }
+        logger.info("Journal transfer {} replayed: {} centimes from account {} to account {}",
+                record.seq(), record.amount(), record.fromId(), record.toId());
+        return true;
+    }
+
+    /**
+     * Opération rejouée à sa date d'origine : aucun solde courant (balanceAfter) n'est reporté,
+     * le solde à cette date est alors recalculé depuis le solde actuel (AccountBalanceService.balanceAt)
+     */
+    private static BankAccountTransaction newTransaction(TransferJournalRecord record, TransactionType type,
+                                                         BankAccount bankAccount, User user, Date createdAt) {
+        return BankAccountTransaction.builder()
+                .amount(record.amount())
+                .transactionType(type)
+                .bankAccount(bankAccount)
+                .user(user)
+                .createdAt(createdAt)
+                .journalSeq(record.seq())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package ma.formations.multiconnector.metrics;
+
+import ma.formations.multiconnector.dtos.metrics.AccountContentionDto;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Compteurs de conflits de version et de rejeux par RIB (mode OPTIMISTIC).
+ * Permet d'identifier les comptes « chauds » qui devraient passer en mode PESSIMISTIC.
+ */
+@Component
+public class TransferContentionMetrics {
+
+    private final ConcurrentMap<String, LongAdder> conflicts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> retries = new ConcurrentHashMap<>();
+
+    public void recordConflict(String rib) {
+        conflicts.computeIfAbsent(rib, k -> new LongAdder()).increment();
+    }
+
+    public void recordRetry(String rib) {
+        retries.computeIfAbsent(rib, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * @return les compteurs par RIB, du plus conflictuel au moins conflictuel
+     */
+    public List<AccountContentionDto> snapshot() {
+        return conflicts.keySet().stream()
+                .map(rib -> AccountContentionDto.builder()
+                        .rib(rib)
+                        .conflicts(sum(conflicts, rib))
+                        .retries(sum(retries, rib))
+                        .build())
+                .sorted(Comparator.comparingLong(AccountContentionDto::getConflicts).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private static long sum(ConcurrentMap<String, LongAdder> counters, String rib) {
+        LongAdder adder = counters.get(rib);
+        return adder == null ? 0 : adder.sum();
+    }
+}
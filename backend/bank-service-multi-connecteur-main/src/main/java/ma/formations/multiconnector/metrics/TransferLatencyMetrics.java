@@ -0,0 +1,101 @@
+package ma.formations.multiconnector.metrics;
+
+import ma.formations.multiconnector.dtos.metrics.PhaseLatencyDto;
+import ma.formations.multiconnector.enums.EntryProtocol;
+import ma.formations.multiconnector.enums.TransferPhase;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Latences des phases d'un virement, par connecteur d'entrée.
+ * Les contrôleurs indiquent leur connecteur (withProtocol), le service borne les phases
+ * (start, mark, finish) ; le chronomètre est propre à chaque thread et réutilisé.
+ */
+@Component
+public class TransferLatencyMetrics {
+
+    private static final ThreadLocal<EntryProtocol> PROTOCOL = new ThreadLocal<>();
+
+    private final LatencyHistogram[][] histograms =
+            new LatencyHistogram[EntryProtocol.values().length][TransferPhase.values().length];
+    private final ThreadLocal<PhaseTimer> timers = ThreadLocal.withInitial(PhaseTimer::new);
+
+    public TransferLatencyMetrics() {
+        for (LatencyHistogram[] byPhase : histograms) {
+            for (int phase = 0; phase < byPhase.length; phase++) {
+                byPhase[phase] = new LatencyHistogram();
+            }
+        }
+    }
+
+    /**
+     * Exécute l'appel en l'attribuant au connecteur donné
+     */
+    public <T> T withProtocol(EntryProtocol protocol, Supplier<T> call) {
+        EntryProtocol previous = PROTOCOL.get();
+        PROTOCOL.set(protocol);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                PROTOCOL.remove();
+            } else {
+                PROTOCOL.set(previous);
+            }
+        }
+    }
+
+    public void start() {
+        PhaseTimer timer = timers.get();
+        EntryProtocol protocol = PROTOCOL.get();
+        timer.protocol = protocol == null ? EntryProtocol.INTERNAL : protocol;
+        timer.start = System.nanoTime();
+        timer.last = timer.start;
+    }
+
+    /**
+     * Clôt la phase en cours : durée écoulée depuis le repère précédent
+     */
+    public void mark(TransferPhase phase) {
+        PhaseTimer timer = timers.get();
+        long now = System.nanoTime();
+        histograms[timer.protocol.ordinal()][phase.ordinal()].record(now - timer.last);
+        timer.last = now;
+    }
+
+    public void finish() {
+        PhaseTimer timer = timers.get();
+        histograms[timer.protocol.ordinal()][TransferPhase.TOTAL.ordinal()].record(System.nanoTime() - timer.start);
+    }
+
+    public List<PhaseLatencyDto> snapshot() {
+        List<PhaseLatencyDto> result = new ArrayList<>();
+        for (EntryProtocol protocol : EntryProtocol.values()) {
+            for (TransferPhase phase : TransferPhase.values()) {
+                LatencyHistogram histogram = histograms[protocol.ordinal()][phase.ordinal()];
+                if (histogram.count() == 0) {
+                    continue;
+                }
+                result.add(PhaseLatencyDto.builder()
+                        .protocol(protocol.name())
+                        .phase(phase.name())
+                        .count(histogram.count())
+                        .p50Micros(histogram.valueAtPercentile(50) / 1000.0)
+                        .p99Micros(histogram.valueAtPercentile(99) / 1000.0)
+                        .p999Micros(histogram.valueAtPercentile(99.9) / 1000.0)
+                        .maxMicros(histogram.max() / 1000.0)
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    private static class PhaseTimer {
+        EntryProtocol protocol = EntryProtocol.INTERNAL;
+        long start;
+        long last;
+    }
+}
@@ -2,10 +2,17 @@ package ma.formations.multiconnector.presentation.graphql;
 
 import lombok.AllArgsConstructor;
 import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchResponse;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.dtos.transaction.BalanceAtDto;
 import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionPageRequest;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPageDto;
+import ma.formations.multiconnector.enums.EntryProtocol;
+import ma.formations.multiconnector.metrics.TransferLatencyMetrics;
 import ma.formations.multiconnector.service.ITransactionService;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
@@ -26,6 +33,7 @@ public class TransactionGraphqlController {
 
     private ITransactionService transactionService;
     private CommonTools commonTools;
+    private TransferLatencyMetrics transferLatencyMetrics;
 
     /**
      * UC-5 : Effectuer un nouveau virement via GraphQL
@@ -38,11 +46,45 @@ public class TransactionGraphqlController {
         String username = authentication.getName();
 
         // Appeler le service avec les 2 paramètres (dto + username)
-        return transactionService.wiredTransfer(dto, username);
+        return transferLatencyMetrics.withProtocol(EntryProtocol.GRAPHQL,
+                () -> transactionService.wiredTransfer(dto, username));
+    }
+
+    /**
+     * Lot de virements (ex : paie) via GraphQL
+     */
+    @MutationMapping
+    public AddWirerTransferBatchResponse addWirerTransferBatch(@Argument("dto") AddWirerTransferBatchRequest dto) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return transactionService.wiredTransferBatch(dto, authentication.getName());
     }
 
     @QueryMapping
     public List<TransactionDto> getTransactions(@Argument GetTransactionListRequest dto) {
         return transactionService.getTransactions(dto);
     }
+
+    /**
+     * Solde d'un compte à une date passée
+     */
+    @QueryMapping
+    public BalanceAtDto balanceAt(@Argument String rib, @Argument String at) {
+        return transactionService.balanceAt(rib, at);
+    }
+
+    /**
+     * Historique paginé au format connexion Relay (first / after, edges, pageInfo)
+     */
+    @QueryMapping
+    public TransactionPageDto transactionConnection(@Argument String rib, @Argument String dateFrom,
+                                                    @Argument String dateTo, @Argument Integer first,
+                                                    @Argument String after) {
+        return transactionService.getTransactionPage(GetTransactionPageRequest.builder()
+                .rib(rib)
+                .dateFrom(dateFrom)
+                .dateTo(dateTo)
+                .size(first)
+                .after(after)
+                .build());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+package ma.formations.multiconnector.presentation.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.enums.EntryProtocol;
+import ma.formations.multiconnector.grpc.stub.Bank;
+import ma.formations.multiconnector.grpc.stub.BankServiceGrpc;
+import ma.formations.multiconnector.metrics.TransferLatencyMetrics;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ICustomerService;
+import ma.formations.multiconnector.service.IStatementExportService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.GetTransactionListBo;
+import net.devh.boot.grpc.server.service.GrpcService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Connecteur gRPC (contrat bank.proto) : chaque RPC délègue aux services I*Service,
+ * comme les contrôleurs REST, SOAP et GraphQL, avec les mêmes permissions.
+ * Les appels s'exécutent sur l'exécuteur du serveur gRPC (jamais sur les threads réseau) ;
+ * la réponse est rendue par le StreamObserver. Les requêtes d'écriture sont validées comme les corps
+ * @Valid des contrôleurs REST ; erreurs métier et de validation en INVALID_ARGUMENT, accès refusé en
+ * PERMISSION_DENIED, erreurs techniques (base de données...) en INTERNAL.
+ */
+@GrpcService
+@AllArgsConstructor
+public class BankGrpcService extends BankServiceGrpc.BankServiceImplBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(BankGrpcService.class);
+
+    private ICustomerService customerService;
+    private IBankAccountService bankAccountService;
+    private ITransactionService transactionService;
+    private IStatementExportService statementExportService;
+    private GrpcTransactionStreamer transactionStreamer;
+    private GrpcMapper grpcMapper;
+    private TransferLatencyMetrics transferLatencyMetrics;
+    private Validator validator;
+
+    @Override
+    @PreAuthorize("hasAuthority('GET_ALL_CUSTUMERS')")
+    public void customers(Bank.CustomersRequest request, StreamObserver<Bank.CustomersResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            Bank.CustomersResponse.Builder response = Bank.CustomersResponse.newBuilder();
+            customerService.getAllCustomers().forEach(customer -> response.addCustomers(grpcMapper.toProto(customer)));
+            return response.build();
+        });
+    }
+
+    @Override
+    @PreAuthorize("hasAuthority('GET_CUSTOMER_BY_IDENTITY')")
+    public void customerByIdentity(Bank.CustomerByIdentityRequest request,
+                                   StreamObserver<Bank.CustomerByIdentityResponse> responseObserver) {
+        unary(responseObserver, () -> Bank.CustomerByIdentityResponse.newBuilder()
+                .setCustomer(grpcMapper.toProto(customerService.getCustomByIdentity(request.getIdentityRef())))
+                .build());
+    }
+
+    /**
+     * UC-2 : Ajouter un nouveau client
+     */
+    @Override
+    @PreAuthorize("hasAuthority('CREATE_CUSTOMER')")
+    public void createCustomer(Bank.CreateCustomerRequest request,
+                               StreamObserver<Bank.CreateCustomerResponse> responseObserver) {
+        unary(responseObserver, () -> grpcMapper.toProto(customerService.createCustomer(valid(grpcMapper.toDto(request)))));
+    }
+
+    @Override
+    @PreAuthorize("hasAuthority('UPDATE_CUSTOMER')")
+    public void updateCustomer(Bank.UpdateCustomerRequest request,
+                               StreamObserver<Bank.UpdateCustomerResponse> responseObserver) {
+        unary(responseObserver, () -> grpcMapper.toProto(customerService.updateCustomer(
+                request.getIdentityRef(), valid(grpcMapper.toDto(request.getUpdatedCustomer())))));
+    }
+
+    @Override
+    @PreAuthorize("hasAuthority('DELETE_CUSTOMER')")
+    public void deleteCustomer(Bank.DeleteCustomerRequest request,
+                               StreamObserver<Bank.DeleteCustomerResponse> responseObserver) {
+        unary(responseObserver, () -> Bank.DeleteCustomerResponse.newBuilder()
+                .setMessage(customerService.deleteCustomerByIdentityRef(request.getIdentityRef()))
+                .build());
+    }
+
+    @Override
+    @PreAuthorize("hasAuthority('GET_ALL_BANK_ACCOUNT')")
+    public void bankAccounts(Bank.BankAccountsRequest request,
+                             StreamObserver<Bank.BankAccountsResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            Bank.BankAccountsResponse.Builder response = Bank.BankAccountsResponse.newBuilder();
+            bankAccountService.getAllBankAccounts()
+                    .forEach(bankAccount -> response.addBankAccount(grpcMapper.toProto(bankAccount)));
+            return response.build();
+        });
+    }
+
+    @Override
+    @PreAuthorize("hasAuthority('GET_BANK_ACCOUNT_BY_RIB')")
+    public void bankAccountByRib(Bank.BankAccountByRibRequest request,
+                                 StreamObserver<Bank.BankAccountByRibResponse> responseObserver) {
+        unary(responseObserver, () -> Bank.BankAccountByRibResponse.newBuilder()
+                .setBankAccount(grpcMapper.toProto(bankAccountService.getBankAccountByRib(request.getRib())))
+                .build());
+    }
+
+    /**
+     * UC-3 : Nouveau compte bancaire
+     */
+    @Override
+    @PreAuthorize("hasAuthority('CREATE_BANK_ACCOUNT')")
+    public void addBankAccount(Bank.AddBankAccountRequest request,
+                               StreamObserver<Bank.AddBankAccountResponse> responseObserver) {
+        unary(responseObserver, () -> grpcMapper.toProto(bankAccountService.saveBankAccount(valid(grpcMapper.toDto(request)))));
+    }
+
+    /**
+     * UC-5 : Effectuer un nouveau virement
+     * Le username est celui de l'appelant authentifié (le champ username du message est ignoré)
+     */
+    @Override
+    @PreAuthorize("hasAuthority('ADD_WIRED_TRANSFER')")
+    public void addWirerTransfer(Bank.AddWirerTransferRequest request,
+                                 StreamObserver<Bank.AddWirerTransferResponse> responseObserver) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        unary(responseObserver, () -> grpcMapper.toProto(transferLatencyMetrics.withProtocol(EntryProtocol.GRPC,
+                () -> transactionService.wiredTransfer(valid(grpcMapper.toDto(request)), username))));
+    }
+
+    /**
+     * Lot de virements (ex : paie), résultat détaillé ligne par ligne
+     */
+    @Override
+    @PreAuthorize("hasAuthority('ADD_WIRED_TRANSFER')")
+    public void addWirerTransferBatch(Bank.AddWirerTransferBatchRequest request,
+                                      StreamObserver<Bank.AddWirerTransferBatchResponse> responseObserver) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        unary(responseObserver, () -> grpcMapper.toProto(
+                transactionService.wiredTransferBatch(valid(grpcMapper.toDto(request)), username)));
+    }
+
+    @Override
+    @PreAuthorize("hasAuthority('GET_TRANSACTIONS')")
+    public void getTransactions(Bank.GetTransactionsRequest request,
+                                StreamObserver<Bank.GetTransactionsResponse> responseObserver) {
+        unary(responseObserver, () -> grpcMapper.toProto(transactionService.getTransactions(grpcMapper.toDto(request))));
+    }
+
+    /**
+     * Historique paginé par curseur : passer pageInfo.endCursor dans after pour la page suivante
+     */
+    @Override
+    @PreAuthorize("hasAuthority('GET_TRANSACTIONS')")
+    public void getTransactionPage(Bank.GetTransactionPageRequest request,
+                                   StreamObserver<Bank.GetTransactionPageResponse> responseObserver) {
+        unary(responseObserver, () -> grpcMapper.toProto(transactionService.getTransactionPage(grpcMapper.toDto(request))));
+    }
+
+    /**
+     * Historique en flux : paquets d'opérations lus par curseur, au rythme du client (contrôle de flux gRPC)
+     */
+    @Override
+    @PreAuthorize("hasAuthority('GET_TRANSACTIONS')")
+    public void streamTransactions(Bank.GetTransactionsRequest request,
+                                   StreamObserver<Bank.GetTransactionsResponse> responseObserver) {
+        GetTransactionListBo criteria;
+        try {
+            GetTransactionListRequest dto = grpcMapper.toDto(request);
+            criteria = statementExportService.prepare(dto);
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+        transactionStreamer.stream(criteria,
+                (ServerCallStreamObserver<Bank.GetTransactionsResponse>) responseObserver);
+    }
+
+    /**
+     * Solde d'un compte à une date passée
+     */
+    @Override
+    @PreAuthorize("hasAuthority('GET_TRANSACTIONS')")
+    public void balanceAt(Bank.BalanceAtRequest request, StreamObserver<Bank.BalanceAtResponse> responseObserver) {
+        unary(responseObserver, () -> grpcMapper.toProto(transactionService.balanceAt(request.getRib(), request.getAt())));
+    }
+
+    private static <T> void unary(StreamObserver<T> responseObserver, Supplier<T> call) {
+        T response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Même contrôle que @Valid sur les corps des requêtes REST
+     */
+    private <T> T valid(T dto) {
+        Set<ConstraintViolation<T>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return dto;
+    }
+
+    /**
+     * Statut gRPC d'une erreur, sur le modèle d'ExceptionHandlerController : le détail d'une erreur
+     * technique est journalisé, pas renvoyé au client
+     */
+    private static Status toStatus(RuntimeException e) {
+        if (e instanceof BusinessException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+        }
+        if (e instanceof ConstraintViolationException violations) {
+            return Status.INVALID_ARGUMENT.withDescription(violations.getConstraintViolations().stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        if (e instanceof AccessDeniedException) {
+            return Status.PERMISSION_DENIED.withDescription(e.getMessage());
+        }
+        logger.error("Échec d'un appel gRPC", e);
+        return Status.INTERNAL.withDescription("Technical error, please consult your administrator");
+    }
+}
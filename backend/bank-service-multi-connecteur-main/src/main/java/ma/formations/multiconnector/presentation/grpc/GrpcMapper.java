@@ -0,0 +1,279 @@
+package ma.formations.multiconnector.presentation.grpc;
+
+import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.customer.AddCustomerRequest;
+import ma.formations.multiconnector.dtos.customer.AddCustomerResponse;
+import ma.formations.multiconnector.dtos.customer.CustomerDto;
+import ma.formations.multiconnector.dtos.customer.UpdateCustomerRequest;
+import ma.formations.multiconnector.dtos.customer.UpdateCustomerResponse;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchResponse;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.dtos.transaction.BalanceAtDto;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionPageRequest;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPageDto;
+import ma.formations.multiconnector.dtos.transaction.WirerTransferLineResult;
+import ma.formations.multiconnector.dtos.user.UserDto;
+import ma.formations.multiconnector.grpc.stub.Bank;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.springframework.stereotype.Component;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Conversion directe entre messages protobuf et DTO du domaine (sans ModelMapper ni réflexion).
+ * Les champs texte absents valent "" en proto3 : ils sont convertis en null côté DTO, et inversement.
+ */
+@Component
+@AllArgsConstructor
+public class GrpcMapper {
+
+    private CommonTools commonTools;
+
+    // ---------- Requêtes : proto -> DTO ----------
+
+    public AddCustomerRequest toDto(Bank.CreateCustomerRequest request) {
+        return AddCustomerRequest.builder()
+                .username(emptyToNull(request.getUsername()))
+                .identityRef(emptyToNull(request.getIdentityRef()))
+                .firstname(emptyToNull(request.getFirstname()))
+                .lastname(emptyToNull(request.getLastname()))
+                .email(emptyToNull(request.getEmail()))
+                .adressePostale(emptyToNull(request.getAdressePostale()))
+                .dateAnniversaire(request.getDateAnniversaire().isEmpty() ? null : parseDate(request.getDateAnniversaire()))
+                .build();
+    }
+
+    public UpdateCustomerRequest toDto(Bank.UpdatedCustomerDTO request) {
+        return UpdateCustomerRequest.builder()
+                .username(emptyToNull(request.getUsername()))
+                .firstname(emptyToNull(request.getFirstname()))
+                .lastname(emptyToNull(request.getLastname()))
+                .build();
+    }
+
+    public AddBankAccountRequest toDto(Bank.AddBankAccountRequest request) {
+        return AddBankAccountRequest.builder()
+                .rib(emptyToNull(request.getRib()))
+                .amount(request.getAmount())
+                .customerIdentityRef(emptyToNull(request.getCustomerIdentityRef()))
+                .build();
+    }
+
+    public AddWirerTransferRequest toDto(Bank.AddWirerTransferRequest request) {
+        return AddWirerTransferRequest.builder()
+                .ribFrom(emptyToNull(request.getRibFrom()))
+                .ribTo(emptyToNull(request.getRibTo()))
+                .amount(request.getAmount())
+                .idempotencyKey(emptyToNull(request.getIdempotencyKey()))
+                .build();
+    }
+
+    public AddWirerTransferBatchRequest toDto(Bank.AddWirerTransferBatchRequest request) {
+        return AddWirerTransferBatchRequest.builder()
+                .transfers(request.getTransfersList().stream().map(this::toDto).toList())
+                .build();
+    }
+
+    public GetTransactionListRequest toDto(Bank.GetTransactionsRequest request) {
+        return GetTransactionListRequest.builder()
+                .rib(emptyToNull(request.getRib()))
+                .dateFrom(emptyToNull(request.getDateFrom()))
+                .dateTo(emptyToNull(request.getDateTo()))
+                .build();
+    }
+
+    public GetTransactionPageRequest toDto(Bank.GetTransactionPageRequest request) {
+        return GetTransactionPageRequest.builder()
+                .rib(emptyToNull(request.getRib()))
+                .dateFrom(emptyToNull(request.getDateFrom()))
+                .dateTo(emptyToNull(request.getDateTo()))
+                .after(emptyToNull(request.getAfter()))
+                .size(request.getSize() == 0 ? null : request.getSize())
+                .build();
+    }
+
+    // ---------- Réponses : DTO -> proto ----------
+
+    public Bank.CustomerDTO toProto(CustomerDto dto) {
+        Bank.CustomerDTO.Builder builder = Bank.CustomerDTO.newBuilder()
+                .setUsername(nullToEmpty(dto.getUsername()))
+                .setIdentityRef(nullToEmpty(dto.getIdentityRef()))
+                .setFirstname(nullToEmpty(dto.getFirstname()))
+                .setLastname(nullToEmpty(dto.getLastname()));
+        if (dto.getId() != null) {
+            builder.setId(dto.getId());
+        }
+        return builder.build();
+    }
+
+    public Bank.CreateCustomerResponse toProto(AddCustomerResponse dto) {
+        return Bank.CreateCustomerResponse.newBuilder()
+                .setMessage(nullToEmpty(dto.getMessage()))
+                .setCustomer(customer(dto.getId(), dto.getUsername(), dto.getIdentityRef(),
+                        dto.getFirstname(), dto.getLastname()))
+                .build();
+    }
+
+    public Bank.UpdateCustomerResponse toProto(UpdateCustomerResponse dto) {
+        return Bank.UpdateCustomerResponse.newBuilder()
+                .setMessage(nullToEmpty(dto.getMessage()))
+                .setCustomer(customer(dto.getId(), dto.getUsername(), dto.getIdentityRef(),
+                        dto.getFirstname(), dto.getLastname()))
+                .build();
+    }
+
+    public Bank.BankAccountDto toProto(BankAccountDto dto) {
+        Bank.BankAccountDto.Builder builder = Bank.BankAccountDto.newBuilder()
+                .setRib(nullToEmpty(dto.getRib()))
+                .setAmount(dto.getAmount() == null ? 0 : dto.getAmount())
+                .setCreatedAt(nullToEmpty(dto.getCreatedAt()));
+        if (dto.getId() != null) {
+            builder.setId(dto.getId());
+        }
+        if (dto.getAccountStatus() != null) {
+            builder.setAccountStatus(dto.getAccountStatus().name());
+        }
+        if (dto.getCustomer() != null) {
+            builder.setCustomer(toProto(dto.getCustomer()));
+        }
+        return builder.build();
+    }
+
+    public Bank.AddBankAccountResponse toProto(AddBankAccountResponse dto) {
+        Bank.BankAccountDto.Builder bankAccount = Bank.BankAccountDto.newBuilder()
+                .setRib(nullToEmpty(dto.getRib()))
+                .setAmount(dto.getAmount() == null ? 0 : dto.getAmount())
+                .setCreatedAt(nullToEmpty(dto.getCreatedAt()));
+        if (dto.getId() != null) {
+            bankAccount.setId(dto.getId());
+        }
+        if (dto.getAccountStatus() != null) {
+            bankAccount.setAccountStatus(dto.getAccountStatus().name());
+        }
+        if (dto.getCustomer() != null) {
+            bankAccount.setCustomer(toProto(dto.getCustomer()));
+        }
+        return Bank.AddBankAccountResponse.newBuilder()
+                .setMessage(nullToEmpty(dto.getMessage()))
+                .setBankAccount(bankAccount)
+                .build();
+    }
+
+    public Bank.TransactionDto toProto(TransactionDto dto) {
+        Bank.TransactionDto.Builder builder = Bank.TransactionDto.newBuilder()
+                .setCreatedAt(nullToEmpty(dto.getCreatedAt()))
+                .setTransactionType(nullToEmpty(dto.getTransactionType()))
+                .setAmount(dto.getAmount() == null ? 0 : dto.getAmount());
+        if (dto.getId() != null) {
+            builder.setId(dto.getId());
+        }
+        if (dto.getBankAccount() != null) {
+            builder.setBankAccount(toProto(dto.getBankAccount()));
+        }
+        if (dto.getUser() != null) {
+            builder.setUser(toProto(dto.getUser()));
+        }
+        return builder.build();
+    }
+
+    public Bank.UserDto toProto(UserDto dto) {
+        return Bank.UserDto.newBuilder()
+                .setUsername(nullToEmpty(dto.getUsername()))
+                .setFirstname(nullToEmpty(dto.getFirstname()))
+                .setLastname(nullToEmpty(dto.getLastname()))
+                .build();
+    }
+
+    public Bank.AddWirerTransferResponse toProto(AddWirerTransferResponse dto) {
+        Bank.AddWirerTransferResponse.Builder builder = Bank.AddWirerTransferResponse.newBuilder()
+                .setMessage(nullToEmpty(dto.getMessage()));
+        if (dto.getTransactionFrom() != null) {
+            builder.setTransactionFrom(toProto(dto.getTransactionFrom()));
+        }
+        if (dto.getTransactionTo() != null) {
+            builder.setTransactionTo(toProto(dto.getTransactionTo()));
+        }
+        return builder.build();
+    }
+
+    public Bank.AddWirerTransferBatchResponse toProto(AddWirerTransferBatchResponse dto) {
+        Bank.AddWirerTransferBatchResponse.Builder builder = Bank.AddWirerTransferBatchResponse.newBuilder()
+                .setMessage(nullToEmpty(dto.getMessage()))
+                .setSucceeded(dto.getSucceeded())
+                .setFailed(dto.getFailed());
+        for (WirerTransferLineResult line : dto.getResults()) {
+            builder.addResultsBuilder()
+                    .setLine(line.getLine())
+                    .setRibFrom(nullToEmpty(line.getRibFrom()))
+                    .setRibTo(nullToEmpty(line.getRibTo()))
+                    .setAmount(line.getAmount() == null ? 0 : line.getAmount())
+                    .setSuccess(line.isSuccess())
+                    .setMessage(nullToEmpty(line.getMessage()));
+        }
+        return builder.build();
+    }
+
+    public Bank.GetTransactionsResponse toProto(List<TransactionDto> transactions) {
+        Bank.GetTransactionsResponse.Builder builder = Bank.GetTransactionsResponse.newBuilder();
+        transactions.forEach(transaction -> builder.addTransaction(toProto(transaction)));
+        return builder.build();
+    }
+
+    public Bank.BalanceAtResponse toProto(BalanceAtDto dto) {
+        return Bank.BalanceAtResponse.newBuilder()
+                .setRib(nullToEmpty(dto.getRib()))
+                .setAt(nullToEmpty(dto.getAt()))
+                .setBalance(dto.getBalance())
+                .build();
+    }
+
+    public Bank.GetTransactionPageResponse toProto(TransactionPageDto page) {
+        Bank.GetTransactionPageResponse.Builder builder = Bank.GetTransactionPageResponse.newBuilder()
+                .setPageInfo(Bank.PageInfo.newBuilder()
+                        .setHasNextPage(page.getPageInfo().isHasNextPage())
+                        .setEndCursor(nullToEmpty(page.getPageInfo().getEndCursor())));
+        page.getEdges().forEach(edge -> builder.addEdgesBuilder()
+                .setCursor(edge.getCursor())
+                .setNode(toProto(edge.getNode())));
+        return builder.build();
+    }
+
+    private Bank.CustomerDTO customer(Long id, String username, String identityRef, String firstname, String lastname) {
+        Bank.CustomerDTO.Builder builder = Bank.CustomerDTO.newBuilder()
+                .setUsername(nullToEmpty(username))
+                .setIdentityRef(nullToEmpty(identityRef))
+                .setFirstname(nullToEmpty(firstname))
+                .setLastname(nullToEmpty(lastname));
+        if (id != null) {
+            builder.setId(id);
+        }
+        return builder.build();
+    }
+
+    private Date parseDate(String value) {
+        try {
+            return commonTools.stringToDate(value);
+        } catch (ParseException e) {
+            throw new BusinessException(String.format("the date %s doesn't respect the format %s",
+                    value, commonTools.getDateFormat()));
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,157 @@
+package ma.formations.multiconnector.presentation.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import jakarta.annotation.PreDestroy;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.grpc.stub.Bank;
+import ma.formations.multiconnector.service.IStatementExportService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.GetTransactionListBo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Flux gRPC de l'historique : les opérations sont lues par curseur et envoyées par paquets,
+ * converties comme celles de getTransactions (GrpcMapper).
+ * La lecture se fait sur un thread dédié (le curseur JDBC reste dans sa transaction)
+ * qui n'envoie un paquet que lorsque le client peut le recevoir (isReady / onReady) :
+ * un client lent ralentit la lecture au lieu de faire grossir les tampons du serveur.
+ */
+@Component
+public class GrpcTransactionStreamer {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcTransactionStreamer.class);
+
+    private final IStatementExportService statementExportService;
+    private final GrpcMapper grpcMapper;
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+
+    public GrpcTransactionStreamer(IStatementExportService statementExportService,
+                                   GrpcMapper grpcMapper,
+                                   TransferProperties transferProperties) {
+        this.statementExportService = statementExportService;
+        this.grpcMapper = grpcMapper;
+        this.chunkSize = transferProperties.getTransactionStreamChunkSize();
+        int maxConcurrent = transferProperties.getTransactionStreamMaxConcurrent();
+        AtomicInteger threads = new AtomicInteger();
+        // Pas de file d'attente au-delà du parallélisme : un flux en trop est refusé immédiatement
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "grpc-transaction-stream-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Doit être appelé depuis la méthode du service gRPC (les handlers sont enregistrés avant son retour)
+     */
+    public void stream(GetTransactionListBo criteria, ServerCallStreamObserver<Bank.GetTransactionsResponse> observer) {
+        FlowControl flow = new FlowControl(observer);
+        observer.setOnReadyHandler(flow::signal);
+        observer.setOnCancelHandler(flow::cancel);
+        try {
+            executor.execute(() -> run(criteria, observer, flow));
+        } catch (RejectedExecutionException e) {
+            observer.onError(Status.RESOURCE_EXHAUSTED
+                    .withDescription("Trop de flux d'historique en cours, réessayez plus tard")
+                    .asRuntimeException());
+        }
+    }
+
+    private void run(GetTransactionListBo criteria, ServerCallStreamObserver<Bank.GetTransactionsResponse> observer,
+                     FlowControl flow) {
+        try {
+            boolean completed = statementExportService.readTransactions(criteria, transactions -> {
+                Bank.GetTransactionsResponse.Builder chunk = Bank.GetTransactionsResponse.newBuilder();
+                Iterator<TransactionDto> iterator = transactions.iterator();
+                while (iterator.hasNext()) {
+                    chunk.addTransaction(grpcMapper.toProto(iterator.next()));
+                    if (chunk.getTransactionCount() == chunkSize) {
+                        if (!flow.awaitReady()) {
+                            return false;
+                        }
+                        observer.onNext(chunk.build());
+                        chunk.clear();
+                    }
+                }
+                if (chunk.getTransactionCount() > 0) {
+                    if (!flow.awaitReady()) {
+                        return false;
+                    }
+                    observer.onNext(chunk.build());
+                }
+                return true;
+            });
+            if (completed) {
+                observer.onCompleted();
+            }
+        } catch (BusinessException e) {
+            flow.fail(Status.INVALID_ARGUMENT.withDescription(e.getMessage()));
+        } catch (RuntimeException e) {
+            logger.error("Échec du flux d'historique du compte {}", criteria.getRib(), e);
+            flow.fail(Status.INTERNAL.withDescription("Erreur lors de la lecture de l'historique"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Attente de la disponibilité du client, réveillée par onReady ou par l'annulation de l'appel
+     */
+    private static final class FlowControl {
+        private final ServerCallStreamObserver<Bank.GetTransactionsResponse> observer;
+        private boolean cancelled;
+
+        FlowControl(ServerCallStreamObserver<Bank.GetTransactionsResponse> observer) {
+            this.observer = observer;
+        }
+
+        synchronized void signal() {
+            notifyAll();
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            notifyAll();
+        }
+
+        /**
+         * @return false si l'appel a été annulé (client parti, délai dépassé) ou le thread interrompu
+         */
+        synchronized boolean awaitReady() {
+            try {
+                while (!cancelled && !observer.isReady()) {
+                    // Délai de garde : isReady est relu même si un signal était manqué
+                    wait(1000);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return !cancelled;
+        }
+
+        synchronized void fail(Status status) {
+            if (!cancelled) {
+                observer.onError(status.asRuntimeException());
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package ma.formations.multiconnector.presentation.rest;
+
+import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.dtos.transaction.ArchiveTransactionsResponse;
+import ma.formations.multiconnector.service.job.TransactionArchiveJob;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller d'administration de l'archive froide des opérations
+ */
+@RestController
+@RequestMapping("/api/rest/admin/archive")
+@AllArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ArchiveAdminRestController {
+
+    private final TransactionArchiveJob transactionArchiveJob;
+
+    /**
+     * Déplace vers l'archive les mois entièrement plus anciens que bank.archive.horizon-days
+     */
+    @PostMapping("/run")
+    public ResponseEntity<ArchiveTransactionsResponse> archiveOldMonths() {
+        return ResponseEntity.ok(transactionArchiveJob.archiveOldMonths());
+    }
+}
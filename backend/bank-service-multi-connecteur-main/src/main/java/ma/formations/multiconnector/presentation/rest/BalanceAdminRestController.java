@@ -0,0 +1,60 @@
+package ma.formations.multiconnector.presentation.rest;
+
+import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.dtos.balance.RebuildBalanceSnapshotsResponse;
+import ma.formations.multiconnector.dtos.balance.RebuildDailyBalancesResponse;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.job.BalanceSnapshotRebuildJob;
+import ma.formations.multiconnector.service.job.DailyBalanceRebuildJob;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller d'administration des soldes (instantanés LEDGER, sous-soldes des comptes chauds,
+ * agrégats journaliers)
+ */
+@RestController
+@RequestMapping("/api/rest/admin/balances")
+@AllArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class BalanceAdminRestController {
+
+    private final BalanceSnapshotRebuildJob balanceSnapshotRebuildJob;
+    private final DailyBalanceRebuildJob dailyBalanceRebuildJob;
+    private final AccountBalanceService accountBalanceService;
+    private final IBankAccountService bankAccountService;
+
+    /**
+     * Recalcule en parallèle l'instantané de solde de chaque compte
+     */
+    @PostMapping("/snapshots/rebuild")
+    public ResponseEntity<RebuildBalanceSnapshotsResponse> rebuildSnapshots() {
+        return ResponseEntity.ok(balanceSnapshotRebuildJob.rebuildAll());
+    }
+
+    /**
+     * Recalcule en parallèle les agrégats journaliers de chaque compte depuis ses opérations
+     */
+    @PostMapping("/daily/rebuild")
+    public ResponseEntity<RebuildDailyBalancesResponse> rebuildDailyBalances() {
+        return ResponseEntity.ok(dailyBalanceRebuildJob.rebuildAll());
+    }
+
+    /**
+     * Répartit les crédits d'un compte chaud sur count sous-soldes (0 pour revenir à un solde unique)
+     */
+    @PutMapping("/{rib}/sub-balances")
+    public ResponseEntity<BankAccountDto> configureSubBalances(@PathVariable String rib,
+                                                               @RequestParam int count) {
+        accountBalanceService.configureSubBalances(rib, count);
+        return ResponseEntity.ok(bankAccountService.getBankAccountByRib(rib));
+    }
+}
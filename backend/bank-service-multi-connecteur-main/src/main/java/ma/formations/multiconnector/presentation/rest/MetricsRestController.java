@@ -0,0 +1,59 @@
+package ma.formations.multiconnector.presentation.rest;
+
+import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.dtos.metrics.AccountContentionDto;
+import ma.formations.multiconnector.dtos.metrics.CacheStatsDto;
+import ma.formations.multiconnector.dtos.metrics.PhaseLatencyDto;
+import ma.formations.multiconnector.metrics.TransferContentionMetrics;
+import ma.formations.multiconnector.metrics.TransferLatencyMetrics;
+import ma.formations.multiconnector.service.BankAccountLookupCache;
+import ma.formations.multiconnector.service.TransferIdempotencyService;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * REST Controller d'exposition des métriques d'exploitation
+ */
+@RestController
+@RequestMapping("/api/rest/metrics")
+@AllArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN','AGENT_GUICHET')")
+public class MetricsRestController {
+
+    private final TransferContentionMetrics transferContentionMetrics;
+    private final TransferLatencyMetrics transferLatencyMetrics;
+    private final BankAccountLookupCache bankAccountLookupCache;
+    private final TransferIdempotencyService transferIdempotencyService;
+
+    /**
+     * Conflits de version et rejeux de virements par RIB (mode OPTIMISTIC)
+     */
+    @GetMapping("/transfer-contention")
+    public List<AccountContentionDto> transferContention() {
+        return transferContentionMetrics.snapshot();
+    }
+
+    /**
+     * Latences des virements par connecteur et par phase (p50, p99, p99.9, max en microsecondes)
+     */
+    @GetMapping("/transfer-latency")
+    public List<PhaseLatencyDto> transferLatency() {
+        return transferLatencyMetrics.snapshot();
+    }
+
+    /**
+     * Caches des recherches de comptes et des clés d'idempotence :
+     * taille, hits, misses, évictions, expirations, invalidations
+     */
+    @GetMapping("/caches")
+    public List<CacheStatsDto> caches() {
+        List<CacheStatsDto> caches = new ArrayList<>(bankAccountLookupCache.stats());
+        caches.add(transferIdempotencyService.stats());
+        return caches;
+    }
+}
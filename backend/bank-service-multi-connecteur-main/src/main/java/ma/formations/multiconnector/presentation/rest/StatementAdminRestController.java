@@ -0,0 +1,31 @@
+package ma.formations.multiconnector.presentation.rest;
+
+import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.dtos.transaction.MonthlyStatementsResponse;
+import ma.formations.multiconnector.service.job.MonthlyStatementJob;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller d'administration des relevés de fin de mois
+ */
+@RestController
+@RequestMapping("/api/rest/admin/statements")
+@AllArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class StatementAdminRestController {
+
+    private final MonthlyStatementJob monthlyStatementJob;
+
+    /**
+     * Produit (ou reprend) les relevés de tous les comptes pour un mois terminé (month au format yyyy-MM)
+     */
+    @PostMapping("/monthly")
+    public ResponseEntity<MonthlyStatementsResponse> generateMonthlyStatements(@RequestParam String month) {
+        return ResponseEntity.ok(monthlyStatementJob.generate(month));
+    }
+}
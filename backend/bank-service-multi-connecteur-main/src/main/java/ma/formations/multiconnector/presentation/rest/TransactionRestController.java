@@ -2,16 +2,31 @@ package ma.formations.multiconnector.presentation.rest;
 
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.dtos.balance.DailyBalanceDto;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchResponse;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.dtos.transaction.BalanceAtDto;
 import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionPageRequest;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPageDto;
+import ma.formations.multiconnector.enums.EntryProtocol;
+import ma.formations.multiconnector.enums.StatementFormat;
+import ma.formations.multiconnector.metrics.TransferLatencyMetrics;
+import ma.formations.multiconnector.service.DailyBalanceService;
+import ma.formations.multiconnector.service.IStatementExportService;
 import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.model.GetTransactionListBo;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -26,6 +41,9 @@ import java.util.List;
 public class TransactionRestController {
 
     private ITransactionService transactionService;
+    private TransferLatencyMetrics transferLatencyMetrics;
+    private IStatementExportService statementExportService;
+    private DailyBalanceService dailyBalanceService;
 
     /**
      * UC-5 : Effectuer un nouveau virement
@@ -35,20 +53,84 @@ public class TransactionRestController {
     @PreAuthorize("hasAuthority('ADD_WIRED_TRANSFER')")
     public ResponseEntity<AddWirerTransferResponse> addWirerTransfer(
             @Valid @RequestBody AddWirerTransferRequest dto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             Authentication authentication) {
 
+        // L'en-tête Idempotency-Key prime sur le champ du corps de la requête
+        if (idempotencyKey != null) {
+            dto.setIdempotencyKey(idempotencyKey);
+        }
+
         // Récupérer le username depuis le token JWT
         String username = authentication.getName();
 
         // Effectuer le virement
-        AddWirerTransferResponse response = transactionService.wiredTransfer(dto, username);
+        AddWirerTransferResponse response = transferLatencyMetrics.withProtocol(EntryProtocol.REST,
+                () -> transactionService.wiredTransfer(dto, username));
 
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * Lot de virements (ex : paie), résultat détaillé ligne par ligne
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasAuthority('ADD_WIRED_TRANSFER')")
+    public ResponseEntity<AddWirerTransferBatchResponse> addWirerTransferBatch(
+            @Valid @RequestBody AddWirerTransferBatchRequest dto,
+            Authentication authentication) {
+        return new ResponseEntity<>(
+                transactionService.wiredTransferBatch(dto, authentication.getName()), HttpStatus.CREATED);
+    }
+
     @GetMapping
     @PreAuthorize("hasAuthority('GET_TRANSACTIONS')")
     public List<TransactionDto> getTransactions(GetTransactionListRequest dto) {
         return transactionService.getTransactions(dto);
     }
+
+    /**
+     * Historique paginé par curseur : passer pageInfo.endCursor dans after pour la page suivante
+     */
+    @GetMapping("/page")
+    @PreAuthorize("hasAuthority('GET_TRANSACTIONS')")
+    public TransactionPageDto getTransactionPage(GetTransactionPageRequest dto) {
+        return transactionService.getTransactionPage(dto);
+    }
+
+    /**
+     * Solde d'un compte à une date passée (at au format graphql.date.format)
+     */
+    @GetMapping("/balance-at")
+    @PreAuthorize("hasAuthority('GET_TRANSACTIONS')")
+    public BalanceAtDto balanceAt(@RequestParam String rib, @RequestParam String at) {
+        return transactionService.balanceAt(rib, at);
+    }
+
+    /**
+     * Soldes d'ouverture / de clôture et volumes d'un compte, jour par jour (from et to au format yyyy-MM-dd)
+     */
+    @GetMapping("/daily-balances")
+    @PreAuthorize("hasAuthority('GET_TRANSACTIONS')")
+    public List<DailyBalanceDto> dailyBalances(@RequestParam String rib, @RequestParam String from,
+                                               @RequestParam String to) {
+        return dailyBalanceService.getDailyBalances(rib, from, to);
+    }
+
+    /**
+     * Export du relevé en flux (format NDJSON ou CSV), sans limite de période
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('GET_TRANSACTIONS')")
+    public ResponseEntity<StreamingResponseBody> exportStatement(
+            GetTransactionListRequest dto,
+            @RequestParam(defaultValue = "NDJSON") StatementFormat format) {
+        GetTransactionListBo criteria = statementExportService.prepare(dto);
+        boolean csv = format == StatementFormat.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"releve-%s.%s\"",
+                        criteria.getRib(), csv ? "csv" : "ndjson"))
+                .body(out -> statementExportService.export(criteria, format, out));
+    }
 }
\ No newline at end of file
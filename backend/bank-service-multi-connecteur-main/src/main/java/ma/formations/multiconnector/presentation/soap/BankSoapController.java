@@ -10,10 +10,17 @@ import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
 import ma.formations.multiconnector.dtos.customer.*;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchResponse;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.dtos.transaction.BalanceAtDto;
 import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionPageRequest;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPageDto;
+import ma.formations.multiconnector.enums.EntryProtocol;
+import ma.formations.multiconnector.metrics.TransferLatencyMetrics;
 import ma.formations.multiconnector.service.IBankAccountService;
 import ma.formations.multiconnector.service.ICustomerService;
 import ma.formations.multiconnector.service.ITransactionService;
@@ -36,6 +43,7 @@ public class BankSoapController {
     private final ICustomerService customerService;
     private ITransactionService transactionService;
     private CommonTools commonTools;
+    private TransferLatencyMetrics transferLatencyMetrics;
 
     @WebMethod
     /**
@@ -112,7 +120,21 @@ public class BankSoapController {
         String username = authentication.getName();
 
         // Appeler le service avec les 2 paramètres (dto + username)
-        return transactionService.wiredTransfer(dto, username);
+        return transferLatencyMetrics.withProtocol(EntryProtocol.SOAP,
+                () -> transactionService.wiredTransfer(dto, username));
+    }
+
+    /**
+     * Lot de virements (ex : paie) via SOAP
+     *
+     * @WebResult was user in order to replace return balise
+     * by TransferBatch balise in SOAP Response.
+     */
+    @WebResult(name = "TransferBatch")
+    @WebMethod
+    public AddWirerTransferBatchResponse createWirerTransferBatch(@WebParam(name = "wirerTransferBatchRequest") AddWirerTransferBatchRequest dto) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return transactionService.wiredTransferBatch(dto, authentication.getName());
     }
 
     /**
@@ -125,6 +147,30 @@ public class BankSoapController {
         return transactionService.getTransactions(dto);
     }
 
+    /**
+     * Historique paginé par curseur
+     *
+     * @WebResult was user in order to replace return balise
+     * by TransactionPage balise in SOAP Response.
+     */
+    @WebResult(name = "TransactionPage")
+    @WebMethod
+    public TransactionPageDto getTransactionPage(@WebParam(name = "dto") GetTransactionPageRequest dto) {
+        return transactionService.getTransactionPage(dto);
+    }
+
+    /**
+     * Solde d'un compte à une date passée
+     *
+     * @WebResult was user in order to replace return balise
+     * by BalanceAt balise in SOAP Response.
+     */
+    @WebResult(name = "BalanceAt")
+    @WebMethod
+    public BalanceAtDto balanceAt(@WebParam(name = "rib") String rib, @WebParam(name = "at") String at) {
+        return transactionService.balanceAt(rib, at);
+    }
+
     @WebResult(name = "Customer")
     @WebMethod
     public UpdateCustomerResponse changeCustomer(@WebParam(name = "identityRef") String identityRef, @WebParam(name = "dto") UpdateCustomerRequest dto) {
@@ -0,0 +1,404 @@
+package ma.formations.multiconnector.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import ma.formations.multiconnector.archive.TransactionArchive;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountSnapshotRepository;
+import ma.formations.multiconnector.dao.BankAccountSubBalanceRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.enums.BalanceMode;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccountSnapshot;
+import ma.formations.multiconnector.service.model.BankAccountSubBalance;
+import ma.formations.multiconnector.service.model.LedgerTotals;
+import ma.formations.multiconnector.service.model.RunningBalance;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Lecture et mise à jour des soldes selon bank.balance.mode
+ * STORED : le solde est BankAccount.amount, modifié par debit / credit
+ * LEDGER : le solde est le dernier instantané + la queue du registre des opérations ;
+ * debit / credit ne modifient pas la ligne du compte (l'opération insérée fait foi).
+ * En mode LEDGER, BankAccount.amount garde le solde d'ouverture ; le mode doit donc
+ * être choisi avant l'écriture des premières opérations. Les instantanés couvrent les opérations
+ * jusqu'au filigrane des opérations validées (LedgerWatermark), jamais une opération encore en cours.
+ * En mode STORED, un compte « chaud » peut être réparti en K sous-soldes (configureSubBalances) :
+ * les crédits sont répartis en tourniquet, les débits reversent d'abord les sous-soldes sur le compte.
+ * Un crédit lu sans verrou sur la ligne du compte revérifie la répartition sur le sous-solde mis à jour.
+ * Le nombre d'opérations d'un compte suit le même chemin que son solde (cf. transactionCountOf).
+ * Tout mouvement invalide les caches de lecture du compte à la fin de la transaction (BankAccountLookupCache),
+ * et est signalé après son commit aux soldes tenus en mémoire (addBalanceListener, moteur SHARDED).
+ * Chaque opération porte le solde du compte après son application (balanceAfter) quand la ligne du compte
+ * le porte : le solde à une date passée (balanceAt) est alors lu sur une seule opération.
+ */
+@Service
+public class AccountBalanceService {
+
+    private final TransferProperties transferProperties;
+    private final BankAccountTransactionRepository bankAccountTransactionRepository;
+    private final BankAccountSnapshotRepository bankAccountSnapshotRepository;
+    private final BankAccountSubBalanceRepository bankAccountSubBalanceRepository;
+    private final BankAccountRepository bankAccountRepository;
+    private final BankAccountLookupCache accountCache;
+    private final TransactionArchive transactionArchive;
+    private final LedgerWatermark ledgerWatermark;
+    // Tourniquet de répartition des crédits sur les sous-soldes
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    // Comptes vus répartis à leur dernier crédit ou à leur configuration : simple indication, revérifiée
+    private final Set<Long> splitAccounts = ConcurrentHashMap.newKeySet();
+    // Soldes tenus en mémoire hors de la base, prévenus après le commit de tout mouvement de debit / credit
+    private final List<Consumer<BankAccount>> balanceListeners = new CopyOnWriteArrayList<>();
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public AccountBalanceService(TransferProperties transferProperties,
+                                 BankAccountTransactionRepository bankAccountTransactionRepository,
+                                 BankAccountSnapshotRepository bankAccountSnapshotRepository,
+                                 BankAccountSubBalanceRepository bankAccountSubBalanceRepository,
+                                 BankAccountRepository bankAccountRepository,
+                                 BankAccountLookupCache accountCache,
+                                 TransactionArchive transactionArchive,
+                                 LedgerWatermark ledgerWatermark) {
+        this.transferProperties = transferProperties;
+        this.bankAccountTransactionRepository = bankAccountTransactionRepository;
+        this.bankAccountSnapshotRepository = bankAccountSnapshotRepository;
+        this.bankAccountSubBalanceRepository = bankAccountSubBalanceRepository;
+        this.bankAccountRepository = bankAccountRepository;
+        this.accountCache = accountCache;
+        this.transactionArchive = transactionArchive;
+        this.ledgerWatermark = ledgerWatermark;
+    }
+
+    public boolean isLedger() {
+        return transferProperties.getBalanceMode() == BalanceMode.LEDGER;
+    }
+
+    /**
+     * Le compte est-il réparti en sous-soldes (mode STORED uniquement)
+     */
+    public boolean isSplit(BankAccount bankAccount) {
+        return !isLedger() && bankAccount.getSubBalanceCount() > 0;
+    }
+
+    /**
+     * Le compte était-il réparti à son dernier crédit ou à sa dernière configuration, sans le relire :
+     * indication pour éviter de verrouiller sa ligne, à confirmer par isSplit sur le compte chargé
+     */
+    public boolean isKnownSplit(Long accountId) {
+        return !isLedger() && splitAccounts.contains(accountId);
+    }
+
+    /**
+     * Relit le compte sous verrou en écriture (SELECT ... FOR UPDATE) : son état chargé sans verrou
+     * (répartition comprise) est remplacé par celui en base
+     */
+    public void lock(BankAccount bankAccount) {
+        bankAccountRepository.lockById(bankAccount.getId());
+        entityManager.refresh(bankAccount);
+    }
+
+    /**
+     * Le solde courant diffère-t-il du champ BankAccount.amount
+     */
+    public boolean hasDerivedBalance(BankAccount bankAccount) {
+        return isLedger() || isSplit(bankAccount);
+    }
+
+    /**
+     * Même règle, pour un compte lu par projection (nombre de sous-soldes seulement)
+     */
+    public boolean hasDerivedBalance(int subBalanceCount) {
+        return isLedger() || subBalanceCount > 0;
+    }
+
+    /**
+     * Solde courant du compte, en centimes
+     * En mode LEDGER, un nouvel instantané est écrit quand la queue dépasse
+     * bank.balance.snapshot-interval opérations (si la transaction courante le permet).
+     */
+    public long balanceOf(BankAccount bankAccount) {
+        if (isSplit(bankAccount)) {
+            return bankAccount.getAmount() + bankAccountSubBalanceRepository.sumByAccount(bankAccount.getId());
+        }
+        if (!isLedger()) {
+            return bankAccount.getAmount();
+        }
+        Optional<BankAccountSnapshot> snapshot =
+                bankAccountSnapshotRepository.findFirstByBankAccount_IdOrderByUpToIdDesc(bankAccount.getId());
+        long base = snapshot.map(BankAccountSnapshot::getBalance).orElse(bankAccount.getAmount());
+        long upToId = snapshot.map(BankAccountSnapshot::getUpToId).orElse(0L);
+        LedgerTotals tail = bankAccountTransactionRepository.sumLedgerAfterId(bankAccount.getId(), upToId);
+
+        if (tail.entries() >= transferProperties.getSnapshotInterval() && isWritableTransaction()) {
+            takeSnapshot(bankAccount, base, upToId, snapshot.map(BankAccountSnapshot::getEntryCount).orElse(0L));
+        }
+        return base + tail.net();
+    }
+
+    /**
+     * Nombre d'opérations du compte, sans parcourir tout son historique
+     * STORED : compteur du compte (+ crédits des sous-soldes non encore reversés)
+     * LEDGER : opérations couvertes par le dernier instantané + queue du registre
+     */
+    public long transactionCountOf(BankAccount bankAccount) {
+        if (isSplit(bankAccount)) {
+            return bankAccount.getTransactionCount()
+                    + bankAccountSubBalanceRepository.sumEntryCountByAccount(bankAccount.getId());
+        }
+        if (!isLedger()) {
+            return bankAccount.getTransactionCount();
+        }
+        Optional<BankAccountSnapshot> snapshot =
+                bankAccountSnapshotRepository.findFirstByBankAccount_IdOrderByUpToIdDesc(bankAccount.getId());
+        long upToId = snapshot.map(BankAccountSnapshot::getUpToId).orElse(0L);
+        return snapshot.map(BankAccountSnapshot::getEntryCount).orElse(0L)
+                + bankAccountTransactionRepository.sumLedgerAfterId(bankAccount.getId(), upToId).entries();
+    }
+
+    /**
+     * Solde à reporter sur l'opération qui vient d'être appliquée au compte (après debit / credit),
+     * ou null si la ligne du compte ne porte pas le solde : en mode LEDGER et pour un compte réparti,
+     * des crédits concurrents ne verrouillent pas la ligne et le solde lu ne serait pas sûr.
+     */
+    public Long runningBalance(BankAccount bankAccount) {
+        return hasDerivedBalance(bankAccount) ? null : bankAccount.getAmount();
+    }
+
+    /**
+     * Solde du compte à l'instant at, en centimes
+     * Lu sur la dernière opération jusqu'à at (ou la première après at, avant toute opération antérieure) ;
+     * si elle ne porte pas de solde courant : solde actuel moins les opérations postérieures à at.
+     * Avant les mois en base : solde au début de la période en base moins les opérations archivées postérieures à at.
+     */
+    public long balanceAt(BankAccount bankAccount, Date at) {
+        if (bankAccount.getCreatedAt() != null && bankAccount.getCreatedAt().after(at)) {
+            return 0;
+        }
+        Date hotFrom = transactionArchive.hotFrom();
+        if (hotFrom != null && at.before(hotFrom)) {
+            return hotBalanceAt(bankAccount, new Date(hotFrom.getTime() - 1))
+                    - transactionArchive.sumAfter(bankAccount.getId(), at).net();
+        }
+        return hotBalanceAt(bankAccount, at);
+    }
+
+    /**
+     * Solde à l'instant at d'après les opérations en base : une lecture par l'index (compte, date, id)
+     * tant que l'opération trouvée porte son solde courant.
+     * Sinon (mode LEDGER, compte réparti, opération rejouée par la reprise du journal), repli sur
+     * solde actuel moins sumLedgerAfter : la requête reste sur l'index mais parcourt toutes les opérations
+     * du compte postérieures à at, son coût croît avec l'ancienneté de la date demandée.
+     */
+    private long hotBalanceAt(BankAccount bankAccount, Date at) {
+        PageRequest first = PageRequest.of(0, 1);
+        List<RunningBalance> before =
+                bankAccountTransactionRepository.findRunningBalanceAtOrBefore(bankAccount.getId(), at, first);
+        if (!before.isEmpty() && before.get(0).balanceAfter() != null) {
+            return before.get(0).balanceAfter();
+        }
+        if (before.isEmpty()) {
+            List<RunningBalance> after =
+                    bankAccountTransactionRepository.findRunningBalanceAfter(bankAccount.getId(), at, first);
+            if (after.isEmpty()) {
+                return balanceOf(bankAccount);
+            }
+            if (after.get(0).balanceAfter() != null) {
+                return after.get(0).balanceBefore();
+            }
+        }
+        return balanceOf(bankAccount) - bankAccountTransactionRepository.sumLedgerAfter(bankAccount.getId(), at).net();
+    }
+
+    /**
+     * RG_13 : Débiter le compte
+     * Compte réparti : les sous-soldes sont d'abord reversés sur le compte (verrouillé par l'appelant)
+     */
+    public void debit(BankAccount bankAccount, long amount) {
+        accountCache.evictAfterCompletion(bankAccount);
+        notifyAfterCommit(bankAccount);
+        registerLedgerWrite();
+        if (isSplit(bankAccount)) {
+            sweep(bankAccount);
+        }
+        if (!isLedger()) {
+            bankAccount.setAmount(Money.subtract(bankAccount.getAmount(), amount));
+            bankAccount.setTransactionCount(bankAccount.getTransactionCount() + 1);
+        }
+    }
+
+    /**
+     * RG_14 : Créditer le compte
+     * Compte réparti : le crédit va sur un sous-solde choisi en tourniquet, la ligne du compte n'est pas modifiée.
+     * Si le sous-solde n'existe plus (configureSubBalances validé depuis la lecture du compte sans verrou),
+     * le compte est relu sous verrou et crédité selon sa répartition courante.
+     * @return le sous-solde crédité, ou -1 si le compte n'est pas réparti
+     */
+    public int credit(BankAccount bankAccount, long amount) {
+        accountCache.evictAfterCompletion(bankAccount);
+        notifyAfterCommit(bankAccount);
+        registerLedgerWrite();
+        if (isSplit(bankAccount)) {
+            splitAccounts.add(bankAccount.getId());
+            int slot = Math.floorMod(nextSlot.getAndIncrement(), bankAccount.getSubBalanceCount());
+            if (bankAccountSubBalanceRepository.addToSlot(bankAccount.getId(), slot, amount) > 0) {
+                return slot;
+            }
+            lock(bankAccount);
+            return credit(bankAccount, amount);
+        }
+        splitAccounts.remove(bankAccount.getId());
+        if (!isLedger()) {
+            bankAccount.setAmount(Money.add(bankAccount.getAmount(), amount));
+            bankAccount.setTransactionCount(bankAccount.getTransactionCount() + 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Le listener reçoit, après son commit, chaque compte débité ou crédité par debit / credit
+     * (immédiatement hors transaction)
+     */
+    public void addBalanceListener(Consumer<BankAccount> listener) {
+        balanceListeners.add(listener);
+    }
+
+    private void notifyAfterCommit(BankAccount bankAccount) {
+        if (balanceListeners.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            balanceListeners.forEach(listener -> listener.accept(bankAccount));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                balanceListeners.forEach(listener -> listener.accept(bankAccount));
+            }
+        });
+    }
+
+    /**
+     * Mode LEDGER : la transaction courante va insérer des opérations ; à appeler avant la première insertion
+     * (debit / credit le font) pour qu'aucun instantané ne couvre ses identifiants avant son commit
+     */
+    public void registerLedgerWrite() {
+        if (isLedger()) {
+            ledgerWatermark.register();
+        }
+    }
+
+    /**
+     * Répartit un compte en count sous-soldes (0 pour revenir à un solde unique).
+     * Le solde logique est inchangé : les sous-soldes existants sont reversés sur le compte.
+     */
+    @Transactional
+    public BankAccount configureSubBalances(String rib, int count) {
+        if (isLedger()) {
+            throw new BusinessException("Les sous-soldes ne s'appliquent qu'en mode STORED");
+        }
+        if (count < 0) {
+            throw new BusinessException("Le nombre de sous-soldes doit être positif ou nul");
+        }
+        Long id = accountCache.findIdByRib(rib)
+                .orElseThrow(() -> TransferRules.accountNotFound(rib));
+        BankAccount bankAccount = bankAccountRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> TransferRules.accountNotFound(rib));
+        accountCache.evictAfterCompletion(bankAccount);
+        sweep(bankAccount);
+        bankAccountSubBalanceRepository.deleteByAccount(id);
+        for (int slot = 0; slot < count; slot++) {
+            bankAccountSubBalanceRepository.save(BankAccountSubBalance.builder()
+                    .bankAccount(bankAccount)
+                    .slot(slot)
+                    .amount(0)
+                    .build());
+        }
+        bankAccount.setSubBalanceCount(count);
+        if (count > 0) {
+            splitAccounts.add(id);
+        } else {
+            splitAccounts.remove(id);
+        }
+        return bankAccount;
+    }
+
+    /**
+     * Reverse les sous-soldes (montants et compteurs d'opérations) sur le compte et les remet à zéro
+     */
+    private void sweep(BankAccount bankAccount) {
+        List<BankAccountSubBalance> subBalances =
+                bankAccountSubBalanceRepository.findByAccountForUpdate(bankAccount.getId());
+        long total = 0;
+        long entries = 0;
+        for (BankAccountSubBalance subBalance : subBalances) {
+            total = Money.add(total, subBalance.getAmount());
+            entries += subBalance.getEntryCount();
+            subBalance.setAmount(0);
+            subBalance.setEntryCount(0);
+        }
+        bankAccount.setAmount(Money.add(bankAccount.getAmount(), total));
+        bankAccount.setTransactionCount(bankAccount.getTransactionCount() + entries);
+    }
+
+    /**
+     * Instantané recalculé depuis l'ouverture du compte (job de reconstruction)
+     */
+    public BankAccountSnapshot rebuildSnapshot(BankAccount bankAccount, long upToId) {
+        LedgerTotals totals = bankAccountTransactionRepository.sumLedgerBetweenIds(bankAccount.getId(), 0, upToId);
+        return BankAccountSnapshot.builder()
+                .bankAccount(bankAccount)
+                .balance(bankAccount.getAmount() + totals.net())
+                .upToId(upToId)
+                .entryCount(totals.entries())
+                .createdAt(new Date())
+                .build();
+    }
+
+    /**
+     * Borne haute d'un nouvel instantané : filigrane des opérations validées
+     */
+    public long snapshotBoundary() {
+        return ledgerWatermark.current();
+    }
+
+    private void takeSnapshot(BankAccount bankAccount, long base, long fromId, long entryCount) {
+        long upToId = snapshotBoundary();
+        if (upToId <= fromId) {
+            return;
+        }
+        LedgerTotals covered = bankAccountTransactionRepository.sumLedgerBetweenIds(bankAccount.getId(), fromId, upToId);
+        if (covered.entries() == 0) {
+            return;
+        }
+        bankAccountSnapshotRepository.save(BankAccountSnapshot.builder()
+                .bankAccount(bankAccount)
+                .balance(base + covered.net())
+                .upToId(upToId)
+                .entryCount(entryCount + covered.entries())
+                .createdAt(new Date())
+                .build());
+    }
+
+    private static boolean isWritableTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,167 @@
+package ma.formations.multiconnector.service;
+
+import ma.formations.multiconnector.common.BoundedCache;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.customer.CustomerDto;
+import ma.formations.multiconnector.dtos.metrics.CacheStatsDto;
+import ma.formations.multiconnector.service.model.BankAccount;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Caches des recherches de comptes (bank.cache.*) : RIB → compte et client → comptes (soldes courants compris).
+ * RIB → identifiant est résolu par l'index mémoire BankAccountRibIndex (les virements relisent ensuite la ligne).
+ * Toute écriture sur un compte (création, virement, sous-soldes) l'invalide après la fin de sa transaction ;
+ * tant qu'elle n'est pas terminée, la transaction qui écrit ne lit pas le cache.
+ */
+@Component
+public class BankAccountLookupCache {
+
+    private final BankAccountRibIndex ribIndex;
+    private final BoundedCache<String, BankAccountDto> accountsByRib;
+    private final BoundedCache<Long, List<BankAccountDto>> accountsByCustomer;
+
+    public BankAccountLookupCache(BankAccountRibIndex ribIndex,
+                                  TransferProperties transferProperties) {
+        this.ribIndex = ribIndex;
+        long ttlMillis = transferProperties.getCacheTtlSeconds() * 1000L;
+        this.accountsByRib = new BoundedCache<>("bankAccountByRib",
+                transferProperties.getCacheAccountsMaxSize(), ttlMillis);
+        this.accountsByCustomer = new BoundedCache<>("bankAccountsByCustomer",
+                transferProperties.getCacheCustomersMaxSize(), ttlMillis);
+    }
+
+    /**
+     * Identifiant du compte : le RIB d'un compte ne change jamais
+     */
+    public Optional<Long> findIdByRib(String rib) {
+        return ribIndex.findIdByRib(rib);
+    }
+
+    /**
+     * Compte (solde courant compris) ; une copie est renvoyée, l'appelant peut la modifier
+     */
+    public BankAccountDto getAccount(String rib, Function<String, BankAccountDto> loader) {
+        BankAccountDto account = writing() ? loader.apply(rib) : accountsByRib.get(rib, loader);
+        return account == null ? null : copy(account);
+    }
+
+    /**
+     * Comptes du client (soldes courants compris), copiés
+     */
+    public List<BankAccountDto> getCustomerAccounts(Long customerId, Function<Long, List<BankAccountDto>> loader) {
+        List<BankAccountDto> accounts = writing() ? loader.apply(customerId) : accountsByCustomer.get(customerId, loader);
+        return accounts.stream().map(BankAccountLookupCache::copy).toList();
+    }
+
+    /**
+     * Le compte a été créé ou modifié (solde, statut, sous-soldes) : ses entrées et celles de son client
+     * sont invalidées à la fin de la transaction courante (immédiatement hors transaction)
+     */
+    public void evictAfterCompletion(BankAccount bankAccount) {
+        PendingEvictions pending = pending();
+        pending.ribs.add(bankAccount.getRib());
+        if (bankAccount.getCustomer() != null) {
+            pending.accountOwners.add(bankAccount.getCustomer().getId());
+        }
+        apply(pending);
+    }
+
+    /**
+     * Le client a été modifié ou supprimé : ses comptes exposent ses informations
+     * (invalidation à la fin de la transaction courante)
+     */
+    public void evictCustomer(Long customerId) {
+        PendingEvictions pending = pending();
+        pending.customers.add(customerId);
+        apply(pending);
+    }
+
+    public List<CacheStatsDto> stats() {
+        return List.of(accountsByRib.stats(), accountsByCustomer.stats());
+    }
+
+    /**
+     * Invalidations de la transaction courante, enregistrées une seule fois par transaction.
+     * Hors transaction, les invalidations sont appliquées immédiatement (cf. apply).
+     */
+    private PendingEvictions pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new PendingEvictions(true);
+        }
+        PendingEvictions pending = (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            PendingEvictions registered = new PendingEvictions(false);
+            TransactionSynchronizationManager.bindResource(this, registered);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BankAccountLookupCache.this);
+                    evict(registered);
+                }
+            });
+            pending = registered;
+        }
+        return pending;
+    }
+
+    private void apply(PendingEvictions pending) {
+        if (pending.immediate) {
+            evict(pending);
+        }
+    }
+
+    private void evict(PendingEvictions pending) {
+        pending.ribs.forEach(accountsByRib::invalidate);
+        pending.accountOwners.forEach(accountsByCustomer::invalidate);
+        for (Long customerId : pending.customers) {
+            accountsByCustomer.invalidate(customerId);
+            accountsByRib.invalidateIf((rib, account) ->
+                    account.getCustomer() != null && customerId.equals(account.getCustomer().getId()));
+        }
+    }
+
+    /**
+     * La transaction courante a modifié des comptes : ses lectures ne passent pas par le cache
+     */
+    private boolean writing() {
+        return TransactionSynchronizationManager.hasResource(this);
+    }
+
+    private static BankAccountDto copy(BankAccountDto account) {
+        CustomerDto customer = account.getCustomer();
+        return BankAccountDto.builder()
+                .id(account.getId())
+                .rib(account.getRib())
+                .amount(account.getAmount())
+                .createdAt(account.getCreatedAt())
+                .accountStatus(account.getAccountStatus())
+                .customer(customer == null ? null : CustomerDto.builder()
+                        .id(customer.getId())
+                        .username(customer.getUsername())
+                        .identityRef(customer.getIdentityRef())
+                        .firstname(customer.getFirstname())
+                        .lastname(customer.getLastname())
+                        .build())
+                .build();
+    }
+
+    private static final class PendingEvictions {
+        private final boolean immediate;
+        private final Set<String> ribs = new HashSet<>();
+        private final Set<Long> accountOwners = new HashSet<>();
+        private final Set<Long> customers = new HashSet<>();
+
+        private PendingEvictions(boolean immediate) {
+            this.immediate = immediate;
+        }
+    }
+}
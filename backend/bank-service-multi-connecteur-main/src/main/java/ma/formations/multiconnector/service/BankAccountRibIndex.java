@@ -0,0 +1,86 @@
+package ma.formations.multiconnector.service;
+
+import ma.formations.multiconnector.common.RibIndex;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.service.model.AccountRib;
+import ma.formations.multiconnector.service.model.BankAccount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Résolution RIB → identifiant de compte sans aller-retour en base (RibIndex) :
+ * l'index est chargé au démarrage puis complété à chaque création de compte (après commit).
+ * Un RIB absent de l'index est recherché en base, puis ajouté à l'index s'il existe.
+ */
+@Component
+public class BankAccountRibIndex implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BankAccountRibIndex.class);
+
+    private final BankAccountRepository bankAccountRepository;
+    private final TransactionTemplate readOnlyTemplate;
+    private final RibIndex index;
+
+    public BankAccountRibIndex(BankAccountRepository bankAccountRepository,
+                               PlatformTransactionManager transactionManager,
+                               TransferProperties transferProperties) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.index = new RibIndex(transferProperties.getRibIndexExpectedAccounts());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        readOnlyTemplate.executeWithoutResult(status -> {
+            try (Stream<AccountRib> ribs = bankAccountRepository.streamRibs()) {
+                ribs.forEach(account -> index.put(account.rib(), account.id()));
+            }
+        });
+        logger.info("RIB index loaded: {} accounts, {} KB, {} ms", index.size(),
+                index.footprintBytes() / 1024, System.currentTimeMillis() - start);
+    }
+
+    public Optional<Long> findIdByRib(String rib) {
+        long id = index.find(rib);
+        if (id != RibIndex.NOT_FOUND) {
+            return Optional.of(id);
+        }
+        // Compte créé par une transaction dont le commit n'a pas encore été signalé, ou index non chargé
+        Optional<Long> stored = bankAccountRepository.findIdByRib(rib);
+        stored.ifPresent(found -> index.put(rib, found));
+        return stored;
+    }
+
+    /**
+     * Indexe le compte une fois sa création validée (immédiatement hors transaction)
+     */
+    public void registerAfterCommit(BankAccount bankAccount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.put(bankAccount.getRib(), bankAccount.getId());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.put(bankAccount.getRib(), bankAccount.getId());
+            }
+        });
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
@@ -1,12 +1,14 @@
 package ma.formations.multiconnector.service;
 
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.Money;
 import ma.formations.multiconnector.dao.BankAccountRepository;
 import ma.formations.multiconnector.dao.CustomerRepository;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
 import ma.formations.multiconnector.enums.AccountStatus;
+import ma.formations.multiconnector.service.dashboard.DashboardProjection;
 import ma.formations.multiconnector.service.exception.BusinessException;
 import ma.formations.multiconnector.service.model.BankAccount;
 import ma.formations.multiconnector.service.model.Customer;
@@ -29,6 +31,11 @@ public class BankAccountServiceImpl implements IBankAccountService {
     private final BankAccountRepository bankAccountRepository;
     private final CustomerRepository customerRepository;
     private final RibValidator ribValidator;
+    private final AccountBalanceService balanceService;
+    private final DashboardProjection dashboardProjection;
+    private final BankAccountLookupCache accountCache;
+    private final BankAccountRibIndex ribIndex;
+    private final ProjectionMapper projectionMapper;
     private ModelMapper modelMapper;
 
     /**
@@ -55,10 +62,11 @@ public class BankAccountServiceImpl implements IBankAccountService {
         bankAccount.setCustomer(customerP);
         bankAccount.setCreatedAt(new Date());
 
-        AddBankAccountResponse response = modelMapper.map(
-                bankAccountRepository.save(bankAccount),
-                AddBankAccountResponse.class
-        );
+        BankAccount saved = bankAccountRepository.save(bankAccount);
+        dashboardProjection.recordAccountCreated(saved);
+        accountCache.evictAfterCompletion(saved);
+        ribIndex.registerAfterCommit(saved);
+        AddBankAccountResponse response = modelMapper.map(saved, AddBankAccountResponse.class);
 
         response.setMessage(String.format(
                 "RIB number [%s] for the customer [%s] has been successfully created",
@@ -69,20 +77,35 @@ public class BankAccountServiceImpl implements IBankAccountService {
         return response;
     }
 
+    /**
+     * Liste projetée sur les champs du DTO, sans charger les comptes ni leurs clients comme entités
+     */
     @Override
+    @Transactional(readOnly = true)
     public List<BankAccountDto> getAllBankAccounts() {
-        return bankAccountRepository.findAll().stream()
-                .map(bankAccount -> modelMapper.map(bankAccount, BankAccountDto.class))
+        return bankAccountRepository.findAllViews().stream()
+                .map(projectionMapper::toDto)
                 .collect(Collectors.toList());
     }
 
     @Override
     public BankAccountDto getBankAccountByRib(String rib) {
-        return modelMapper.map(
-                bankAccountRepository.findByRib(rib)
-                        .orElseThrow(() -> new BusinessException(
-                                String.format("No Bank Account with rib [%s] exist", rib))),
-                BankAccountDto.class
-        );
+        BankAccountDto bankAccount = accountCache.getAccount(rib,
+                key -> ribIndex.findIdByRib(key).flatMap(bankAccountRepository::findById).map(this::toDto).orElse(null));
+        if (bankAccount == null) {
+            throw new BusinessException(String.format("No Bank Account with rib [%s] exist", rib));
+        }
+        return bankAccount;
+    }
+
+    /**
+     * Le solde exposé est le solde courant (stocké ou dérivé du registre selon bank.balance.mode)
+     */
+    private BankAccountDto toDto(BankAccount bankAccount) {
+        BankAccountDto dto = modelMapper.map(bankAccount, BankAccountDto.class);
+        if (balanceService.hasDerivedBalance(bankAccount)) {
+            dto.setAmount(Money.toMad(balanceService.balanceOf(bankAccount)));
+        }
+        return dto;
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import ma.formations.multiconnector.dao.CustomerRepository;
 import ma.formations.multiconnector.dao.RoleRepository;
 import ma.formations.multiconnector.dao.UserRepository;
 import ma.formations.multiconnector.dtos.customer.*;
+import ma.formations.multiconnector.service.dashboard.DashboardProjection;
 import ma.formations.multiconnector.service.exception.BusinessException;
 import ma.formations.multiconnector.service.model.Customer;
 import ma.formations.multiconnector.service.model.Role;
@@ -28,11 +29,18 @@ public class CustomerServiceImpl implements ICustomerService {
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
     private final ModelMapper modelMapper;
+    private final DashboardProjection dashboardProjection;
+    private final BankAccountLookupCache accountCache;
+    private final ProjectionMapper projectionMapper;
 
+    /**
+     * Liste projetée sur les champs du DTO, sans charger les clients (rôles, comptes) comme entités
+     */
     @Override
+    @Transactional(readOnly = true)
     public List<CustomerDto> getAllCustomers() {
-        return customerRepository.findAll().stream()
-                .map(customer -> modelMapper.map(customer, CustomerDto.class))
+        return customerRepository.findAllViews().stream()
+                .map(projectionMapper::toDto)
                 .collect(Collectors.toList());
     }
 
@@ -120,6 +128,8 @@ public class CustomerServiceImpl implements ICustomerService {
 
         customerToPersist.setId(customerFound.getId());
         customerToPersist.setIdentityRef(identityRef);
+        dashboardProjection.evictCustomer(customerFound.getId());
+        accountCache.evictCustomer(customerFound.getId());
         UpdateCustomerResponse updateCustomerResponse = modelMapper.map(customerRepository.save(customerToPersist), UpdateCustomerResponse.class);
         updateCustomerResponse.setMessage(String.format("Customer identity %s is updated with success", identityRef));
         return updateCustomerResponse;
@@ -144,6 +154,8 @@ public class CustomerServiceImpl implements ICustomerService {
                 .orElseThrow(() -> new BusinessException(String.format("No customer with identity %s exist in database", identityRef)));
 
         customerRepository.delete(customerFound);
+        dashboardProjection.evictCustomer(customerFound.getId());
+        accountCache.evictCustomer(customerFound.getId());
         return String.format("Customer with identity %s is deleted with success", identityRef);
     }
 }
\ No newline at end of file
@@ -0,0 +1,255 @@
+package ma.formations.multiconnector.service;
+
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.BankAccountDailyBalanceRepository;
+import ma.formations.multiconnector.dtos.balance.DailyBalanceDto;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountDailyBalance;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Agrégats journaliers des comptes (BankAccountDailyBalance), tenus à jour dans la transaction du virement :
+ * les opérations sont cumulées en mémoire (Rollup) puis appliquées en une mise à jour par (compte, jour, rangée).
+ * Les crédits d'un compte réparti vont sur la rangée de leur sous-solde (1..K) : ils ne verrouillent
+ * pas la ligne du jour, pas plus que la ligne du compte. En mode LEDGER, où aucun crédit ne verrouille
+ * la ligne du compte, ils sont de même répartis en tourniquet sur bank.balance.daily-credit-rows rangées.
+ * La ligne d'un nouveau jour est insérée si absente (MERGE) dans la transaction du virement, sans seconde
+ * connexion ; son solde d'ouverture est le solde du compte à la fin de la veille.
+ */
+@Service
+public class DailyBalanceService {
+
+    // Insertion si absente ; l'identifiant est tiré de la séquence de l'entité (cf. BankAccountDailyBalance)
+    private static final String INSERT_DAY_IF_ABSENT = "merge into \"bank_account_daily_balance\" d using (select 1) s " +
+            "on d.\"bank_account_id\" = ? and d.\"business_day\" = ? and d.\"slot\" = ? " +
+            "when not matched then insert (\"id\", \"bank_account_id\", \"business_day\", \"slot\", " +
+            "\"opening_balance\", \"closing_balance\", \"debit_count\", \"debit_sum\", \"credit_count\", \"credit_sum\") " +
+            "values (next value for \"bank_account_daily_balance_seq\", ?, ?, ?, ?, ?, 0, 0, 0, 0)";
+
+    private static final Comparator<DayKey> KEY_ORDER = Comparator.comparing(DayKey::accountId)
+            .thenComparing(DayKey::day)
+            .thenComparingInt(DayKey::slot);
+
+    private final BankAccountDailyBalanceRepository dailyBalanceRepository;
+    private final AccountBalanceService balanceService;
+    private final BankAccountLookupCache accountCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final int ledgerCreditRows;
+    // Tourniquet de répartition des crédits sur les rangées (mode LEDGER)
+    private final AtomicInteger nextCreditRow = new AtomicInteger();
+
+    public DailyBalanceService(BankAccountDailyBalanceRepository dailyBalanceRepository,
+                               AccountBalanceService balanceService,
+                               BankAccountLookupCache accountCache,
+                               DataSource dataSource,
+                               TransferProperties transferProperties) {
+        this.dailyBalanceRepository = dailyBalanceRepository;
+        this.balanceService = balanceService;
+        this.accountCache = accountCache;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.ledgerCreditRows = transferProperties.getDailyCreditRows();
+    }
+
+    /**
+     * Jour comptable d'une opération (fuseau de la JVM)
+     */
+    public static LocalDate dayOf(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    public static Date startOf(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    public Rollup newRollup() {
+        return new Rollup();
+    }
+
+    /**
+     * Applique les cumuls aux lignes journalières, dans la transaction appelante
+     * (après l'application des mouvements aux comptes). Les lignes sont mises à jour dans l'ordre
+     * (compte, jour, rangée) : deux virements concurrents les verrouillent toujours dans le même ordre.
+     */
+    public void apply(Rollup rollup) {
+        for (Map.Entry<DayKey, long[]> entry : rollup.totals.entrySet()) {
+            DayKey key = entry.getKey();
+            long[] totals = entry.getValue();
+            if (key.slot() != 0) {
+                // Le jour d'un compte réparti doit aussi avoir sa rangée 0, porteuse du solde d'ouverture
+                ensureRow(rollup.accounts.get(key.accountId()), key.day(), 0);
+            }
+            if (add(key, totals) == 0) {
+                ensureRow(rollup.accounts.get(key.accountId()), key.day(), key.slot());
+                if (add(key, totals) == 0) {
+                    throw new IllegalStateException("Agrégat journalier introuvable pour le compte "
+                            + key.accountId() + " au " + key.day());
+                }
+            }
+        }
+    }
+
+    /**
+     * Soldes et volumes journaliers d'un compte entre deux jours inclus (rangées additionnées) ;
+     * les jours sans opération n'ont pas de ligne
+     */
+    @Transactional(readOnly = true)
+    public List<DailyBalanceDto> getDailyBalances(String rib, String from, String to) {
+        LocalDate dayFrom = parseDay(from);
+        LocalDate dayTo = parseDay(to);
+        if (dayFrom.isAfter(dayTo)) {
+            throw new BusinessException("La date de début doit précéder la date de fin");
+        }
+        Long accountId = accountCache.findIdByRib(rib)
+                .orElseThrow(() -> TransferRules.accountNotFound(rib));
+        List<DailyBalanceDto> days = new ArrayList<>();
+        BankAccountDailyBalance current = null;
+        for (BankAccountDailyBalance row : dailyBalanceRepository
+                .findByBankAccountIdAndBusinessDayBetweenOrderByBusinessDayAscSlotAsc(accountId, dayFrom, dayTo)) {
+            if (current != null && current.getBusinessDay().equals(row.getBusinessDay())) {
+                current.setClosingBalance(current.getClosingBalance() + row.getClosingBalance() - row.getOpeningBalance());
+                current.setDebitCount(current.getDebitCount() + row.getDebitCount());
+                current.setDebitSum(current.getDebitSum() + row.getDebitSum());
+                current.setCreditCount(current.getCreditCount() + row.getCreditCount());
+                current.setCreditSum(current.getCreditSum() + row.getCreditSum());
+                continue;
+            }
+            if (current != null) {
+                days.add(toDto(current));
+            }
+            // Copie : la ligne chargée ne doit pas être modifiée par le cumul des rangées
+            current = BankAccountDailyBalance.builder()
+                    .businessDay(row.getBusinessDay())
+                    .openingBalance(row.getOpeningBalance())
+                    .closingBalance(row.getClosingBalance())
+                    .debitCount(row.getDebitCount())
+                    .debitSum(row.getDebitSum())
+                    .creditCount(row.getCreditCount())
+                    .creditSum(row.getCreditSum())
+                    .build();
+        }
+        if (current != null) {
+            days.add(toDto(current));
+        }
+        return days;
+    }
+
+    private int add(DayKey key, long[] totals) {
+        return dailyBalanceRepository.addToDay(key.accountId(), key.day(), key.slot(),
+                totals[0], totals[1], totals[2], totals[3]);
+    }
+
+    private void ensureRow(BankAccount bankAccount, LocalDate day, int slot) {
+        if (dailyBalanceRepository.existsByBankAccountIdAndBusinessDayAndSlot(bankAccount.getId(), day, slot)) {
+            return;
+        }
+        // Solde à la fin de la veille (ou à l'ouverture d'un compte créé ce jour-là)
+        long opening = 0;
+        if (slot == 0) {
+            Date at = new Date(startOf(day).getTime() - 1);
+            if (bankAccount.getCreatedAt() != null && bankAccount.getCreatedAt().after(at)) {
+                at = bankAccount.getCreatedAt();
+            }
+            opening = balanceService.balanceAt(bankAccount, at);
+        }
+        // JDBC sur la connexion de la transaction en cours : un doublon n'annule que l'instruction,
+        // sans marquer la transaction du virement rollback-only comme le ferait une requête JPA
+        try {
+            jdbcTemplate.update(INSERT_DAY_IF_ABSENT, bankAccount.getId(), day, slot,
+                    bankAccount.getId(), day, slot, opening, opening);
+        } catch (DataIntegrityViolationException e) {
+            // Ligne insérée par un virement concurrent, validée pendant l'attente de son verrou
+        }
+    }
+
+    private static LocalDate parseDay(String value) {
+        if (value == null || value.isBlank()) {
+            throw new BusinessException("Les dates de début et de fin sont obligatoires");
+        }
+        try {
+            // Seule la partie date est retenue (yyyy-MM-dd, suivie éventuellement d'une heure)
+            return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("Date invalide (format attendu yyyy-MM-dd) : " + value);
+        }
+    }
+
+    private static DailyBalanceDto toDto(BankAccountDailyBalance day) {
+        return DailyBalanceDto.builder()
+                .day(day.getBusinessDay().toString())
+                .openingBalance(Money.toMad(day.getOpeningBalance()))
+                .closingBalance(Money.toMad(day.getClosingBalance()))
+                .debitCount(day.getDebitCount())
+                .debitSum(Money.toMad(day.getDebitSum()))
+                .creditCount(day.getCreditCount())
+                .creditSum(Money.toMad(day.getCreditSum()))
+                .build();
+    }
+
+    private record DayKey(Long accountId, LocalDate day, int slot) {
+    }
+
+    /**
+     * Rangée d'un crédit : celle de son sous-solde, ou en mode LEDGER une rangée 1..K choisie en tourniquet
+     */
+    private int creditRow(int subBalance) {
+        if (subBalance < 0 && balanceService.isLedger() && ledgerCreditRows > 0) {
+            return 1 + Math.floorMod(nextCreditRow.getAndIncrement(), ledgerCreditRows);
+        }
+        return subBalance + 1;
+    }
+
+    /**
+     * Cumuls en mémoire d'un virement ou d'un lot, par (compte, jour, rangée)
+     */
+    public final class Rollup {
+        private final Map<DayKey, long[]> totals = new TreeMap<>(KEY_ORDER);
+        private final Map<Long, BankAccount> accounts = new HashMap<>();
+
+        private Rollup() {
+        }
+
+        /**
+         * @param subBalance sous-solde crédité (retour de AccountBalanceService.credit), -1 sinon
+         */
+        public Rollup add(BankAccountTransaction transaction, int subBalance) {
+            BankAccount bankAccount = transaction.getBankAccount();
+            accounts.putIfAbsent(bankAccount.getId(), bankAccount);
+            boolean debit = transaction.getTransactionType() == TransactionType.DEBIT;
+            DayKey key = new DayKey(bankAccount.getId(), dayOf(transaction.getCreatedAt()),
+                    debit ? subBalance + 1 : creditRow(subBalance));
+            long[] sums = totals.computeIfAbsent(key, k -> new long[4]);
+            int offset = debit ? 0 : 2;
+            sums[offset]++;
+            sums[offset + 1] = Money.add(sums[offset + 1], transaction.getAmount());
+            return this;
+        }
+
+        public Rollup add(BankAccountTransaction transaction) {
+            return add(transaction, -1);
+        }
+
+        public boolean isEmpty() {
+            return totals.isEmpty();
+        }
+    }
+}
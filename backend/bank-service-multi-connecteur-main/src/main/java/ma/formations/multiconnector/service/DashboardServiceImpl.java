@@ -1,24 +1,30 @@
 package ma.formations.multiconnector.service;
 
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.archive.TransactionArchive;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.common.Money;
 import ma.formations.multiconnector.dao.BankAccountRepository;
 import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
 import ma.formations.multiconnector.dao.CustomerRepository;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
 import ma.formations.multiconnector.dtos.dashboard.DashboardResponse;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
-import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.dtos.user.UserDto;
+import ma.formations.multiconnector.service.dashboard.DashboardLabels;
+import ma.formations.multiconnector.service.dashboard.DashboardProjection;
 import ma.formations.multiconnector.service.exception.BusinessException;
 import ma.formations.multiconnector.service.model.BankAccount;
-import ma.formations.multiconnector.service.model.BankAccountTransaction;
 import ma.formations.multiconnector.service.model.Customer;
+import ma.formations.multiconnector.service.model.DashboardTransactionRow;
 import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -34,11 +40,21 @@ public class DashboardServiceImpl implements IDashboardService {
     private final BankAccountRepository bankAccountRepository;
     private final BankAccountTransactionRepository transactionRepository;
     private final ModelMapper modelMapper;
+    private final AccountBalanceService balanceService;
+    private final DashboardProjection dashboardProjection;
+    private final CommonTools commonTools;
+    private final BankAccountLookupCache accountCache;
+    private final TransactionArchive transactionArchive;
 
 
 // ✅ APRÈS - Vérifier d'abord si c'est un Customer
         @Override
         public DashboardResponse getDashboard(String username, String rib, int page) {
+            // Première page : lecture de la projection (une recherche par client, sans requête)
+            if (page == 0 && dashboardProjection.isEnabled()) {
+                return dashboardProjection.getDashboard(username, rib);
+            }
+
             // Vérifier que l'utilisateur est bien un CLIENT (dans la table Customer)
             Customer customer = customerRepository.findByUsername(username)
                     .orElseThrow(() -> new BusinessException(
@@ -46,76 +62,91 @@ public class DashboardServiceImpl implements IDashboardService {
 
             // ... reste du code
 
-        // 2️⃣ Récupérer tous les comptes du client
-        List<BankAccount> allAccounts = bankAccountRepository.findByCustomer(customer);
+        // 2️⃣ Récupérer tous les comptes du client (cache client → comptes, soldes courants compris)
+        List<BankAccountDto> allAccounts = accountCache.getCustomerAccounts(customer.getId(),
+                id -> bankAccountRepository.findByCustomer(customer).stream().map(this::toAccountDto).toList());
 
         if (allAccounts.isEmpty()) {
             throw new BusinessException("Aucun compte bancaire trouvé pour ce client");
         }
 
         // 3️⃣ Déterminer le compte à afficher
-        BankAccount mainAccount;
+        BankAccountDto mainAccountDto;
         if (rib != null && !rib.isEmpty()) {
             // Si un RIB est spécifié, on l'utilise
-            mainAccount = allAccounts.stream()
+            mainAccountDto = allAccounts.stream()
                     .filter(acc -> acc.getRib().equals(rib))
                     .findFirst()
                     .orElseThrow(() -> new BusinessException(
                             String.format("Le compte [%s] n'appartient pas à ce client", rib)));
         } else {
             // Sinon, on prend le compte le plus récemment mouvementé (dernier créé)
-            mainAccount = allAccounts.stream()
+            mainAccountDto = allAccounts.stream()
                     .max((a1, a2) -> a1.getId().compareTo(a2.getId()))
                     .orElseThrow(() -> new BusinessException("Impossible de déterminer le compte principal"));
         }
 
         // 4️⃣ Récupérer les 10 dernières transactions avec pagination
-        Pageable pageable = PageRequest.of(page, 10);
-        Page<BankAccountTransaction> transactionsPage = transactionRepository
-                .findByBankAccountOrderByCreatedAtDesc(mainAccount, pageable);
-
-        // 5️⃣ Convertir les transactions en DTO avec intitulé
+        Pageable pageable = PageRequest.of(page, DashboardProjection.PAGE_SIZE);
+        Slice<DashboardTransactionRow> transactionsPage = transactionRepository
+                .findDashboardRows(mainAccountDto.getId(), new Date(), pageable);
+        // Total issu du compteur tenu à l'insertion : pas de COUNT(*) sur l'historique du compte
+        BankAccount mainAccount = bankAccountRepository.findById(mainAccountDto.getId())
+                .orElseThrow(() -> new BusinessException("Impossible de déterminer le compte principal"));
+        long totalTransactions = balanceService.transactionCountOf(mainAccount);
+        // Pages : opérations encore en base seulement, findDashboardRows ne lit pas l'archive
+        long hotTransactions = totalTransactions - transactionArchive.countOf(mainAccount.getId());
+
+        // Solde courant (stocké ou dérivé du registre selon bank.balance.mode)
+        Double solde = mainAccountDto.getAmount();
+
+        // 5️⃣ Convertir les transactions en DTO avec intitulé (compte principal mappé une seule fois)
         List<TransactionDto> transactionDtos = transactionsPage.getContent().stream()
-                .map(transaction -> {
-                    TransactionDto dto = modelMapper.map(transaction, TransactionDto.class);
-                    // Générer l'intitulé de l'opération
-                    dto.setIntitule(generateIntitule(transaction, customer));
-                    return dto;
-                })
+                .map(row -> toTransactionDto(row, mainAccountDto))
                 .collect(Collectors.toList());
 
-        // 6️⃣ Convertir les autres comptes en DTO
-        List<BankAccountDto> accountDtos = allAccounts.stream()
-                .map(account -> modelMapper.map(account, BankAccountDto.class))
-                .collect(Collectors.toList());
+        // 6️⃣ Les autres comptes sont déjà des DTO (copies propres à cette réponse)
+        List<BankAccountDto> accountDtos = allAccounts;
 
         // 7️⃣ Construire la réponse
         return DashboardResponse.builder()
-                .rib(mainAccount.getRib())
-                .solde(mainAccount.getAmount())
+                .rib(mainAccountDto.getRib())
+                .solde(solde)
                 .dernieresTransactions(transactionDtos)
                 .autresComptes(accountDtos)
                 .currentPage(page)
-                .totalPages(transactionsPage.getTotalPages())
-                .totalTransactions(transactionsPage.getTotalElements())
+                .totalPages((int) ((hotTransactions + pageable.getPageSize() - 1) / pageable.getPageSize()))
+                .totalTransactions(totalTransactions)
                 .build();
     }
 
     /**
-     * Génère l'intitulé de l'opération selon le type et le contexte
-     * Exemple: "Virement en votre faveur de client@email.com"
+     * Compte avec son solde courant (stocké ou dérivé du registre selon bank.balance.mode)
      */
-    private String generateIntitule(BankAccountTransaction transaction, Customer customer) {
-        String username = transaction.getUser().getUsername();
-        TransactionType type = transaction.getTransactionType();
-        Double amount = transaction.getAmount();
-
-        if (type == TransactionType.CREDIT) {
-            // C'est un crédit (argent reçu)
-            return String.format("Virement en votre faveur de %s - Montant: %.2f MAD", username, amount);
-        } else {
-            // C'est un débit (argent envoyé)
-            return String.format("Virement émis vers %s - Montant: %.2f MAD", username, amount);
-        }
+    private BankAccountDto toAccountDto(BankAccount account) {
+        BankAccountDto dto = modelMapper.map(account, BankAccountDto.class);
+        dto.setAmount(Money.toMad(balanceService.balanceOf(account)));
+        return dto;
+    }
+
+    /**
+     * Construit la ligne affichée à partir de la projection : l'utilisateur est déjà lu par la requête,
+     * aucun chargement paresseux n'est déclenché.
+     * Exemple d'intitulé: "Virement en votre faveur de client@email.com"
+     */
+    private TransactionDto toTransactionDto(DashboardTransactionRow row, BankAccountDto mainAccountDto) {
+        return TransactionDto.builder()
+                .id(row.id())
+                .createdAt(commonTools.dateToString(row.createdAt()))
+                .transactionType(row.transactionType().name())
+                .amount(Money.toMad(row.amount()))
+                .bankAccount(mainAccountDto)
+                .user(UserDto.builder()
+                        .username(row.username())
+                        .firstname(row.firstname())
+                        .lastname(row.lastname())
+                        .build())
+                .intitule(DashboardLabels.intitule(row.transactionType(), row.username(), row.amount()))
+                .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package ma.formations.multiconnector.service;
+
+import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.enums.StatementFormat;
+import ma.formations.multiconnector.service.model.GetTransactionListBo;
+import ma.formations.multiconnector.service.model.StatementLine;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Export de relevés de compte en flux (auditeurs, périodes de plusieurs années)
+ */
+public interface IStatementExportService {
+
+    /**
+     * Contrôle la demande d'export avant l'envoi de la réponse
+     * (les erreurs métier ne peuvent plus être signalées une fois le flux commencé)
+     * @param dto Le compte et la période
+     * @return Les critères de l'export
+     */
+    GetTransactionListBo prepare(GetTransactionListRequest dto);
+
+    /**
+     * Écrit les opérations du compte sur la période, de la plus ancienne à la plus récente
+     * @return Le nombre de lignes écrites
+     */
+    long export(GetTransactionListBo criteria, StatementFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Parcourt les opérations du compte sur la période dans une transaction en lecture seule
+     * (le flux n'est valide que pendant l'appel de reader)
+     */
+    <R> R readStatement(GetTransactionListBo criteria, Function<Stream<StatementLine>, R> reader);
+
+    /**
+     * Comme readStatement, avec les opérations converties comme celles de ITransactionService.getTransactions
+     * (identifiant, compte complet, utilisateur)
+     */
+    <R> R readTransactions(GetTransactionListBo criteria, Function<Stream<TransactionDto>, R> reader);
+}
@@ -1,9 +1,14 @@
 package ma.formations.multiconnector.service;
 
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchResponse;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.dtos.transaction.BalanceAtDto;
 import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionPageRequest;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPageDto;
 
 import java.util.List;
 public interface ITransactionService {
@@ -14,5 +19,29 @@ public interface ITransactionService {
      * @return La réponse avec les 2 transactions créées
      */
     AddWirerTransferResponse wiredTransfer(AddWirerTransferRequest dto ,String username);
+
+    /**
+     * Lot de virements (ex : paie) exécuté dans une seule transaction
+     * Les lignes en erreur sont rejetées individuellement, les autres sont appliquées
+     * @param dto Les lignes du lot
+     * @param username Le username de l'utilisateur connecté (depuis JWT)
+     * @return Le résultat ligne par ligne
+     */
+    AddWirerTransferBatchResponse wiredTransferBatch(AddWirerTransferBatchRequest dto, String username);
     List<TransactionDto> getTransactions(GetTransactionListRequest dto);
+
+    /**
+     * Historique paginé par curseur (createdAt, id), de la plus récente à la plus ancienne
+     * @param dto Le compte, la période, le curseur de la page précédente et la taille de page (plafonnée)
+     * @return La page d'opérations et le curseur de la page suivante
+     */
+    TransactionPageDto getTransactionPage(GetTransactionPageRequest dto);
+
+    /**
+     * Solde d'un compte à une date passée (litiges, fin de mois)
+     * @param rib Le compte
+     * @param at L'instant, au format graphql.date.format
+     * @return Le solde du compte à cet instant, opérations de cet instant comprises
+     */
+    BalanceAtDto balanceAt(String rib, String at);
 }
@@ -0,0 +1,58 @@
+package ma.formations.multiconnector.service;
+
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Filigrane des opérations validées (mode LEDGER) : plus grand identifiant W tel que toute opération
+ * d'identifiant inférieur ou égal à W est validée ou annulée. Un instantané couvre les opérations jusqu'à W.
+ * Une transaction qui insère des opérations s'enregistre avant sa première insertion avec le plus grand
+ * identifiant validé à cet instant : les identifiants qu'elle obtient ensuite lui sont supérieurs.
+ * W est le plus petit plancher des transactions en cours, ou le plus grand identifiant validé sans écriture en cours.
+ * Les écritures sont suivies en mémoire : une seule instance de l'application écrit dans la base.
+ */
+@Component
+public class LedgerWatermark {
+
+    private final BankAccountTransactionRepository bankAccountTransactionRepository;
+    // Plancher de chaque transaction d'écriture en cours (clé : jeton lié à la transaction)
+    private final Map<Object, Long> floors = new HashMap<>();
+
+    public LedgerWatermark(BankAccountTransactionRepository bankAccountTransactionRepository) {
+        this.bankAccountTransactionRepository = bankAccountTransactionRepository;
+    }
+
+    /**
+     * Enregistre la transaction courante comme écriture en cours, une seule fois, jusqu'à sa fin
+     */
+    public void register() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        Object ticket = new Object();
+        synchronized (this) {
+            floors.put(ticket, bankAccountTransactionRepository.findMaxId());
+        }
+        TransactionSynchronizationManager.bindResource(this, ticket);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LedgerWatermark.this);
+                synchronized (LedgerWatermark.this) {
+                    floors.remove(ticket);
+                }
+            }
+        });
+    }
+
+    public synchronized long current() {
+        return floors.isEmpty() ? bankAccountTransactionRepository.findMaxId() : Collections.min(floors.values());
+    }
+}
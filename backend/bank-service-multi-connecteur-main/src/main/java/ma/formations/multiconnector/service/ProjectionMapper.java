@@ -0,0 +1,105 @@
+package ma.formations.multiconnector.service;
+
+import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.customer.CustomerDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.user.UserDto;
+import ma.formations.multiconnector.service.model.BankAccountView;
+import ma.formations.multiconnector.service.model.CustomerView;
+import ma.formations.multiconnector.service.model.StatementLine;
+import ma.formations.multiconnector.service.model.TransactionView;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * Conversion directe des projections de lecture en DTO (sans ModelMapper ni réflexion),
+ * avec les mêmes règles que ModelMapperConfig : montants en MAD, dates au format graphql.date.format.
+ */
+@Component
+@AllArgsConstructor
+public class ProjectionMapper {
+
+    private final CommonTools commonTools;
+    private final AccountBalanceService balanceService;
+    private final BankAccountRepository bankAccountRepository;
+
+    /**
+     * Le solde exposé est le solde courant : seul un compte au solde dérivé (registre, sous-soldes) est chargé
+     */
+    public BankAccountDto toDto(BankAccountView view) {
+        BankAccountDto dto = BankAccountDto.builder()
+                .id(view.getId())
+                .rib(view.getRib())
+                .amount(Money.toMad(view.getAmount()))
+                .createdAt(format(view.getCreatedAt()))
+                .accountStatus(view.getAccountStatus())
+                .customer(view.getCustomerId() == null ? null : CustomerDto.builder()
+                        .id(view.getCustomerId())
+                        .username(view.getCustomerUsername())
+                        .identityRef(view.getCustomerIdentityRef())
+                        .firstname(view.getCustomerFirstname())
+                        .lastname(view.getCustomerLastname())
+                        .build())
+                .build();
+        if (balanceService.hasDerivedBalance(view.getSubBalanceCount())) {
+            bankAccountRepository.findById(view.getId())
+                    .ifPresent(bankAccount -> dto.setAmount(Money.toMad(balanceService.balanceOf(bankAccount))));
+        }
+        return dto;
+    }
+
+    public CustomerDto toDto(CustomerView view) {
+        return CustomerDto.builder()
+                .id(view.getId())
+                .username(view.getUsername())
+                .identityRef(view.getIdentityRef())
+                .firstname(view.getFirstname())
+                .lastname(view.getLastname())
+                .build();
+    }
+
+    /**
+     * @param bankAccount compte de l'historique, partagé par toutes ses opérations
+     */
+    public TransactionDto toDto(TransactionView view, BankAccountDto bankAccount) {
+        return TransactionDto.builder()
+                .id(view.getId())
+                .createdAt(format(view.getCreatedAt()))
+                .transactionType(view.getTransactionType().name())
+                .amount(Money.toMad(view.getAmount()))
+                .bankAccount(bankAccount)
+                .user(view.getUserId() == null ? null : toUserDto(view.getUsername(), view.getFirstname(), view.getLastname()))
+                .build();
+    }
+
+    /**
+     * Même conversion que toDto(TransactionView, BankAccountDto), pour les lignes lues en flux
+     */
+    public TransactionDto toDto(StatementLine line, BankAccountDto bankAccount) {
+        return TransactionDto.builder()
+                .id(line.id())
+                .createdAt(format(line.createdAt()))
+                .transactionType(line.transactionType().name())
+                .amount(Money.toMad(line.amount()))
+                .bankAccount(bankAccount)
+                .user(line.username() == null ? null : toUserDto(line.username(), line.firstname(), line.lastname()))
+                .build();
+    }
+
+    public UserDto toUserDto(String username, String firstname, String lastname) {
+        return UserDto.builder()
+                .username(username)
+                .firstname(firstname)
+                .lastname(lastname)
+                .build();
+    }
+
+    private String format(Date date) {
+        return date == null ? null : commonTools.dateToString(date);
+    }
+}
@@ -0,0 +1,112 @@
+package ma.formations.multiconnector.service;
+
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.enums.StatementFormat;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.export.StatementWriter;
+import ma.formations.multiconnector.service.model.GetTransactionListBo;
+import ma.formations.multiconnector.service.model.StatementLine;
+import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Export de relevé en flux : les opérations sont lues par un curseur JDBC (fetch size)
+ * sous forme de projections et écrites au fil de l'eau dans la réponse.
+ * L'export s'exécute hors du thread de la requête (StreamingResponseBody),
+ * d'où sa propre transaction en lecture seule.
+ */
+@Service
+public class StatementExportServiceImpl implements IStatementExportService {
+
+    private final BankAccountLookupCache accountCache;
+    private final BankAccountTransactionRepository bankAccountTransactionRepository;
+    private final BankAccountRepository bankAccountRepository;
+    private final ProjectionMapper projectionMapper;
+    private final ModelMapper modelMapper;
+    private final CommonTools commonTools;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public StatementExportServiceImpl(BankAccountLookupCache accountCache,
+                                      BankAccountTransactionRepository bankAccountTransactionRepository,
+                                      BankAccountRepository bankAccountRepository,
+                                      ProjectionMapper projectionMapper,
+                                      ModelMapper modelMapper,
+                                      CommonTools commonTools,
+                                      PlatformTransactionManager transactionManager) {
+        this.accountCache = accountCache;
+        this.bankAccountTransactionRepository = bankAccountTransactionRepository;
+        this.bankAccountRepository = bankAccountRepository;
+        this.projectionMapper = projectionMapper;
+        this.modelMapper = modelMapper;
+        this.commonTools = commonTools;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public GetTransactionListBo prepare(GetTransactionListRequest dto) {
+        GetTransactionListBo criteria = modelMapper.map(dto, GetTransactionListBo.class);
+        if (criteria.getDateFrom() == null || criteria.getDateTo() == null) {
+            throw new BusinessException("Les dates de début et de fin du relevé sont obligatoires");
+        }
+        if (criteria.getDateFrom().after(criteria.getDateTo())) {
+            throw new BusinessException("La date de début du relevé doit précéder la date de fin");
+        }
+        if (accountCache.findIdByRib(criteria.getRib()).isEmpty()) {
+            throw TransferRules.accountNotFound(criteria.getRib());
+        }
+        return criteria;
+    }
+
+    @Override
+    public long export(GetTransactionListBo criteria, StatementFormat format, OutputStream out) throws IOException {
+        try {
+            return readStatement(criteria, lines -> {
+                try {
+                    return StatementWriter.write(lines, format, commonTools.dateFormatter(), out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public <R> R readStatement(GetTransactionListBo criteria, Function<Stream<StatementLine>, R> reader) {
+        return readOnlyTemplate.execute(status -> {
+            Long accountId = accountCache.findIdByRib(criteria.getRib())
+                    .orElseThrow(() -> TransferRules.accountNotFound(criteria.getRib()));
+            try (Stream<StatementLine> lines = bankAccountTransactionRepository.streamStatement(
+                    accountId, criteria.getDateFrom(), criteria.getDateTo())) {
+                return reader.apply(lines);
+            }
+        });
+    }
+
+    @Override
+    public <R> R readTransactions(GetTransactionListBo criteria, Function<Stream<TransactionDto>, R> reader) {
+        return readStatement(criteria, lines -> {
+            // Compte lu une seule fois pour tout l'historique, comme getTransactions
+            BankAccountDto bankAccount = accountCache.findIdByRib(criteria.getRib())
+                    .flatMap(bankAccountRepository::findViewById)
+                    .map(projectionMapper::toDto)
+                    .orElseThrow(() -> TransferRules.accountNotFound(criteria.getRib()));
+            return reader.apply(lines.map(line -> projectionMapper.toDto(line, bankAccount)));
+        });
+    }
+}
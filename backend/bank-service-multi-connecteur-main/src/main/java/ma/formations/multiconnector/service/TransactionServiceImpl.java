@@ -1,26 +1,63 @@
 package ma.formations.multiconnector.service;
 
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.archive.TransactionArchive;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.common.TransactionCursor;
+import ma.formations.multiconnector.config.TransferProperties;
 import ma.formations.multiconnector.dao.BankAccountRepository;
 import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
 import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchResponse;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.dtos.transaction.BalanceAtDto;
 import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionPageRequest;
+import ma.formations.multiconnector.dtos.transaction.PageInfoDto;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
-import ma.formations.multiconnector.enums.AccountStatus;
+import ma.formations.multiconnector.dtos.transaction.TransactionEdgeDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPageDto;
+import ma.formations.multiconnector.dtos.transaction.WirerTransferLineResult;
+import ma.formations.multiconnector.dtos.user.UserDto;
 import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.enums.TransferConcurrencyMode;
+import ma.formations.multiconnector.enums.TransferPhase;
+import ma.formations.multiconnector.journal.TransferJournal;
+import ma.formations.multiconnector.metrics.TransferContentionMetrics;
+import ma.formations.multiconnector.metrics.TransferLatencyMetrics;
+import ma.formations.multiconnector.service.dashboard.DashboardProjection;
 import ma.formations.multiconnector.service.exception.BusinessException;
 import ma.formations.multiconnector.service.model.BankAccount;
 import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.BankAccountView;
 import ma.formations.multiconnector.service.model.GetTransactionListBo;
+import ma.formations.multiconnector.service.model.TransactionRow;
 import ma.formations.multiconnector.service.model.User;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -36,115 +73,665 @@ public class TransactionServiceImpl implements ITransactionService {
     private final BankAccountTransactionRepository bankAccountTransactionRepository;
     private final UserRepository userRepository;
     private final ModelMapper modelMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferProperties transferProperties;
+    private final TransferContentionMetrics contentionMetrics;
+    private final TransferIdempotencyService idempotencyService;
+    private final TransferJournal transferJournal;
+    private final AccountBalanceService balanceService;
+    private final TransferLatencyMetrics latencyMetrics;
+    private final DashboardProjection dashboardProjection;
+    private final BankAccountLookupCache accountCache;
+    private final CommonTools commonTools;
+    private final DailyBalanceService dailyBalanceService;
+    private final TransactionArchive transactionArchive;
+    private final ProjectionMapper projectionMapper;
 
     /**
      * UC-5 : Effectuer un nouveau virement
      * Respecte RG_11, RG_12, RG_13, RG_14, RG_15
+     * La démarcation transactionnelle est gérée ici afin de pouvoir rejouer
+     * le virement dans une nouvelle transaction en mode OPTIMISTIC.
+     * Avec une clé d'idempotence, un rejeu renvoie la réponse d'origine sans toucher aux comptes.
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AddWirerTransferResponse wiredTransfer(AddWirerTransferRequest dto, String username) {
+        latencyMetrics.start();
+        try {
+            return wiredTransferIdempotent(dto, username);
+        } finally {
+            latencyMetrics.finish();
+        }
+    }
+
+    private AddWirerTransferResponse wiredTransferIdempotent(AddWirerTransferRequest dto, String username) {
+        String idempotencyKey = dto.getIdempotencyKey();
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return executeWithConcurrencyControl(dto, username);
+        }
+
+        Optional<AddWirerTransferResponse> replay = idempotencyService.findReplay(username, idempotencyKey, dto);
+        if (replay.isPresent()) {
+            return replay.get();
+        }
+        try {
+            AddWirerTransferResponse response = executeWithConcurrencyControl(dto, username);
+            idempotencyService.remember(username, idempotencyKey, dto, response);
+            return response;
+        } catch (DataIntegrityViolationException e) {
+            // Requête concurrente avec la même clé : renvoyer la réponse qu'elle a enregistrée
+            return idempotencyService.findReplay(username, idempotencyKey, dto).orElseThrow(() -> e);
+        }
+    }
+
+    private AddWirerTransferResponse executeWithConcurrencyControl(AddWirerTransferRequest dto, String username) {
+        if (transferProperties.getConcurrencyMode() == TransferConcurrencyMode.OPTIMISTIC) {
+            return wiredTransferWithRetry(dto, username);
+        }
+        AddWirerTransferResponse response = transactionTemplate.execute(status -> executeTransfer(dto, username, true));
+        latencyMetrics.mark(TransferPhase.COMMIT);
+        return response;
+    }
+
+    /**
+     * Mode OPTIMISTIC : aucun verrou n'est posé, le conflit est détecté au commit
+     * grâce à la colonne @Version. Le virement est rejoué avec une attente
+     * exponentielle aléatoire, dans la limite de bank.transfer.optimistic.max-retries.
+     */
+    private AddWirerTransferResponse wiredTransferWithRetry(AddWirerTransferRequest dto, String username) {
+        int maxRetries = transferProperties.getOptimisticMaxRetries();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                AddWirerTransferResponse response = transactionTemplate.execute(status -> executeTransfer(dto, username, false));
+                latencyMetrics.mark(TransferPhase.COMMIT);
+                return response;
+            } catch (ObjectOptimisticLockingFailureException e) {
+                String rib = conflictingRib(e, dto);
+                contentionMetrics.recordConflict(rib);
+                if (attempt >= maxRetries) {
+                    throw new BusinessException(String.format(
+                            "Le compte %s est trop sollicité, veuillez réessayer le virement", rib));
+                }
+                contentionMetrics.recordRetry(rib);
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * Retrouve le RIB du compte dont la version a changé (à défaut, le compte émetteur)
+     */
+    private String conflictingRib(ObjectOptimisticLockingFailureException e, AddWirerTransferRequest dto) {
+        if (e.getIdentifier() instanceof Long id) {
+            return bankAccountRepository.findById(id)
+                    .map(BankAccount::getRib)
+                    .orElse(dto.getRibFrom());
+        }
+        return dto.getRibFrom();
+    }
+
+    /**
+     * Attente aléatoire dans [0, base * 2^attempt] (« full jitter »)
+     */
+    private void backoff(int attempt) {
+        long bound = transferProperties.getOptimisticBackoffMs() << Math.min(attempt, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Virement interrompu");
+        }
+    }
+
+    /**
+     * Exécute le virement dans la transaction courante
+     * @param lockRows true pour verrouiller les comptes (PESSIMISTIC), false pour s'appuyer sur @Version
+     */
+    private AddWirerTransferResponse executeTransfer(AddWirerTransferRequest dto, String username, boolean lockRows) {
         String ribFrom = dto.getRibFrom();
         String ribTo = dto.getRibTo();
-        Double amount = dto.getAmount();
+        long amount = Money.ofMad(dto.getAmount());
+        if (amount <= 0) {
+            throw new BusinessException("Le montant doit être positif");
+        }
 
         // Vérifier que l'utilisateur existe
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new BusinessException(
                         String.format("Utilisateur [%s] introuvable", username)));
+        latencyMetrics.mark(TransferPhase.USER_LOOKUP);
 
-        // Récupérer le compte émetteur
-        BankAccount bankAccountFrom = bankAccountRepository.findByRib(ribFrom)
-                .orElseThrow(() -> new BusinessException(
-                        String.format("Le compte avec le RIB %s n'existe pas", ribFrom)));
+        BankAccount bankAccountFrom;
+        BankAccount bankAccountTo;
+        if (balanceService.isLedger()) {
+            // Mode LEDGER : seul le compte émetteur est verrouillé (RG_12) ;
+            // le crédit est une simple insertion, sans mise à jour de la ligne du destinataire
+            Long idFrom = accountCache.findIdByRib(ribFrom)
+                    .orElseThrow(() -> accountNotFound(ribFrom));
+            bankAccountFrom = lockAccount(idFrom);
+            bankAccountTo = findAccount(ribTo);
+        } else if (lockRows) {
+            // Résoudre les deux comptes puis les verrouiller dans l'ordre croissant
+            // des identifiants pour éviter les interblocages entre virements croisés
+            // (identifiants lus dans le cache RIB → id : seules les lignes verrouillées portent le solde)
+            Long idFrom = accountCache.findIdByRib(ribFrom)
+                    .orElseThrow(() -> accountNotFound(ribFrom));
+            Long idTo = accountCache.findIdByRib(ribTo)
+                    .orElseThrow(() -> recipientNotFound(ribTo));
+            if (balanceService.isKnownSplit(idTo)) {
+                // Compte chaud réparti en sous-soldes : le crédit ne touche pas sa ligne, inutile de la verrouiller.
+                // La répartition est revérifiée sur la ligne lue (puis par le crédit, cf. AccountBalanceService.credit) ;
+                // si elle a été retirée entre-temps, le destinataire est verrouillé dans l'ordre des identifiants.
+                bankAccountTo = bankAccountRepository.findById(idTo)
+                        .orElseThrow(() -> recipientNotFound(ribTo));
+                if (balanceService.isSplit(bankAccountTo)) {
+                    bankAccountFrom = lockAccount(idFrom);
+                } else if (idFrom <= idTo) {
+                    bankAccountFrom = lockAccount(idFrom);
+                    balanceService.lock(bankAccountTo);
+                } else {
+                    balanceService.lock(bankAccountTo);
+                    bankAccountFrom = lockAccount(idFrom);
+                }
+            } else if (idFrom <= idTo) {
+                bankAccountFrom = lockAccount(idFrom);
+                bankAccountTo = lockAccount(idTo);
+            } else {
+                bankAccountTo = lockAccount(idTo);
+                bankAccountFrom = lockAccount(idFrom);
+            }
+        } else {
+            bankAccountFrom = accountCache.findIdByRib(ribFrom)
+                    .flatMap(bankAccountRepository::findById)
+                    .orElseThrow(() -> accountNotFound(ribFrom));
+            bankAccountTo = findAccount(ribTo);
+        }
 
-        // Récupérer le compte destinataire
-        BankAccount bankAccountTo = bankAccountRepository.findByRib(ribTo)
-                .orElseThrow(() -> new BusinessException(
-                        String.format("Le compte destinataire avec le RIB %s n'existe pas", ribTo)));
+        latencyMetrics.mark(TransferPhase.ACCOUNT_LOOKUP);
 
         // Vérifier les règles métier (RG_11, RG_12)
-        checkBusinessRules(bankAccountFrom, bankAccountTo, amount);
+        TransferRules.checkAccountStatus(bankAccountFrom, bankAccountTo);
+        long balanceFrom = balanceService.balanceOf(bankAccountFrom);
+        TransferRules.checkBalance(balanceFrom, amount);
+        latencyMetrics.mark(TransferPhase.RULE_CHECKS);
 
         // RG_13 : Débiter le compte émetteur
-        bankAccountFrom.setAmount(bankAccountFrom.getAmount() - amount);
+        balanceService.debit(bankAccountFrom, amount);
+        Long balanceAfterDebit = balanceService.runningBalance(bankAccountFrom);
 
         // RG_14 : Créditer le compte destinataire
-        bankAccountTo.setAmount(bankAccountTo.getAmount() + amount);
+        int creditSlot = balanceService.credit(bankAccountTo, amount);
+        Long balanceAfterCredit = balanceService.runningBalance(bankAccountTo);
 
         // RG_15 : Tracer les deux opérations avec leurs dates précises
         Date now = new Date();
 
         // Transaction DEBIT (débit du compte émetteur)
-        BankAccountTransaction transactionFrom = BankAccountTransaction.builder()
-                .amount(amount)
-                .transactionType(TransactionType.DEBIT)
-                .bankAccount(bankAccountFrom)
-                .user(user)
-                .createdAt(now)
-                .build();
+        BankAccountTransaction transactionFrom = newTransaction(amount, TransactionType.DEBIT, bankAccountFrom, user, now);
+        transactionFrom.setBalanceAfter(balanceAfterDebit);
 
         // Transaction CREDIT (crédit du compte destinataire)
-        BankAccountTransaction transactionTo = BankAccountTransaction.builder()
-                .amount(amount)
-                .transactionType(TransactionType.CREDIT)
-                .bankAccount(bankAccountTo)
-                .user(user)
-                .createdAt(now)
-                .build();
+        BankAccountTransaction transactionTo = newTransaction(amount, TransactionType.CREDIT, bankAccountTo, user, now);
+        transactionTo.setBalanceAfter(balanceAfterCredit);
+
+        // Journaliser le virement (rendu durable juste avant le commit)
+        journal(transactionFrom, transactionTo);
 
         // Sauvegarder les transactions
         bankAccountTransactionRepository.save(transactionFrom);
         bankAccountTransactionRepository.save(transactionTo);
+        dailyBalanceService.apply(dailyBalanceService.newRollup()
+                .add(transactionFrom)
+                .add(transactionTo, creditSlot));
+        dashboardProjection.recordTransfer(user, transactionFrom, transactionTo);
+        latencyMetrics.mark(TransferPhase.INSERTS);
 
         // Préparer la réponse
-        return AddWirerTransferResponse.builder()
-                .message(String.format(
-                        "Virement de %.2f MAD du compte %s vers le compte %s effectué avec succès",
-                        amount, ribFrom, ribTo))
-                .transactionFrom(modelMapper.map(transactionFrom, TransactionDto.class))
-                .transactionTo(modelMapper.map(transactionTo, TransactionDto.class))
+        TransactionDto transactionFromDto = modelMapper.map(transactionFrom, TransactionDto.class);
+        TransactionDto transactionToDto = modelMapper.map(transactionTo, TransactionDto.class);
+        // Mode LEDGER ou compte réparti : le champ amount n'est pas le solde courant, exposer le solde dérivé
+        if (balanceService.hasDerivedBalance(bankAccountFrom)) {
+            transactionFromDto.getBankAccount().setAmount(Money.toMad(Money.subtract(balanceFrom, amount)));
+        }
+        if (balanceService.hasDerivedBalance(bankAccountTo)) {
+            transactionToDto.getBankAccount().setAmount(Money.toMad(balanceService.balanceOf(bankAccountTo)));
+        }
+        AddWirerTransferResponse response = AddWirerTransferResponse.builder()
+                .message(transferMessage(amount, ribFrom, ribTo))
+                .transactionFrom(transactionFromDto)
+                .transactionTo(transactionToDto)
                 .build();
+        latencyMetrics.mark(TransferPhase.MAPPING);
+
+        // Enregistrer la clé d'idempotence dans la même transaction que le virement
+        if (dto.getIdempotencyKey() != null && !dto.getIdempotencyKey().isBlank()) {
+            idempotencyService.record(username, dto.getIdempotencyKey(), dto, response);
+        }
+        return response;
     }
 
     /**
-     * Vérifier les règles métier pour un virement
-     * RG_11 : Le compte ne doit pas être bloqué ou clôturé
-     * RG_12 : Le solde doit être suffisant
+     * Lot de virements : un seul chargement des comptes (requête IN avec verrou),
+     * application des règles en mémoire dans l'ordre des lignes, puis insertion
+     * groupée des opérations (batching JDBC, cf. hibernate.jdbc.batch_size).
+     * Le lot verrouille toujours ses comptes, quel que soit bank.transfer.concurrency-mode.
+     * Une ligne portant une clé d'idempotence déjà utilisée est un rejeu : elle n'est pas réexécutée ;
+     * sinon sa clé est enregistrée dans la transaction du lot, avec la réponse d'un virement unitaire.
      */
-    private void checkBusinessRules(BankAccount bankAccountFrom, BankAccount bankAccountTo, Double amount) {
-        // RG_11 : Vérifier que le compte émetteur n'est pas bloqué ou clôturé
-        if (bankAccountFrom.getAccountStatus() == AccountStatus.CLOSED) {
-            throw new BusinessException("Compte bancaire bloqué ou clôturé");
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AddWirerTransferBatchResponse wiredTransferBatch(AddWirerTransferBatchRequest dto, String username) {
+        List<AddWirerTransferRequest> lines = dto.getTransfers();
+        if (lines == null || lines.isEmpty()) {
+            throw new BusinessException("Le lot de virements est vide");
         }
-
-        if (bankAccountFrom.getAccountStatus() == AccountStatus.BLOCKED) {
-            throw new BusinessException("Compte bancaire bloqué ou clôturé");
+        if (lines.size() > transferProperties.getBatchMaxSize()) {
+            throw new BusinessException(String.format(
+                    "Le lot contient %d virements (maximum autorisé : %d)",
+                    lines.size(), transferProperties.getBatchMaxSize()));
         }
+        return transactionTemplate.execute(status -> executeTransferBatch(lines, username));
+    }
 
-        // Vérifier que le compte destinataire n'est pas bloqué ou clôturé
-        if (bankAccountTo.getAccountStatus() == AccountStatus.CLOSED) {
-            throw new BusinessException(
-                    String.format("Le compte destinataire %s est clôturé", bankAccountTo.getRib()));
+    private AddWirerTransferBatchResponse executeTransferBatch(List<AddWirerTransferRequest> lines, String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new BusinessException(
+                        String.format("Utilisateur [%s] introuvable", username)));
+
+        Set<String> ribs = new HashSet<>();
+        for (AddWirerTransferRequest line : lines) {
+            if (line.getRibFrom() != null) ribs.add(line.getRibFrom());
+            if (line.getRibTo() != null) ribs.add(line.getRibTo());
         }
+        Map<String, BankAccount> accounts = bankAccountRepository.findAllByRibInForUpdate(ribs).stream()
+                .collect(Collectors.toMap(BankAccount::getRib, Function.identity()));
 
-        if (bankAccountTo.getAccountStatus() == AccountStatus.BLOCKED) {
-            throw new BusinessException(
-                    String.format("Le compte destinataire %s est bloqué", bankAccountTo.getRib()));
+        // Soldes courants des comptes du lot, lus une seule fois puis suivis en mémoire
+        Map<Long, Long> balances = new HashMap<>();
+
+        Date now = new Date();
+        List<BankAccountTransaction> transactions = new ArrayList<>(lines.size() * 2);
+        DailyBalanceService.Rollup dailyTotals = dailyBalanceService.newRollup();
+        List<WirerTransferLineResult> results = new ArrayList<>(lines.size());
+        Map<String, Integer> keys = new HashMap<>();
+        List<KeyedTransfer> keyedTransfers = new ArrayList<>();
+        int succeeded = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            AddWirerTransferRequest line = lines.get(i);
+            WirerTransferLineResult result = WirerTransferLineResult.builder()
+                    .line(i)
+                    .ribFrom(line.getRibFrom())
+                    .ribTo(line.getRibTo())
+                    .amount(line.getAmount())
+                    .build();
+            results.add(result);
+            String idempotencyKey = line.getIdempotencyKey() == null || line.getIdempotencyKey().isBlank()
+                    ? null
+                    : line.getIdempotencyKey();
+            try {
+                if (idempotencyKey != null) {
+                    TransferRules.checkBatchKey(keys, idempotencyKey, i);
+                    if (idempotencyService.findReplay(username, idempotencyKey, line).isPresent()) {
+                        result.setSuccess(true);
+                        result.setMessage(String.format(
+                                "Virement déjà effectué (clé d'idempotence %s)", idempotencyKey));
+                        succeeded++;
+                        continue;
+                    }
+                }
+                BankAccount bankAccountFrom = accounts.get(line.getRibFrom());
+                if (bankAccountFrom == null) {
+                    throw accountNotFound(line.getRibFrom());
+                }
+                BankAccount bankAccountTo = accounts.get(line.getRibTo());
+                if (bankAccountTo == null) {
+                    throw recipientNotFound(line.getRibTo());
+                }
+                long amount = Money.ofMad(line.getAmount());
+                if (amount <= 0) {
+                    throw new BusinessException("Le montant doit être positif");
+                }
+
+                TransferRules.checkAccountStatus(bankAccountFrom, bankAccountTo);
+                long balanceFrom = balances.computeIfAbsent(bankAccountFrom.getId(),
+                        id -> balanceService.balanceOf(bankAccountFrom));
+                TransferRules.checkBalance(balanceFrom, amount);
+                balances.put(bankAccountFrom.getId(), Money.subtract(balanceFrom, amount));
+                // Les opérations du lot ne sont insérées qu'à la fin : le solde du destinataire est suivi ici aussi
+                balances.compute(bankAccountTo.getId(), (id, balance) ->
+                        Money.add(balance == null ? balanceService.balanceOf(bankAccountTo) : balance, amount));
+                balanceService.debit(bankAccountFrom, amount);
+                BankAccountTransaction transactionFrom = newTransaction(amount, TransactionType.DEBIT, bankAccountFrom, user, now);
+                transactionFrom.setBalanceAfter(balanceService.runningBalance(bankAccountFrom));
+                int creditSlot = balanceService.credit(bankAccountTo, amount);
+                BankAccountTransaction transactionTo = newTransaction(amount, TransactionType.CREDIT, bankAccountTo, user, now);
+                transactionTo.setBalanceAfter(balanceService.runningBalance(bankAccountTo));
+                dailyTotals.add(transactionFrom).add(transactionTo, creditSlot);
+                journal(transactionFrom, transactionTo);
+                transactions.add(transactionFrom);
+                transactions.add(transactionTo);
+                if (idempotencyKey != null) {
+                    keyedTransfers.add(new KeyedTransfer(idempotencyKey, line, transactionFrom, transactionTo,
+                            balances.get(bankAccountFrom.getId()), balances.get(bankAccountTo.getId())));
+                }
+
+                result.setSuccess(true);
+                result.setMessage("Virement effectué");
+                succeeded++;
+            } catch (BusinessException e) {
+                result.setSuccess(false);
+                result.setMessage(e.getMessage());
+            }
         }
 
-        // RG_12 : Vérifier que le solde est suffisant
-        if (bankAccountFrom.getAmount() < amount) {
-            throw new BusinessException("Solde insuffisant");
+        bankAccountTransactionRepository.saveAll(transactions);
+        for (KeyedTransfer keyed : keyedTransfers) {
+            idempotencyService.record(username, keyed.idempotencyKey(), keyed.request(), response(keyed));
+        }
+        dailyBalanceService.apply(dailyTotals);
+        for (int i = 0; i < transactions.size(); i += 2) {
+            dashboardProjection.recordTransfer(user, transactions.get(i), transactions.get(i + 1));
         }
+
+        return AddWirerTransferBatchResponse.builder()
+                .message(String.format("Lot de %d virements traité : %d effectués, %d rejetés",
+                        lines.size(), succeeded, lines.size() - succeeded))
+                .succeeded(succeeded)
+                .failed(lines.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Ligne du lot portant une clé d'idempotence, avec les soldes des deux comptes juste après elle
+     */
+    private record KeyedTransfer(String idempotencyKey, AddWirerTransferRequest request,
+                                 BankAccountTransaction transactionFrom, BankAccountTransaction transactionTo,
+                                 long balanceFrom, long balanceTo) {
+    }
+
+    /**
+     * Réponse enregistrée pour la clé d'une ligne du lot : celle qu'aurait rendue le virement unitaire
+     */
+    private AddWirerTransferResponse response(KeyedTransfer keyed) {
+        TransactionDto transactionFromDto = modelMapper.map(keyed.transactionFrom(), TransactionDto.class);
+        transactionFromDto.getBankAccount().setAmount(Money.toMad(keyed.balanceFrom()));
+        TransactionDto transactionToDto = modelMapper.map(keyed.transactionTo(), TransactionDto.class);
+        transactionToDto.getBankAccount().setAmount(Money.toMad(keyed.balanceTo()));
+        return AddWirerTransferResponse.builder()
+                .message(transferMessage(keyed.transactionFrom().getAmount(),
+                        keyed.request().getRibFrom(), keyed.request().getRibTo()))
+                .transactionFrom(transactionFromDto)
+                .transactionTo(transactionToDto)
+                .build();
+    }
+
+    private static String transferMessage(long amount, String ribFrom, String ribTo) {
+        return String.format("Virement de %s MAD du compte %s vers le compte %s effectué avec succès",
+                Money.format(amount), ribFrom, ribTo);
     }
 
+    private BankAccountTransaction newTransaction(long amount, TransactionType type, BankAccount bankAccount,
+                                                  User user, Date createdAt) {
+        return BankAccountTransaction.builder()
+                .amount(amount)
+                .transactionType(type)
+                .bankAccount(bankAccount)
+                .user(user)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    /**
+     * Écrit le virement dans le journal et reporte son numéro de séquence sur les deux opérations
+     */
+    private void journal(BankAccountTransaction transactionFrom, BankAccountTransaction transactionTo) {
+        Long journalSeq = transferJournal.append(
+                transactionFrom.getBankAccount().getId(),
+                transactionTo.getBankAccount().getId(),
+                transactionFrom.getAmount(),
+                transactionFrom.getCreatedAt().getTime(),
+                transactionFrom.getUser().getId());
+        transactionFrom.setJournalSeq(journalSeq);
+        transactionTo.setJournalSeq(journalSeq);
+    }
+
+    private BusinessException accountNotFound(String rib) {
+        return TransferRules.accountNotFound(rib);
+    }
+
+    private BusinessException recipientNotFound(String rib) {
+        return TransferRules.recipientNotFound(rib);
+    }
+
+    /**
+     * Compte destinataire relu en base (solde à jour), via son identifiant en cache
+     */
+    private BankAccount findAccount(String ribTo) {
+        return accountCache.findIdByRib(ribTo)
+                .flatMap(bankAccountRepository::findById)
+                .orElseThrow(() -> recipientNotFound(ribTo));
+    }
+
+    /**
+     * Charge un compte en posant un verrou en écriture (PESSIMISTIC_WRITE) jusqu'au commit.
+     * Les virements sur des comptes distincts ne se bloquent pas entre eux.
+     */
+    private BankAccount lockAccount(Long id) {
+        return bankAccountRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new BusinessException(
+                        String.format("Le compte [%d] n'existe plus", id)));
+    }
+
+    /**
+     * Historique d'un compte sur une période : les opérations des mois archivés (lues dans l'archive froide)
+     * précèdent celles de la base. Lecture projetée sur les champs des DTO, sans entité gérée ;
+     * le compte n'est lu qu'une fois et son DTO est partagé par toutes les opérations.
+     */
     @Override
+    @Transactional(readOnly = true)
     public List<TransactionDto> getTransactions(GetTransactionListRequest requestDTO) {
         GetTransactionListBo data = modelMapper.map(requestDTO, GetTransactionListBo.class);
-        return bankAccountTransactionRepository.findByBankAccount_RibAndCreatedAtBetween(
-                        data.getRib(), data.getDateFrom(), data.getDateTo())
+        List<TransactionDto> transactions = new ArrayList<>();
+        Optional<BankAccountView> account = accountCache.findIdByRib(data.getRib())
+                .flatMap(bankAccountRepository::findViewById);
+        if (account.isEmpty()) {
+            return transactions;
+        }
+        BankAccountDto bankAccount = projectionMapper.toDto(account.get());
+        addArchivedTransactions(account.get().getId(), bankAccount, data, transactions);
+        bankAccountTransactionRepository.findViewsByAccount(account.get().getId(), data.getDateFrom(), data.getDateTo())
+                .stream()
+                .map(view -> projectionMapper.toDto(view, bankAccount))
+                .forEach(transactions::add);
+        return transactions;
+    }
+
+    private void addArchivedTransactions(Long accountId, BankAccountDto bankAccount, GetTransactionListBo data,
+                                         List<TransactionDto> transactions) {
+        Date hotFrom = transactionArchive.hotFrom();
+        if (hotFrom == null || data.getDateFrom() == null || data.getDateTo() == null
+                || !data.getDateFrom().before(hotFrom)) {
+            return;
+        }
+        transactions.addAll(toDtos(transactionArchive.find(accountId, data.getDateFrom(), data.getDateTo()),
+                bankAccount));
+    }
+
+    /**
+     * Opérations archivées converties comme celles de la base (utilisateurs lus en une requête)
+     */
+    private List<TransactionDto> toDtos(List<TransactionRow> rows, BankAccountDto bankAccount) {
+        List<TransactionDto> transactions = new ArrayList<>(rows.size());
+        if (rows.isEmpty()) {
+            return transactions;
+        }
+        Map<Long, UserDto> users = userRepository.findAllById(rows.stream()
+                        .map(TransactionRow::userId)
+                        .filter(id -> id != null)
+                        .collect(Collectors.toSet()))
                 .stream()
-                .map(bo -> modelMapper.map(bo, TransactionDto.class))
-                .collect(Collectors.toList());
+                .collect(Collectors.toMap(User::getId,
+                        user -> projectionMapper.toUserDto(user.getUsername(), user.getFirstname(), user.getLastname())));
+        for (TransactionRow row : rows) {
+            transactions.add(TransactionDto.builder()
+                    .id(row.id())
+                    .createdAt(commonTools.dateToString(row.createdAt()))
+                    .transactionType(row.transactionType().name())
+                    .amount(Money.toMad(row.amount()))
+                    .bankAccount(bankAccount)
+                    .user(row.userId() == null ? null : users.get(row.userId()))
+                    .build());
+        }
+        return transactions;
+    }
+
+    /**
+     * Historique paginé par curseur : chaque page est une recherche directe sur (createdAt, id)
+     * limitée à size + 1 lignes (la ligne en trop indique l'existence d'une page suivante),
+     * son coût ne dépend donc pas de la profondeur de la page.
+     * Une page qui atteint les mois archivés est complétée par l'archive froide (fusion sur (createdAt, id)).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPageDto getTransactionPage(GetTransactionPageRequest requestDTO) {
+        GetTransactionListBo data = modelMapper.map(requestDTO, GetTransactionListBo.class);
+        int size = pageSize(requestDTO.getSize());
+        Pageable limit = PageRequest.of(0, size + 1);
+        TransactionCursor after = null;
+        List<BankAccountTransaction> rows;
+        if (requestDTO.getAfter() == null || requestDTO.getAfter().isBlank()) {
+            rows = bankAccountTransactionRepository.findPageByRib(
+                    data.getRib(), data.getDateFrom(), data.getDateTo(), limit);
+        } else {
+            after = TransactionCursor.decode(requestDTO.getAfter());
+            rows = bankAccountTransactionRepository.findPageByRibAfter(data.getRib(), data.getDateFrom(),
+                    data.getDateTo(), after.createdAtDate(), after.id(), limit);
+        }
+        List<TransactionRow> archived = reachesArchive(data, rows, size)
+                ? archivedPage(data, after, size + 1)
+                : List.of();
+        List<TransactionDto> archivedNodes = archived.isEmpty() ? List.of() : toDtos(archived,
+                accountCache.findIdByRib(data.getRib())
+                        .flatMap(bankAccountRepository::findViewById)
+                        .map(projectionMapper::toDto)
+                        .orElseThrow(() -> accountNotFound(data.getRib())));
+        // Fusion des deux listes, chacune de la plus récente à la plus ancienne
+        List<TransactionEdgeDto> edges = new ArrayList<>();
+        int hot = 0;
+        int cold = 0;
+        while (edges.size() <= size && (hot < rows.size() || cold < archived.size())) {
+            if (cold == archived.size() || hot < rows.size()
+                    && TransactionCursor.of(rows.get(hot)).compareTo(TransactionCursor.of(archived.get(cold))) > 0) {
+                BankAccountTransaction bo = rows.get(hot++);
+                edges.add(TransactionEdgeDto.builder()
+                        .cursor(TransactionCursor.of(bo).encode())
+                        .node(modelMapper.map(bo, TransactionDto.class))
+                        .build());
+            } else {
+                edges.add(TransactionEdgeDto.builder()
+                        .cursor(TransactionCursor.of(archived.get(cold)).encode())
+                        .node(archivedNodes.get(cold++))
+                        .build());
+            }
+        }
+        boolean hasNextPage = edges.size() > size;
+        if (hasNextPage) {
+            edges = edges.subList(0, size);
+        }
+        applyDerivedBalance(data.getRib(), edges.stream().map(TransactionEdgeDto::getNode).toList());
+        return TransactionPageDto.builder()
+                .edges(edges)
+                .pageInfo(PageInfoDto.builder()
+                        .hasNextPage(hasNextPage)
+                        .endCursor(edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Solde à une date passée : une recherche sur l'index (compte, date) des opérations,
+     * qui portent le solde du compte après leur application (cf. AccountBalanceService.balanceAt)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BalanceAtDto balanceAt(String rib, String at) {
+        if (rib == null || rib.isBlank() || at == null || at.isBlank()) {
+            throw new BusinessException("Le RIB et la date sont obligatoires");
+        }
+        Date instant;
+        try {
+            instant = commonTools.stringToDate(at);
+        } catch (ParseException e) {
+            throw new BusinessException(String.format("the date %s doesn't respect the format %s",
+                    at, commonTools.getDateFormat()));
+        }
+        BankAccount bankAccount = accountCache.findIdByRib(rib)
+                .flatMap(bankAccountRepository::findById)
+                .orElseThrow(() -> accountNotFound(rib));
+        return BalanceAtDto.builder()
+                .rib(rib)
+                .at(at)
+                .balance(Money.toMad(balanceService.balanceAt(bankAccount, instant)))
+                .build();
+    }
+
+    private int pageSize(Integer requested) {
+        if (requested == null) {
+            return Math.min(transferProperties.getTransactionPageDefaultSize(),
+                    transferProperties.getTransactionPageMaxSize());
+        }
+        if (requested <= 0) {
+            throw new BusinessException("La taille de page doit être positive");
+        }
+        return Math.min(requested, transferProperties.getTransactionPageMaxSize());
+    }
+
+    /**
+     * La page doit-elle être complétée par l'archive : période antérieure au début de la base
+     * et page incomplète, ou dont la dernière ligne en base précède déjà ce début
+     */
+    private boolean reachesArchive(GetTransactionListBo data, List<BankAccountTransaction> rows, int size) {
+        Date hotFrom = transactionArchive.hotFrom();
+        if (hotFrom == null || data.getDateFrom() == null || data.getDateTo() == null
+                || !data.getDateFrom().before(hotFrom)) {
+            return false;
+        }
+        return rows.size() <= size || rows.get(rows.size() - 1).getCreatedAt().before(hotFrom);
+    }
+
+    /**
+     * Au plus limit opérations archivées situées avant le curseur, de la plus récente à la plus ancienne
+     */
+    private List<TransactionRow> archivedPage(GetTransactionListBo data, TransactionCursor after, int limit) {
+        Optional<Long> accountId = accountCache.findIdByRib(data.getRib());
+        if (accountId.isEmpty()) {
+            return List.of();
+        }
+        Date to = after == null || after.createdAtDate().after(data.getDateTo())
+                ? data.getDateTo()
+                : after.createdAtDate();
+        List<TransactionRow> rows = transactionArchive.find(accountId.get(), data.getDateFrom(), to);
+        List<TransactionRow> page = new ArrayList<>(Math.min(limit, rows.size()));
+        for (int i = rows.size() - 1; i >= 0 && page.size() < limit; i--) {
+            if (after == null || TransactionCursor.of(rows.get(i)).compareTo(after) < 0) {
+                page.add(rows.get(i));
+            }
+        }
+        return page;
+    }
+
+    private void applyDerivedBalance(String rib, List<TransactionDto> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        // Toutes les opérations portent sur le même compte : un seul calcul du solde dérivé
+        accountCache.findIdByRib(rib)
+                .flatMap(bankAccountRepository::findById)
+                .filter(balanceService::hasDerivedBalance)
+                .map(bankAccount -> Money.toMad(balanceService.balanceOf(bankAccount)))
+                .ifPresent(balance -> transactions.forEach(
+                        transaction -> transaction.getBankAccount().setAmount(balance)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,169 @@
+package ma.formations.multiconnector.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ma.formations.multiconnector.common.BoundedCache;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.TransferIdempotencyKeyRepository;
+import ma.formations.multiconnector.dtos.metrics.CacheStatsDto;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.TransferIdempotencyKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Idempotence des virements (en-tête Idempotency-Key) :
+ * un cache mémoire borné avec expiration (TTL) devant la table TransferIdempotencyKey.
+ * Un rejeu renvoie la réponse d'origine sans accéder aux comptes.
+ * Les clés persistées expirent avec le même TTL : ignorées à la lecture, puis purgées périodiquement.
+ */
+@Service
+public class TransferIdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferIdempotencyService.class);
+
+    // Longueur maximale d'une clé, quel que soit le connecteur (en-tête REST, champ gRPC, SOAP, GraphQL)
+    public static final int MAX_KEY_LENGTH = 128;
+
+    private final TransferIdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final BoundedCache<String, CachedResponse> cache;
+
+    public TransferIdempotencyService(TransferIdempotencyKeyRepository repository,
+                                      ObjectMapper objectMapper,
+                                      TransferProperties transferProperties) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttlMillis = transferProperties.getIdempotencyTtlSeconds() * 1000L;
+        this.cache = new BoundedCache<>("transferIdempotencyKey",
+                transferProperties.getIdempotencyCacheSize(), ttlMillis);
+    }
+
+    /**
+     * Recherche la réponse d'un virement déjà exécuté avec cette clé
+     * @throws BusinessException si la clé a servi à un virement différent
+     */
+    public Optional<AddWirerTransferResponse> findReplay(String username, String idempotencyKey,
+                                                         AddWirerTransferRequest dto) {
+        checkKey(idempotencyKey);
+        CachedResponse cached = cache.get(id(username, idempotencyKey), this::load);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        checkFingerprint(cached.fingerprint(), fingerprint(dto), idempotencyKey);
+        return Optional.of(cached.response());
+    }
+
+    /**
+     * Enregistre la clé dans la transaction du virement : la clé et le virement
+     * sont validés (ou annulés) ensemble. Deux requêtes concurrentes avec la même
+     * clé entrent en conflit sur la clé primaire au commit, ou dès l'insertion
+     * si elles partagent la transaction (commit groupé du moteur SHARDED).
+     */
+    public void record(String username, String idempotencyKey, AddWirerTransferRequest dto,
+                       AddWirerTransferResponse response) {
+        checkKey(idempotencyKey);
+        repository.save(TransferIdempotencyKey.builder()
+                .id(id(username, idempotencyKey))
+                .username(username)
+                .requestFingerprint(fingerprint(dto))
+                .response(serialize(response))
+                .createdAt(new Date())
+                .build());
+    }
+
+    /**
+     * Alimente le cache mémoire une fois le virement validé
+     */
+    public void remember(String username, String idempotencyKey, AddWirerTransferRequest dto,
+                         AddWirerTransferResponse response) {
+        cache.put(id(username, idempotencyKey), new CachedResponse(fingerprint(dto), response));
+    }
+
+    public CacheStatsDto stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Purge des clés persistées plus anciennes que le TTL (bank.transfer.idempotency.purge-interval-ms)
+     */
+    @Scheduled(fixedDelayString = "${bank.transfer.idempotency.purge-interval-ms:3600000}",
+            initialDelayString = "${bank.transfer.idempotency.purge-interval-ms:3600000}")
+    public int purgeExpired() {
+        int purged = repository.deleteCreatedBefore(new Date(System.currentTimeMillis() - ttlMillis));
+        if (purged > 0) {
+            logger.info("Idempotency keys purged: {}", purged);
+        }
+        return purged;
+    }
+
+    private boolean isExpired(TransferIdempotencyKey stored) {
+        return stored.getCreatedAt() != null
+                && stored.getCreatedAt().getTime() + ttlMillis < System.currentTimeMillis();
+    }
+
+    /**
+     * Clé persistée, absente (null) si elle n'existe pas ou a expiré
+     */
+    private CachedResponse load(String id) {
+        Optional<TransferIdempotencyKey> stored = repository.findById(id);
+        if (stored.isEmpty()) {
+            return null;
+        }
+        if (isExpired(stored.get())) {
+            // Clé expirée, pas encore purgée : elle peut resservir
+            repository.delete(stored.get());
+            return null;
+        }
+        return new CachedResponse(stored.get().getRequestFingerprint(), deserialize(stored.get().getResponse()));
+    }
+
+    private static void checkFingerprint(String expected, String actual, String idempotencyKey) {
+        if (!expected.equals(actual)) {
+            throw new BusinessException(String.format(
+                    "La clé d'idempotence [%s] a déjà été utilisée pour un autre virement", idempotencyKey));
+        }
+    }
+
+    private static void checkKey(String idempotencyKey) {
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(String.format(
+                    "La clé d'idempotence ne doit pas dépasser %d caractères", MAX_KEY_LENGTH));
+        }
+    }
+
+    private static String id(String username, String idempotencyKey) {
+        return username + ":" + idempotencyKey;
+    }
+
+    private static String fingerprint(AddWirerTransferRequest dto) {
+        return dto.getRibFrom() + "|" + dto.getRibTo() + "|" + dto.getAmount();
+    }
+
+    private String serialize(AddWirerTransferResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize the wire transfer response", e);
+        }
+    }
+
+    private AddWirerTransferResponse deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, AddWirerTransferResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to read the stored wire transfer response", e);
+        }
+    }
+
+    private record CachedResponse(String fingerprint, AddWirerTransferResponse response) {
+    }
+}
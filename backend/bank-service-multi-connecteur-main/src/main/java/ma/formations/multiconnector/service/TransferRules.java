@@ -0,0 +1,81 @@
+package ma.formations.multiconnector.service;
+
+import ma.formations.multiconnector.enums.AccountStatus;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccount;
+
+import java.util.Map;
+
+/**
+ * Règles métier d'un virement, partagées par les moteurs de virement
+ * RG_11 : Le compte ne doit pas être bloqué ou clôturé
+ * RG_12 : Le solde doit être suffisant
+ */
+public final class TransferRules {
+
+    private TransferRules() {
+    }
+
+    /**
+     * RG_11 : statut des comptes émetteur et destinataire
+     */
+    public static void checkAccountStatus(BankAccount bankAccountFrom, BankAccount bankAccountTo) {
+        // RG_11 : Vérifier que le compte émetteur n'est pas bloqué ou clôturé
+        if (bankAccountFrom.getAccountStatus() == AccountStatus.CLOSED) {
+            throw new BusinessException("Compte bancaire bloqué ou clôturé");
+        }
+
+        if (bankAccountFrom.getAccountStatus() == AccountStatus.BLOCKED) {
+            throw new BusinessException("Compte bancaire bloqué ou clôturé");
+        }
+
+        // Vérifier que le compte destinataire n'est pas bloqué ou clôturé
+        if (bankAccountTo.getAccountStatus() == AccountStatus.CLOSED) {
+            throw new BusinessException(
+                    String.format("Le compte destinataire %s est clôturé", bankAccountTo.getRib()));
+        }
+
+        if (bankAccountTo.getAccountStatus() == AccountStatus.BLOCKED) {
+            throw new BusinessException(
+                    String.format("Le compte destinataire %s est bloqué", bankAccountTo.getRib()));
+        }
+    }
+
+    /**
+     * RG_12 : Vérifier que le solde (en centimes) est suffisant
+     */
+    public static void checkBalance(long balance, long amount) {
+        if (balance < amount) {
+            throw new BusinessException("Solde insuffisant");
+        }
+    }
+
+    /**
+     * Le montant converti en centimes doit être strictement positif
+     */
+    public static void checkAmount(long amount) {
+        if (amount <= 0) {
+            throw new BusinessException("Le montant doit être positif");
+        }
+    }
+
+    /**
+     * Lot de virements : une clé d'idempotence ne sert qu'à une seule ligne du lot
+     * @param keys clés des lignes précédentes du lot, avec leur numéro de ligne
+     */
+    public static void checkBatchKey(Map<String, Integer> keys, String idempotencyKey, int line) {
+        Integer first = keys.putIfAbsent(idempotencyKey, line);
+        if (first != null) {
+            throw new BusinessException(String.format(
+                    "La clé d'idempotence %s est déjà utilisée par la ligne %d du lot", idempotencyKey, first));
+        }
+    }
+
+    public static BusinessException accountNotFound(String rib) {
+        return new BusinessException(String.format("Le compte avec le RIB %s n'existe pas", rib));
+    }
+
+    public static BusinessException recipientNotFound(String rib) {
+        return new BusinessException(String.format("Le compte destinataire avec le RIB %s n'existe pas", rib));
+    }
+}
@@ -0,0 +1,26 @@
+package ma.formations.multiconnector.service.dashboard;
+
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.enums.TransactionType;
+
+/**
+ * Intitulés des opérations affichés sur le tableau de bord (UC-4)
+ */
+public final class DashboardLabels {
+
+    private DashboardLabels() {
+    }
+
+    /**
+     * Génère l'intitulé de l'opération selon le type et le contexte
+     * Exemple: "Virement en votre faveur de client@email.com"
+     */
+    public static String intitule(TransactionType type, String username, long amount) {
+        if (type == TransactionType.CREDIT) {
+            // C'est un crédit (argent reçu)
+            return String.format("Virement en votre faveur de %s - Montant: %s MAD", username, Money.format(amount));
+        }
+        // C'est un débit (argent envoyé)
+        return String.format("Virement émis vers %s - Montant: %s MAD", username, Money.format(amount));
+    }
+}
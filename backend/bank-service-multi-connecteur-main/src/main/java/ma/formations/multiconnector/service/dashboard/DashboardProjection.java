@@ -0,0 +1,279 @@
+package ma.formations.multiconnector.service.dashboard;
+
+import ma.formations.multiconnector.archive.TransactionArchive;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.CustomerRepository;
+import ma.formations.multiconnector.dtos.customer.CustomerDto;
+import ma.formations.multiconnector.dtos.dashboard.DashboardResponse;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.Customer;
+import ma.formations.multiconnector.service.model.DashboardTransactionRow;
+import ma.formations.multiconnector.service.model.User;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Projection de lecture du tableau de bord (UC-4) : une vue par client (comptes, soldes,
+ * dernières opérations avec intitulé déjà rendu, nombre total d'opérations).
+ * La vue est construite à la première lecture, puis tenue à jour au commit de chaque virement
+ * et de chaque création de compte ; la première page du tableau de bord est alors une simple
+ * recherche par username, sans requête ni ModelMapper.
+ *
+ * Une construction qui chevauche un commit sur l'un des comptes du client n'est pas conservée
+ * (compteurs de commits en cours et époques par tranche de RIB) : une vue installée ne peut
+ * ni manquer ni compter deux fois un virement. Elle est alors simplement recalculée à la lecture suivante.
+ */
+@Component
+public class DashboardProjection {
+
+    // Taille d'une page du tableau de bord (UC-4 : les 10 dernières opérations)
+    public static final int PAGE_SIZE = 10;
+
+    private static final int STRIPES = 64;
+
+    private final CustomerRepository customerRepository;
+    private final BankAccountRepository bankAccountRepository;
+    private final BankAccountTransactionRepository transactionRepository;
+    private final AccountBalanceService balanceService;
+    private final TransactionArchive transactionArchive;
+    private final CommonTools commonTools;
+    private final TransferProperties transferProperties;
+
+    private final ConcurrentHashMap<String, DashboardView> views = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> ownerByRib = new ConcurrentHashMap<>();
+    // Virements : commits en cours et commits terminés, par tranche de RIB
+    private final AtomicIntegerArray pending = new AtomicIntegerArray(STRIPES);
+    private final AtomicLongArray epochs = new AtomicLongArray(STRIPES);
+    // Créations de comptes, modifications et suppressions de clients (liste des comptes d'un client)
+    private final AtomicInteger pendingStructure = new AtomicInteger();
+    private final AtomicLong structureEpoch = new AtomicLong();
+
+    public DashboardProjection(CustomerRepository customerRepository,
+                               BankAccountRepository bankAccountRepository,
+                               BankAccountTransactionRepository transactionRepository,
+                               AccountBalanceService balanceService,
+                               TransactionArchive transactionArchive,
+                               CommonTools commonTools,
+                               TransferProperties transferProperties) {
+        this.customerRepository = customerRepository;
+        this.bankAccountRepository = bankAccountRepository;
+        this.transactionRepository = transactionRepository;
+        this.balanceService = balanceService;
+        this.transactionArchive = transactionArchive;
+        this.commonTools = commonTools;
+        this.transferProperties = transferProperties;
+    }
+
+    public boolean isEnabled() {
+        return transferProperties.isDashboardProjectionEnabled();
+    }
+
+    /**
+     * Première page du tableau de bord depuis la vue du client (construite si absente)
+     */
+    public DashboardResponse getDashboard(String username, String rib) {
+        DashboardView view = views.get(username);
+        if (view == null) {
+            view = build(username);
+        }
+        return view.render(rib, PAGE_SIZE, transactionArchive::countOf);
+    }
+
+    /**
+     * À appeler dans la transaction du virement, après l'insertion des deux opérations (RG_15)
+     */
+    public void recordTransfer(User user, BankAccountTransaction debit, BankAccountTransaction credit) {
+        if (!isEnabled()) {
+            return;
+        }
+        String ribFrom = debit.getBankAccount().getRib();
+        String ribTo = credit.getBankAccount().getRib();
+        DashboardView.Entry debitEntry = entry(user, debit);
+        DashboardView.Entry creditEntry = entry(user, credit);
+        onCommit(new int[]{stripe(ribFrom), stripe(ribTo)}, false, () -> {
+            apply(ribFrom, debitEntry, -debit.getAmount());
+            apply(ribTo, creditEntry, credit.getAmount());
+        });
+    }
+
+    /**
+     * À appeler dans la transaction de création du compte (UC-3)
+     */
+    public void recordAccountCreated(BankAccount bankAccount) {
+        if (!isEnabled()) {
+            return;
+        }
+        String username = bankAccount.getCustomer().getUsername();
+        DashboardView.AccountView account = new DashboardView.AccountView(bankAccount.getId(), bankAccount.getRib(),
+                commonTools.dateToString(bankAccount.getCreatedAt()), bankAccount.getAccountStatus(),
+                bankAccount.getAmount(), 0, List.of());
+        onCommit(new int[0], true, () -> views.computeIfPresent(username, (key, view) -> {
+            ownerByRib.put(account.rib(), username);
+            return view.withAccount(account);
+        }));
+    }
+
+    /**
+     * À appeler dans la transaction qui modifie ou supprime le client : sa vue est reconstruite à la lecture suivante
+     */
+    public void evictCustomer(Long customerId) {
+        onCommit(new int[0], true, () -> views.values().removeIf(view -> view.customerId().equals(customerId)));
+    }
+
+    private DashboardView build(String username) {
+        // Époques relevées avant la lecture en base : tout commit concurrent les fera changer
+        long structure = structureEpoch.get();
+        boolean stable = pendingStructure.get() == 0;
+
+        Customer customer = customerRepository.findByUsername(username)
+                .orElseThrow(() -> new BusinessException(
+                        "Aucun compte client trouvé. Cette fonctionnalité est réservée aux clients."));
+        List<BankAccount> bankAccounts = bankAccountRepository.findByCustomer(customer);
+        int[] stripes = bankAccounts.stream().mapToInt(bankAccount -> stripe(bankAccount.getRib())).toArray();
+        long[] before = new long[stripes.length];
+        for (int i = 0; i < stripes.length; i++) {
+            before[i] = epochs.get(stripes[i]);
+            stable &= pending.get(stripes[i]) == 0;
+        }
+
+        CustomerDto customerDto = CustomerDto.builder()
+                .id(customer.getId())
+                .username(customer.getUsername())
+                .identityRef(customer.getIdentityRef())
+                .firstname(customer.getFirstname())
+                .lastname(customer.getLastname())
+                .build();
+        List<DashboardView.AccountView> accounts = new ArrayList<>(bankAccounts.size());
+        Date asOf = new Date();
+        for (BankAccount bankAccount : bankAccounts) {
+            Slice<DashboardTransactionRow> recent = transactionRepository
+                    .findDashboardRows(bankAccount.getId(), asOf, PageRequest.of(0, PAGE_SIZE));
+            List<DashboardView.Entry> entries = recent.getContent().stream()
+                    .map(this::entry)
+                    .toList();
+            accounts.add(new DashboardView.AccountView(bankAccount.getId(), bankAccount.getRib(),
+                    commonTools.dateToString(bankAccount.getCreatedAt()), bankAccount.getAccountStatus(),
+                    balanceService.balanceOf(bankAccount), balanceService.transactionCountOf(bankAccount), entries));
+        }
+        accounts.sort(Comparator.comparing(DashboardView.AccountView::id));
+        DashboardView view = new DashboardView(customer.getId(), customerDto, List.copyOf(accounts));
+
+        if (stable && views.size() < transferProperties.getDashboardProjectionMaxCustomers()) {
+            // Contrôle et installation atomiques vis-à-vis des mises à jour de ce client (même clé)
+            views.compute(username, (key, current) -> {
+                if (!unchangedSince(structure, stripes, before)) {
+                    return current;
+                }
+                accounts.forEach(account -> ownerByRib.put(account.rib(), username));
+                return view;
+            });
+        }
+        return view;
+    }
+
+    private boolean unchangedSince(long structure, int[] stripes, long[] before) {
+        if (pendingStructure.get() != 0 || structureEpoch.get() != structure) {
+            return false;
+        }
+        for (int i = 0; i < stripes.length; i++) {
+            if (pending.get(stripes[i]) != 0 || epochs.get(stripes[i]) != before[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void apply(String rib, DashboardView.Entry entry, long delta) {
+        String username = ownerByRib.get(rib);
+        if (username != null) {
+            views.computeIfPresent(username, (key, view) -> view.withEntry(rib, entry, delta, PAGE_SIZE));
+        }
+    }
+
+    /**
+     * Enregistre la mise à jour de la projection pour la fin de la transaction courante.
+     * Ordre au commit : époque, mise à jour des vues, puis fin du commit en cours.
+     */
+    private void onCommit(int[] stripes, boolean structural, Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(stripes, structural);
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean registered;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                for (int stripe : stripes) {
+                    pending.incrementAndGet(stripe);
+                }
+                if (structural) {
+                    pendingStructure.incrementAndGet();
+                }
+                registered = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                bump(stripes, structural);
+                if (status == STATUS_COMMITTED) {
+                    update.run();
+                }
+                if (registered) {
+                    for (int stripe : stripes) {
+                        pending.decrementAndGet(stripe);
+                    }
+                    if (structural) {
+                        pendingStructure.decrementAndGet();
+                    }
+                }
+            }
+        });
+    }
+
+    private void bump(int[] stripes, boolean structural) {
+        for (int stripe : stripes) {
+            epochs.incrementAndGet(stripe);
+        }
+        if (structural) {
+            structureEpoch.incrementAndGet();
+        }
+    }
+
+    private DashboardView.Entry entry(User user, BankAccountTransaction transaction) {
+        return new DashboardView.Entry(transaction.getId(), transaction.getCreatedAt().getTime(),
+                commonTools.dateToString(transaction.getCreatedAt()), transaction.getTransactionType().name(),
+                transaction.getAmount(), user.getUsername(), user.getFirstname(), user.getLastname(),
+                DashboardLabels.intitule(transaction.getTransactionType(), user.getUsername(), transaction.getAmount()));
+    }
+
+    private DashboardView.Entry entry(DashboardTransactionRow row) {
+        return new DashboardView.Entry(row.id(), row.createdAt().getTime(), commonTools.dateToString(row.createdAt()),
+                row.transactionType().name(), row.amount(), row.username(), row.firstname(), row.lastname(),
+                DashboardLabels.intitule(row.transactionType(), row.username(), row.amount()));
+    }
+
+    private static int stripe(String rib) {
+        return Math.floorMod(rib.hashCode(), STRIPES);
+    }
+}
@@ -0,0 +1,129 @@
+package ma.formations.multiconnector.service.dashboard;
+
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.customer.CustomerDto;
+import ma.formations.multiconnector.dtos.dashboard.DashboardResponse;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.user.UserDto;
+import ma.formations.multiconnector.enums.AccountStatus;
+import ma.formations.multiconnector.service.exception.BusinessException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Vue dénormalisée du tableau de bord d'un client. Immuable : chaque mise à jour
+ * produit une nouvelle vue, remplacée atomiquement dans la projection.
+ */
+record DashboardView(Long customerId, CustomerDto customer, List<AccountView> accounts) {
+
+    /**
+     * Compte du client : solde courant en centimes, nombre total d'opérations, dernières opérations
+     * (de la plus récente à la plus ancienne)
+     */
+    record AccountView(Long id, String rib, String createdAt, AccountStatus accountStatus,
+                       long balance, long totalTransactions, List<Entry> recent) {
+
+        AccountView withEntry(Entry entry, long delta, int size) {
+            List<Entry> entries = new ArrayList<>(recent.size() + 1);
+            entries.addAll(recent);
+            entries.add(entry);
+            entries.sort(Entry.NEWEST_FIRST);
+            return new AccountView(id, rib, createdAt, accountStatus, Money.add(balance, delta),
+                    totalTransactions + 1, List.copyOf(entries.subList(0, Math.min(size, entries.size()))));
+        }
+
+        BankAccountDto toDto(CustomerDto customer) {
+            return BankAccountDto.builder()
+                    .id(id)
+                    .rib(rib)
+                    .amount(Money.toMad(balance))
+                    .createdAt(createdAt)
+                    .accountStatus(accountStatus)
+                    .customer(customer)
+                    .build();
+        }
+    }
+
+    /**
+     * Opération déjà rendue (date formatée, intitulé)
+     */
+    record Entry(Long id, long createdAtMillis, String createdAt, String transactionType, long amount,
+                 String username, String firstname, String lastname, String intitule) {
+
+        static final Comparator<Entry> NEWEST_FIRST = Comparator.comparingLong(Entry::createdAtMillis)
+                .thenComparing(Entry::id, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .reversed();
+    }
+
+    DashboardView withAccount(AccountView account) {
+        List<AccountView> updated = new ArrayList<>(accounts);
+        updated.add(account);
+        return new DashboardView(customerId, customer, List.copyOf(updated));
+    }
+
+    DashboardView withEntry(String rib, Entry entry, long delta, int size) {
+        List<AccountView> updated = new ArrayList<>(accounts.size());
+        for (AccountView account : accounts) {
+            updated.add(account.rib().equals(rib) ? account.withEntry(entry, delta, size) : account);
+        }
+        return new DashboardView(customerId, customer, List.copyOf(updated));
+    }
+
+    /**
+     * Mêmes règles que la lecture en base : compte demandé (s'il appartient au client)
+     * ou, à défaut, le dernier compte créé. Les pages ne comptent que les opérations encore en base
+     * (archivedCountOf : opérations archivées d'un compte, lues au rendu car l'archivage ne passe pas par la vue).
+     */
+    DashboardResponse render(String rib, int pageSize, LongUnaryOperator archivedCountOf) {
+        if (accounts.isEmpty()) {
+            throw new BusinessException("Aucun compte bancaire trouvé pour ce client");
+        }
+        AccountView main;
+        if (rib != null && !rib.isEmpty()) {
+            main = accounts.stream()
+                    .filter(account -> account.rib().equals(rib))
+                    .findFirst()
+                    .orElseThrow(() -> new BusinessException(
+                            String.format("Le compte [%s] n'appartient pas à ce client", rib)));
+        } else {
+            main = accounts.stream()
+                    .max(Comparator.comparing(AccountView::id))
+                    .orElseThrow(() -> new BusinessException("Impossible de déterminer le compte principal"));
+        }
+
+        BankAccountDto mainDto = main.toDto(customer);
+        List<TransactionDto> transactions = new ArrayList<>(main.recent().size());
+        for (Entry entry : main.recent()) {
+            transactions.add(TransactionDto.builder()
+                    .id(entry.id())
+                    .createdAt(entry.createdAt())
+                    .transactionType(entry.transactionType())
+                    .amount(Money.toMad(entry.amount()))
+                    .bankAccount(mainDto)
+                    .user(UserDto.builder()
+                            .username(entry.username())
+                            .firstname(entry.firstname())
+                            .lastname(entry.lastname())
+                            .build())
+                    .intitule(entry.intitule())
+                    .build());
+        }
+        List<BankAccountDto> accountDtos = accounts.stream()
+                .map(account -> account == main ? mainDto : account.toDto(customer))
+                .toList();
+        long hotTransactions = main.totalTransactions() - archivedCountOf.applyAsLong(main.id());
+        return DashboardResponse.builder()
+                .rib(main.rib())
+                .solde(mainDto.getAmount())
+                .dernieresTransactions(transactions)
+                .autresComptes(accountDtos)
+                .currentPage(0)
+                .totalPages((int) ((hotTransactions + pageSize - 1) / pageSize))
+                .totalTransactions(main.totalTransactions())
+                .build();
+    }
+}
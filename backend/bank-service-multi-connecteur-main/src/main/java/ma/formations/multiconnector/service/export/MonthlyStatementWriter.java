@@ -0,0 +1,119 @@
+package ma.formations.multiconnector.service.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.service.model.MonthlyStatementLine;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.DateFormat;
+import java.time.YearMonth;
+
+/**
+ * Fichier de relevés mensuels d'un client (NDJSON), écrit ligne par ligne comme StatementWriter.
+ * Pour chaque compte : un objet d'ouverture (rib, month, openingBalance), les opérations du mois,
+ * puis un objet de clôture (rib, closingBalance, debit/credit count et sum).
+ */
+public final class MonthlyStatementWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .setRootValueSeparator(null)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final Writer writer;
+    private final JsonGenerator generator;
+    private final String month;
+    private final DateFormat dates;
+
+    private String rib;
+    private long balance;
+    private long debitCount;
+    private long debitSum;
+    private long creditCount;
+    private long creditSum;
+
+    /**
+     * @param dates formateur des dates (CommonTools.dateFormatter), propre à ce fichier
+     */
+    public MonthlyStatementWriter(OutputStream out, YearMonth month, DateFormat dates) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.generator = JSON_FACTORY.createGenerator(writer);
+        this.month = month.toString();
+        this.dates = dates;
+    }
+
+    public void openAccount(String rib, long openingBalance) throws IOException {
+        this.rib = rib;
+        this.balance = openingBalance;
+        this.debitCount = 0;
+        this.debitSum = 0;
+        this.creditCount = 0;
+        this.creditSum = 0;
+        generator.writeStartObject();
+        generator.writeStringField("rib", rib);
+        generator.writeStringField("month", month);
+        writeAmount("openingBalance", openingBalance);
+        end();
+    }
+
+    public void line(MonthlyStatementLine line) throws IOException {
+        switch (line.transactionType()) {
+            case DEBIT -> {
+                debitCount++;
+                debitSum = Money.add(debitSum, line.amount());
+                balance = Money.subtract(balance, line.amount());
+            }
+            case CREDIT -> {
+                creditCount++;
+                creditSum = Money.add(creditSum, line.amount());
+                balance = Money.add(balance, line.amount());
+            }
+        }
+        generator.writeStartObject();
+        generator.writeStringField("rib", rib);
+        generator.writeNumberField("id", line.id());
+        generator.writeStringField("createdAt", dates.format(line.createdAt()));
+        generator.writeStringField("transactionType", line.transactionType().name());
+        writeAmount("amount", line.amount());
+        generator.writeStringField("username", line.username());
+        end();
+    }
+
+    /**
+     * @return le solde de clôture : solde d'ouverture plus les opérations écrites
+     */
+    public long closeAccount() throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("rib", rib);
+        writeAmount("closingBalance", balance);
+        generator.writeNumberField("debitCount", debitCount);
+        writeAmount("debitSum", debitSum);
+        generator.writeNumberField("creditCount", creditCount);
+        writeAmount("creditSum", creditSum);
+        end();
+        return balance;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+        writer.flush();
+    }
+
+    private void writeAmount(String field, long centimes) throws IOException {
+        generator.writeFieldName(field);
+        generator.writeNumber(Money.format(centimes));
+    }
+
+    private void end() throws IOException {
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -0,0 +1,101 @@
+package ma.formations.multiconnector.service.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.enums.StatementFormat;
+import ma.formations.multiconnector.service.model.StatementLine;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.DateFormat;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Écriture d'un relevé ligne par ligne : chaque ligne lue est aussitôt écrite dans un tampon
+ * de taille fixe, la mémoire utilisée ne dépend pas du nombre de lignes.
+ */
+public final class StatementWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,createdAt,transactionType,amount,username";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .setRootValueSeparator(null)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private StatementWriter() {
+    }
+
+    /**
+     * @param dates formateur des dates (CommonTools.dateFormatter), propre à cette écriture
+     * @return le nombre de lignes écrites
+     */
+    public static long write(Stream<StatementLine> lines, StatementFormat format, DateFormat dates,
+                             OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long count = format == StatementFormat.CSV
+                ? writeCsv(lines.iterator(), dates, writer)
+                : writeNdjson(lines.iterator(), dates, writer);
+        writer.flush();
+        return count;
+    }
+
+    private static long writeNdjson(Iterator<StatementLine> lines, DateFormat dates, Writer writer) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            while (lines.hasNext()) {
+                StatementLine line = lines.next();
+                generator.writeStartObject();
+                generator.writeNumberField("id", line.id());
+                generator.writeStringField("createdAt", dates.format(line.createdAt()));
+                generator.writeStringField("transactionType", line.transactionType().name());
+                generator.writeFieldName("amount");
+                generator.writeNumber(Money.format(line.amount()));
+                generator.writeStringField("username", line.username());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long writeCsv(Iterator<StatementLine> lines, DateFormat dates, Writer writer) throws IOException {
+        long count = 0;
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (lines.hasNext()) {
+            StatementLine line = lines.next();
+            writer.write(String.valueOf(line.id()));
+            writer.write(',');
+            writer.write(dates.format(line.createdAt()));
+            writer.write(',');
+            writer.write(line.transactionType().name());
+            writer.write(',');
+            writer.write(Money.format(line.amount()));
+            writer.write(',');
+            writeCsvField(writer, line.username());
+            writer.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
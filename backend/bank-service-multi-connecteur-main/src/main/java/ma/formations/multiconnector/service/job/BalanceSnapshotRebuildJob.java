@@ -0,0 +1,101 @@
+package ma.formations.multiconnector.service.job;
+
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountSnapshotRepository;
+import ma.formations.multiconnector.dtos.balance.RebuildBalanceSnapshotsResponse;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccount;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Job de reconstruction des instantanés de solde (mode LEDGER) :
+ * les comptes sont répartis récursivement entre les threads d'un ForkJoinPool,
+ * chaque feuille recalcule ses instantanés dans sa propre transaction.
+ */
+@Component
+public class BalanceSnapshotRebuildJob {
+
+    // Nombre de comptes traités par une feuille (une transaction)
+    private static final int ACCOUNTS_PER_TASK = 64;
+
+    private final BankAccountRepository bankAccountRepository;
+    private final BankAccountSnapshotRepository bankAccountSnapshotRepository;
+    private final AccountBalanceService balanceService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferProperties transferProperties;
+
+    public BalanceSnapshotRebuildJob(BankAccountRepository bankAccountRepository,
+                                     BankAccountSnapshotRepository bankAccountSnapshotRepository,
+                                     AccountBalanceService balanceService,
+                                     TransactionTemplate transactionTemplate,
+                                     TransferProperties transferProperties) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.bankAccountSnapshotRepository = bankAccountSnapshotRepository;
+        this.balanceService = balanceService;
+        this.transactionTemplate = transactionTemplate;
+        this.transferProperties = transferProperties;
+    }
+
+    public RebuildBalanceSnapshotsResponse rebuildAll() {
+        if (!balanceService.isLedger()) {
+            throw new BusinessException("Les instantanés de solde ne sont utilisés qu'en mode LEDGER");
+        }
+        long start = System.currentTimeMillis();
+        List<Long> ids = bankAccountRepository.findAllIds();
+        // Même borne pour tous les comptes (filigrane des opérations validées) : les suivantes restent dans la queue
+        long upToId = balanceService.snapshotBoundary();
+
+        ForkJoinPool pool = new ForkJoinPool(transferProperties.getSnapshotRebuildParallelism());
+        int accounts;
+        try {
+            accounts = pool.invoke(new RebuildTask(ids, upToId));
+        } finally {
+            pool.shutdown();
+        }
+        long duration = System.currentTimeMillis() - start;
+        return RebuildBalanceSnapshotsResponse.builder()
+                .message(String.format("%d instantanés de solde reconstruits en %d ms", accounts, duration))
+                .accounts(accounts)
+                .durationMs(duration)
+                .build();
+    }
+
+    private class RebuildTask extends RecursiveTask<Integer> {
+        private final List<Long> ids;
+        private final long upToId;
+
+        RebuildTask(List<Long> ids, long upToId) {
+            this.ids = ids;
+            this.upToId = upToId;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (ids.size() <= ACCOUNTS_PER_TASK) {
+                return transactionTemplate.execute(status -> rebuild(ids));
+            }
+            int middle = ids.size() / 2;
+            RebuildTask left = new RebuildTask(ids.subList(0, middle), upToId);
+            RebuildTask right = new RebuildTask(ids.subList(middle, ids.size()), upToId);
+            left.fork();
+            return right.compute() + left.join();
+        }
+
+        private int rebuild(List<Long> accountIds) {
+            int rebuilt = 0;
+            for (BankAccount bankAccount : bankAccountRepository.findAllById(accountIds)) {
+                bankAccountSnapshotRepository.deleteByBankAccount_Id(bankAccount.getId());
+                bankAccountSnapshotRepository.save(balanceService.rebuildSnapshot(bankAccount, upToId));
+                rebuilt++;
+            }
+            return rebuilt;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package ma.formations.multiconnector.service.job;
+
+import ma.formations.multiconnector.archive.TransactionArchive;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.BankAccountDailyBalanceRepository;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dtos.balance.RebuildDailyBalancesResponse;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.DailyBalanceService;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountDailyBalance;
+import ma.formations.multiconnector.service.model.StatementLine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * Job de reconstruction des agrégats journaliers depuis les opérations :
+ * les comptes sont répartis récursivement entre les threads d'un ForkJoinPool, chaque feuille
+ * relit les opérations de ses comptes (une requête en flux par compte) dans sa propre transaction.
+ * Chaque compte est verrouillé pendant sa reconstruction ; les crédits d'un compte réparti ne prenant
+ * pas ce verrou, le job est à lancer hors des périodes de forte activité sur ces comptes.
+ * Les jours des mois archivés (TransactionArchive) ne sont pas reconstruits.
+ */
+@Component
+public class DailyBalanceRebuildJob {
+
+    // Nombre de comptes traités par une feuille (une transaction)
+    private static final int ACCOUNTS_PER_TASK = 64;
+
+    private final BankAccountRepository bankAccountRepository;
+    private final BankAccountTransactionRepository bankAccountTransactionRepository;
+    private final BankAccountDailyBalanceRepository dailyBalanceRepository;
+    private final AccountBalanceService balanceService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferProperties transferProperties;
+    private final TransactionArchive transactionArchive;
+
+    public DailyBalanceRebuildJob(BankAccountRepository bankAccountRepository,
+                                  BankAccountTransactionRepository bankAccountTransactionRepository,
+                                  BankAccountDailyBalanceRepository dailyBalanceRepository,
+                                  AccountBalanceService balanceService,
+                                  TransactionTemplate transactionTemplate,
+                                  TransferProperties transferProperties,
+                                  TransactionArchive transactionArchive) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.bankAccountTransactionRepository = bankAccountTransactionRepository;
+        this.dailyBalanceRepository = dailyBalanceRepository;
+        this.balanceService = balanceService;
+        this.transactionTemplate = transactionTemplate;
+        this.transferProperties = transferProperties;
+        this.transactionArchive = transactionArchive;
+    }
+
+    public RebuildDailyBalancesResponse rebuildAll() {
+        long start = System.currentTimeMillis();
+        List<Long> ids = bankAccountRepository.findAllIds();
+
+        ForkJoinPool pool = new ForkJoinPool(transferProperties.getDailyRebuildParallelism());
+        long[] totals;
+        try {
+            totals = pool.invoke(new RebuildTask(ids));
+        } finally {
+            pool.shutdown();
+        }
+        long duration = System.currentTimeMillis() - start;
+        return RebuildDailyBalancesResponse.builder()
+                .message(String.format("%d jours reconstruits pour %d comptes en %d ms", totals[1], totals[0], duration))
+                .accounts((int) totals[0])
+                .days(totals[1])
+                .durationMs(duration)
+                .build();
+    }
+
+    /**
+     * Reconstruit les jours d'un compte ; renvoie le nombre de jours écrits
+     */
+    private long rebuild(Long accountId) {
+        BankAccount bankAccount = bankAccountRepository.findByIdForUpdate(accountId).orElse(null);
+        if (bankAccount == null) {
+            return 0;
+        }
+        Date hotFrom = transactionArchive.hotFrom();
+        if (hotFrom == null) {
+            dailyBalanceRepository.deleteByAccount(accountId);
+            hotFrom = new Date(0);
+        } else {
+            dailyBalanceRepository.deleteByAccountFrom(accountId, DailyBalanceService.dayOf(hotFrom));
+        }
+        // Solde d'ouverture : solde courant moins toutes les opérations en base
+        long balance = balanceService.balanceOf(bankAccount)
+                - bankAccountTransactionRepository.sumLedgerAfter(accountId, new Date(hotFrom.getTime() - 1)).net();
+        List<BankAccountDailyBalance> days = new ArrayList<>();
+        try (Stream<StatementLine> lines = bankAccountTransactionRepository.streamStatement(
+                accountId, hotFrom, new Date())) {
+            BankAccountDailyBalance current = null;
+            for (Iterator<StatementLine> it = lines.iterator(); it.hasNext(); ) {
+                StatementLine line = it.next();
+                LocalDate day = DailyBalanceService.dayOf(line.createdAt());
+                if (current == null || !current.getBusinessDay().equals(day)) {
+                    current = BankAccountDailyBalance.builder()
+                            .bankAccountId(accountId)
+                            .businessDay(day)
+                            .slot(0)
+                            .openingBalance(balance)
+                            .build();
+                    days.add(current);
+                }
+                if (line.transactionType() == TransactionType.DEBIT) {
+                    current.setDebitCount(current.getDebitCount() + 1);
+                    current.setDebitSum(Money.add(current.getDebitSum(), line.amount()));
+                    balance = Money.subtract(balance, line.amount());
+                } else {
+                    current.setCreditCount(current.getCreditCount() + 1);
+                    current.setCreditSum(Money.add(current.getCreditSum(), line.amount()));
+                    balance = Money.add(balance, line.amount());
+                }
+                current.setClosingBalance(balance);
+            }
+        }
+        dailyBalanceRepository.saveAll(days);
+        return days.size();
+    }
+
+    private class RebuildTask extends RecursiveTask<long[]> {
+        private final List<Long> ids;
+
+        RebuildTask(List<Long> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (ids.size() <= ACCOUNTS_PER_TASK) {
+                return transactionTemplate.execute(status -> {
+                    long days = 0;
+                    for (Long id : ids) {
+                        days += rebuild(id);
+                    }
+                    return new long[]{ids.size(), days};
+                });
+            }
+            int middle = ids.size() / 2;
+            RebuildTask left = new RebuildTask(ids.subList(0, middle));
+            RebuildTask right = new RebuildTask(ids.subList(middle, ids.size()));
+            left.fork();
+            long[] r = right.compute();
+            long[] l = left.join();
+            return new long[]{r[0] + l[0], r[1] + l[1]};
+        }
+    }
+}
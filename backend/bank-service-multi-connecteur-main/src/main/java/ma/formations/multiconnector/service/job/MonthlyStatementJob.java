@@ -0,0 +1,301 @@
+package ma.formations.multiconnector.service.job;
+
+import ma.formations.multiconnector.archive.TransactionArchive;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.transaction.MonthlyStatementsResponse;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.export.MonthlyStatementWriter;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.MonthlyStatementLine;
+import ma.formations.multiconnector.service.model.StatementAccount;
+import ma.formations.multiconnector.service.model.User;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.DateFormat;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Batch des relevés de fin de mois : pour chaque compte, solde d'ouverture, opérations du mois
+ * et solde de clôture, dans un fichier par client (bank.statements.directory/yyyy-MM/customer-&lt;id&gt;.ndjson).
+ * Les clients sont répartis récursivement entre les threads d'un ForkJoinPool ; chaque feuille lit
+ * les opérations de tous ses comptes en une seule requête en flux, dans sa propre transaction en lecture seule.
+ * Un fichier est écrit sous un nom temporaire puis renommé, et le client est alors inscrit dans le fichier
+ * de reprise (checkpoint) : relancé pour le même mois, le batch ne traite que les clients restants.
+ */
+@Component
+public class MonthlyStatementJob {
+
+    // Nombre de clients traités par une feuille (une requête en flux)
+    private static final int OWNERS_PER_TASK = 64;
+    private static final String CHECKPOINT = "checkpoint";
+    private static final String FILE_SUFFIX = ".ndjson";
+
+    private final BankAccountRepository bankAccountRepository;
+    private final BankAccountTransactionRepository bankAccountTransactionRepository;
+    private final UserRepository userRepository;
+    private final AccountBalanceService balanceService;
+    private final TransactionArchive transactionArchive;
+    private final TransferProperties transferProperties;
+    private final CommonTools commonTools;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public MonthlyStatementJob(BankAccountRepository bankAccountRepository,
+                               BankAccountTransactionRepository bankAccountTransactionRepository,
+                               UserRepository userRepository,
+                               AccountBalanceService balanceService,
+                               TransactionArchive transactionArchive,
+                               TransferProperties transferProperties,
+                               CommonTools commonTools,
+                               PlatformTransactionManager transactionManager) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.bankAccountTransactionRepository = bankAccountTransactionRepository;
+        this.userRepository = userRepository;
+        this.balanceService = balanceService;
+        this.transactionArchive = transactionArchive;
+        this.transferProperties = transferProperties;
+        this.commonTools = commonTools;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    /**
+     * @param value mois terminé, au format yyyy-MM
+     */
+    public synchronized MonthlyStatementsResponse generate(String value) {
+        YearMonth month;
+        try {
+            month = YearMonth.parse(value);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new BusinessException("Mois invalide (format attendu yyyy-MM) : " + value);
+        }
+        if (!month.isBefore(YearMonth.now())) {
+            throw new BusinessException("Les relevés ne sont produits que pour un mois terminé");
+        }
+        long start = System.currentTimeMillis();
+        Path directory = Path.of(transferProperties.getStatementsDirectory(), month.toString());
+        Date end = TransactionArchive.startOf(month.plusMonths(1));
+
+        long[] totals;
+        int skipped;
+        try {
+            Files.createDirectories(directory);
+            try (Checkpoint checkpoint = Checkpoint.open(directory.resolve(CHECKPOINT))) {
+                List<Owner> owners = owners(bankAccountRepository.findStatementAccounts(), end);
+                List<Owner> remaining = owners.stream().filter(owner -> !checkpoint.isDone(owner.key())).toList();
+                skipped = owners.size() - remaining.size();
+                ForkJoinPool pool = new ForkJoinPool(transferProperties.getStatementsParallelism());
+                try {
+                    totals = pool.invoke(new StatementTask(remaining, month, directory, checkpoint));
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long duration = System.currentTimeMillis() - start;
+        return MonthlyStatementsResponse.builder()
+                .message(String.format("Relevés %s : %d fichiers écrits (%d déjà produits), %d comptes, %d opérations en %d ms",
+                        month, totals[0], skipped, totals[1], totals[2], duration))
+                .month(month.toString())
+                .files((int) totals[0])
+                .skipped(skipped)
+                .accounts((int) totals[1])
+                .lines(totals[2])
+                .durationMs(duration)
+                .build();
+    }
+
+    /**
+     * Regroupe par client les comptes ouverts avant la fin du mois (déjà rangés par client, puis par compte) ;
+     * un compte sans client a son propre fichier
+     */
+    private static List<Owner> owners(List<StatementAccount> accounts, Date end) {
+        List<Owner> owners = new ArrayList<>();
+        Owner current = null;
+        for (StatementAccount account : accounts) {
+            if (account.createdAt() != null && !account.createdAt().before(end)) {
+                continue;
+            }
+            String key = account.customerId() != null
+                    ? "customer-" + account.customerId()
+                    : "account-" + account.accountId();
+            if (current == null || !current.key().equals(key)) {
+                current = new Owner(key, new ArrayList<>());
+                owners.add(current);
+            }
+            current.accounts().add(account);
+        }
+        return owners;
+    }
+
+    /**
+     * Écrit les fichiers d'un groupe de clients
+     * @return fichiers écrits, comptes et opérations
+     */
+    private long[] write(List<Owner> owners, YearMonth month, Path directory, Checkpoint checkpoint) {
+        Date from = TransactionArchive.startOf(month);
+        Date to = TransactionArchive.startOf(month.plusMonths(1));
+        Date beforeMonth = new Date(from.getTime() - 1);
+        DateFormat dates = commonTools.dateFormatter();
+        List<Long> ids = owners.stream()
+                .flatMap(owner -> owner.accounts().stream())
+                .map(StatementAccount::accountId)
+                .toList();
+        return readOnlyTemplate.execute(status -> {
+            Map<Long, BankAccount> accounts = bankAccountRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(BankAccount::getId, Function.identity()));
+            long accountCount = 0;
+            long lineCount = 0;
+            try (Stream<MonthlyStatementLine> stream = lines(ids, from, to)) {
+                Iterator<MonthlyStatementLine> lines = stream.iterator();
+                MonthlyStatementLine next = lines.hasNext() ? lines.next() : null;
+                for (Owner owner : owners) {
+                    Path file = directory.resolve(owner.key() + FILE_SUFFIX);
+                    Path temporary = directory.resolve(owner.key() + FILE_SUFFIX + ".tmp");
+                    try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                        MonthlyStatementWriter writer = new MonthlyStatementWriter(Channels.newOutputStream(channel), month, dates);
+                        for (StatementAccount account : owner.accounts()) {
+                            writer.openAccount(account.rib(),
+                                    balanceService.balanceAt(accounts.get(account.accountId()), beforeMonth));
+                            while (next != null && next.accountId().equals(account.accountId())) {
+                                writer.line(next);
+                                lineCount++;
+                                next = lines.hasNext() ? lines.next() : null;
+                            }
+                            writer.closeAccount();
+                            accountCount++;
+                        }
+                        writer.close();
+                        channel.force(true);
+                    }
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    checkpoint.markDone(owner.key());
+                }
+                if (next != null) {
+                    throw new IllegalStateException("Opération " + next.id() + " hors de l'ordre des comptes du relevé");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new long[]{owners.size(), accountCount, lineCount};
+        });
+    }
+
+    /**
+     * Opérations du mois pour les comptes donnés, dans l'ordre des comptes ;
+     * un mois archivé est relu dans l'archive, compte par compte
+     */
+    private Stream<MonthlyStatementLine> lines(List<Long> ids, Date from, Date to) {
+        Date hotFrom = transactionArchive.hotFrom();
+        if (hotFrom == null || !from.before(hotFrom)) {
+            return bankAccountTransactionRepository.streamMonthlyStatements(ids, from, to);
+        }
+        Map<Long, String> usernames = new HashMap<>();
+        Date last = new Date(to.getTime() - 1);
+        return ids.stream().flatMap(id -> transactionArchive.find(id, from, last).stream()
+                .map(row -> new MonthlyStatementLine(id, row.id(), row.createdAt(), row.transactionType(),
+                        row.amount(), row.userId() == null ? null : usernames.computeIfAbsent(row.userId(),
+                        userId -> userRepository.findById(userId).map(User::getUsername).orElse(null)))));
+    }
+
+    private record Owner(String key, List<StatementAccount> accounts) {
+    }
+
+    private class StatementTask extends RecursiveTask<long[]> {
+        private final List<Owner> owners;
+        private final YearMonth month;
+        private final Path directory;
+        private final Checkpoint checkpoint;
+
+        StatementTask(List<Owner> owners, YearMonth month, Path directory, Checkpoint checkpoint) {
+            this.owners = owners;
+            this.month = month;
+            this.directory = directory;
+            this.checkpoint = checkpoint;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (owners.size() <= OWNERS_PER_TASK) {
+                return owners.isEmpty() ? new long[3] : write(owners, month, directory, checkpoint);
+            }
+            int middle = owners.size() / 2;
+            StatementTask left = new StatementTask(owners.subList(0, middle), month, directory, checkpoint);
+            StatementTask right = new StatementTask(owners.subList(middle, owners.size()), month, directory, checkpoint);
+            left.fork();
+            long[] r = right.compute();
+            long[] l = left.join();
+            return new long[]{r[0] + l[0], r[1] + l[1], r[2] + l[2]};
+        }
+    }
+
+    /**
+     * Fichier de reprise : une ligne par client dont le fichier est complet, synchronisée avant de continuer
+     */
+    private static final class Checkpoint implements Closeable {
+        private final FileChannel channel;
+        private final Set<String> done;
+
+        private Checkpoint(FileChannel channel, Set<String> done) {
+            this.channel = channel;
+            this.done = done;
+        }
+
+        static Checkpoint open(Path file) throws IOException {
+            Set<String> done = Files.exists(file)
+                    ? new HashSet<>(Files.readAllLines(file, StandardCharsets.UTF_8))
+                    : new HashSet<>();
+            return new Checkpoint(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND), done);
+        }
+
+        boolean isDone(String key) {
+            return done.contains(key);
+        }
+
+        synchronized void markDone(String key) throws IOException {
+            channel.write(ByteBuffer.wrap((key + "\n").getBytes(StandardCharsets.UTF_8)));
+            channel.force(false);
+            done.add(key);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ma.formations.multiconnector.service.job;
+
+import ma.formations.multiconnector.archive.TransactionArchive;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dtos.transaction.ArchiveTransactionsResponse;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.TransactionRow;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.YearMonth;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Job d'archivage : les mois entièrement plus anciens que bank.archive.horizon-days quittent la table
+ * des opérations pour un segment de l'archive froide (TransactionArchive), un mois par transaction.
+ * Le segment est écrit et synchronisé, puis inscrit au manifeste (ArchiveSegment) dans la transaction
+ * qui supprime les lignes : il n'est lu qu'après ce commit, et un archivage annulé laisse les lignes en base.
+ * Seules les opérations d'identifiant supérieur aux segments existants sont archivées : l'horizon doit
+ * dépasser la durée de toute transaction en cours.
+ * Réservé au mode STORED : en mode LEDGER, le solde est recalculé depuis les opérations en base.
+ */
+@Component
+public class TransactionArchiveJob {
+
+    private final BankAccountTransactionRepository bankAccountTransactionRepository;
+    private final TransactionArchive transactionArchive;
+    private final AccountBalanceService balanceService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferProperties transferProperties;
+
+    public TransactionArchiveJob(BankAccountTransactionRepository bankAccountTransactionRepository,
+                                 TransactionArchive transactionArchive,
+                                 AccountBalanceService balanceService,
+                                 TransactionTemplate transactionTemplate,
+                                 TransferProperties transferProperties) {
+        this.bankAccountTransactionRepository = bankAccountTransactionRepository;
+        this.transactionArchive = transactionArchive;
+        this.balanceService = balanceService;
+        this.transactionTemplate = transactionTemplate;
+        this.transferProperties = transferProperties;
+    }
+
+    public synchronized ArchiveTransactionsResponse archiveOldMonths() {
+        if (balanceService.isLedger()) {
+            throw new BusinessException("L'archivage des opérations n'est disponible qu'en mode STORED");
+        }
+        long start = System.currentTimeMillis();
+        // Premier mois conservé en base : celui qui contient l'horizon
+        YearMonth firstKept = TransactionArchive.monthOf(
+                new Date(start - TimeUnit.DAYS.toMillis(transferProperties.getArchiveHorizonDays())));
+        Optional<Date> oldest = bankAccountTransactionRepository.findOldestCreatedAt();
+        int months = 0;
+        long transactions = 0;
+        if (oldest.isPresent()) {
+            for (YearMonth month = TransactionArchive.monthOf(oldest.get()); month.isBefore(firstKept);
+                 month = month.plusMonths(1)) {
+                long archived = archiveMonth(month);
+                if (archived > 0) {
+                    months++;
+                    transactions += archived;
+                }
+            }
+        }
+        long duration = System.currentTimeMillis() - start;
+        return ArchiveTransactionsResponse.builder()
+                .message(String.format("%d opérations archivées (%d mois) en %d ms", transactions, months, duration))
+                .months(months)
+                .transactions(transactions)
+                .durationMs(duration)
+                .build();
+    }
+
+    private long archiveMonth(YearMonth month) {
+        Date from = TransactionArchive.startOf(month);
+        Date to = TransactionArchive.startOf(month.plusMonths(1));
+        long covered = transactionArchive.archivedUpToId(month);
+        return transactionTemplate.execute(status -> {
+            long[] written;
+            try (Stream<TransactionRow> rows = bankAccountTransactionRepository.streamForArchive(from, to, covered)) {
+                written = transactionArchive.archive(month, rows.iterator());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (written == null) {
+                return 0L;
+            }
+            bankAccountTransactionRepository.deleteArchived(from, to, written[1]);
+            return written[0];
+        });
+    }
+}
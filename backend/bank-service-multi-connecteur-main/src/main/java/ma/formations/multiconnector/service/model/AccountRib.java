@@ -0,0 +1,7 @@
+package ma.formations.multiconnector.service.model;
+
+/**
+ * Couple (RIB, identifiant) lu par projection pour construire l'index des RIB
+ */
+public record AccountRib(String rib, Long id) {
+}
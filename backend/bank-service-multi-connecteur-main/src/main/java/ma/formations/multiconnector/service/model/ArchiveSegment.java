@@ -0,0 +1,32 @@
+package ma.formations.multiconnector.service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Manifeste de l'archive froide : un segment (fichier de bank.archive.directory) par ligne, inséré dans
+ * la transaction qui supprime de la base les opérations qu'il couvre. Un segment n'est relu que s'il figure
+ * dans le manifeste de cette base avec le même mois, les mêmes identifiants et le même nombre d'opérations :
+ * fichier d'un archivage annulé, ou écrit pour une autre base dans le même répertoire, est ignoré.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "ux_archive_segment_file", columnNames = "file_name"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class ArchiveSegment {
+    @Id
+    @GeneratedValue
+    private Long id;
+    @Column(name = "file_name")
+    private String fileName;
+    // Mois couvert, au format yyyy-MM
+    private String month;
+    private long minId;
+    private long maxId;
+    private int rowCount;
+}
@@ -11,6 +11,11 @@ import java.util.Date;
 import java.util.List;
 
 @Entity
+// Accès par RIB (unique) et par client ; vérifiés au démarrage par QueryPlanCheck
+@Table(indexes = {
+        @Index(name = "ux_bank_account_rib", columnList = "rib", unique = true),
+        @Index(name = "ix_bank_account_customer", columnList = "customer_id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -20,14 +25,23 @@ public class BankAccount {
     @GeneratedValue
     private Long id;
     private String rib;
-    private Double amount;
+    // Solde en centimes (cf. Money)
+    private long amount;
     private Date createdAt;
     @Enumerated(EnumType.STRING)
     private AccountStatus accountStatus;
     @ManyToOne
+    @JoinColumn(name = "customer_id")
     private Customer customer;
     @OneToMany(mappedBy = "bankAccount")
     private List<BankAccountTransaction> bankAccountTransactionList;
+    // Contrôle de concurrence optimiste des virements (mode OPTIMISTIC)
+    @Version
+    private Long version;
+    // Compte « chaud » : nombre de sous-soldes recevant les crédits (0 = compte non réparti)
+    private int subBalanceCount;
+    // Nombre d'opérations du compte (mode STORED), tenu à jour avec le solde : évite un COUNT(*) à l'affichage
+    private long transactionCount;
 
 
 }
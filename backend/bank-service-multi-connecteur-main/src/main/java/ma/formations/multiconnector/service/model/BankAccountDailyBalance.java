@@ -0,0 +1,47 @@
+package ma.formations.multiconnector.service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Agrégat journalier d'un compte : soldes d'ouverture et de clôture, nombre et somme des débits et crédits.
+ * Une ligne par (compte, jour, rangée) : la rangée 0 porte le solde d'ouverture, les débits et les crédits
+ * d'un compte non réparti ; les rangées 1..K reçoivent les crédits des sous-soldes d'un compte chaud
+ * (solde d'ouverture nul). Le jour du compte est la somme de ses rangées.
+ * Le compte est référencé par son identifiant seul (pas de clé étrangère) : la ligne est insérée
+ * sans verrouiller la ligne du compte, pas plus que les crédits d'un compte réparti.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "ux_daily_balance_account_day_slot",
+        columnNames = {"bank_account_id", "business_day", "slot"}))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class BankAccountDailyBalance {
+    @Id
+    // Séquence nommée : DailyBalanceService insère aussi des lignes par MERGE (next value for).
+    // Chaque valeur tirée réserve son propre bloc, celle prise par le MERGE n'est jamais réutilisée par Hibernate.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bank_account_daily_balance_seq")
+    @SequenceGenerator(name = "bank_account_daily_balance_seq", sequenceName = "bank_account_daily_balance_seq",
+            allocationSize = 50)
+    private Long id;
+    @Column(name = "bank_account_id")
+    private Long bankAccountId;
+    @Column(name = "business_day")
+    private LocalDate businessDay;
+    @Column(name = "slot")
+    private int slot;
+    // Montants en centimes (cf. Money)
+    private long openingBalance;
+    private long closingBalance;
+    private long debitCount;
+    private long debitSum;
+    private long creditCount;
+    private long creditSum;
+}
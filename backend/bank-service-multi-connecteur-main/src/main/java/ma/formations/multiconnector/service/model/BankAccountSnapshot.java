@@ -0,0 +1,34 @@
+package ma.formations.multiconnector.service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Instantané du solde d'un compte (mode LEDGER) : solde en centimes incluant
+ * toutes les opérations d'identifiant inférieur ou égal à upToId (filigrane des opérations validées,
+ * cf. LedgerWatermark), quelle que soit leur date.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class BankAccountSnapshot {
+    @Id
+    @GeneratedValue
+    private Long id;
+    @ManyToOne
+    private BankAccount bankAccount;
+    // Solde en centimes (cf. Money)
+    private long balance;
+    private long upToId;
+    // Nombre d'opérations couvertes depuis l'ouverture du compte
+    private long entryCount;
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date createdAt;
+}
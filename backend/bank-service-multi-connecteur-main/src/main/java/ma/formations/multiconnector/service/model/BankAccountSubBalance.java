@@ -0,0 +1,32 @@
+package ma.formations.multiconnector.service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sous-solde d'un compte « chaud » (mode STORED) : les crédits sont répartis
+ * en tourniquet sur K sous-soldes pour ne pas tous mettre à jour la même ligne.
+ * Solde logique du compte = BankAccount.amount + somme des sous-soldes.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"bank_account_id", "slot"}))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class BankAccountSubBalance {
+    @Id
+    @GeneratedValue
+    private Long id;
+    @ManyToOne
+    @JoinColumn(name = "bank_account_id")
+    private BankAccount bankAccount;
+    private int slot;
+    // Montant en centimes (cf. Money)
+    private long amount;
+    // Opérations (crédits) cumulées sur ce sous-solde depuis le dernier reversement
+    private long entryCount;
+}
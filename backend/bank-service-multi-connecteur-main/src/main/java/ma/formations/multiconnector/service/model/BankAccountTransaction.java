@@ -10,6 +10,13 @@ import ma.formations.multiconnector.enums.TransactionType;
 import java.util.Date;
 
 @Entity
+// Historique d'un compte par date (pages, relevés), queue du registre par identifiant (mode LEDGER)
+// et reprise du journal ; vérifiés au démarrage par QueryPlanCheck
+@Table(indexes = {
+        @Index(name = "ix_transaction_account_created", columnList = "bank_account_id, created_at, id"),
+        @Index(name = "ix_transaction_account_id", columnList = "bank_account_id, id"),
+        @Index(name = "ix_transaction_journal_seq", columnList = "journal_seq")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -20,14 +27,25 @@ public class BankAccountTransaction {
     private Long id;
 
     @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "created_at")
     private Date createdAt;
 
     @Enumerated(EnumType.STRING)
     private TransactionType transactionType;
-    private Double amount;
+    // Montant en centimes (cf. Money)
+    private long amount;
     @ManyToOne
+    @JoinColumn(name = "bank_account_id")
     private BankAccount bankAccount;
 
     @ManyToOne
     private User user;
+
+    // Numéro de séquence dans le journal des virements (null si le journal est désactivé)
+    @Column(name = "journal_seq")
+    private Long journalSeq;
+
+    // Solde du compte après l'opération, en centimes, écrit dans la transaction du virement ;
+    // null si la ligne du compte ne porte pas le solde (mode LEDGER, compte réparti en sous-soldes)
+    private Long balanceAfter;
 }
@@ -0,0 +1,32 @@
+package ma.formations.multiconnector.service.model;
+
+import ma.formations.multiconnector.enums.AccountStatus;
+
+import java.util.Date;
+
+/**
+ * Projection en lecture d'un compte et de son client (champs client null si le compte n'en a pas)
+ */
+public interface BankAccountView {
+    Long getId();
+
+    String getRib();
+
+    Long getAmount();
+
+    Date getCreatedAt();
+
+    AccountStatus getAccountStatus();
+
+    Integer getSubBalanceCount();
+
+    Long getCustomerId();
+
+    String getCustomerUsername();
+
+    String getCustomerIdentityRef();
+
+    String getCustomerFirstname();
+
+    String getCustomerLastname();
+}
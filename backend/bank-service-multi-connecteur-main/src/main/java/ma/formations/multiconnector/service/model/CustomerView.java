@@ -0,0 +1,16 @@
+package ma.formations.multiconnector.service.model;
+
+/**
+ * Projection en lecture d'un client, limitée aux champs de CustomerDto
+ */
+public interface CustomerView {
+    Long getId();
+
+    String getUsername();
+
+    String getIdentityRef();
+
+    String getFirstname();
+
+    String getLastname();
+}
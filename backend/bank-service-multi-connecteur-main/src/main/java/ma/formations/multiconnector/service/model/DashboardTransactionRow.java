@@ -0,0 +1,14 @@
+package ma.formations.multiconnector.service.model;
+
+import ma.formations.multiconnector.enums.TransactionType;
+
+import java.util.Date;
+
+/**
+ * Opération telle qu'affichée sur le tableau de bord (UC-4) : uniquement les colonnes rendues,
+ * utilisateur compris, lues en une seule requête
+ * @param amount montant en centimes
+ */
+public record DashboardTransactionRow(Long id, Date createdAt, TransactionType transactionType, long amount,
+                                      String username, String firstname, String lastname) {
+}
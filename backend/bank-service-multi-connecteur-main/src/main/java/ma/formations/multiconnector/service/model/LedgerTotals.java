@@ -0,0 +1,9 @@
+package ma.formations.multiconnector.service.model;
+
+/**
+ * Cumul des opérations d'un compte sur une période (mode LEDGER)
+ * @param net crédits moins débits, en centimes
+ * @param entries nombre d'opérations
+ */
+public record LedgerTotals(Long net, Long entries) {
+}
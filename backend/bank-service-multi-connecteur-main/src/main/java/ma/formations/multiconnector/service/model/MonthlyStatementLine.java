@@ -0,0 +1,13 @@
+package ma.formations.multiconnector.service.model;
+
+import ma.formations.multiconnector.enums.TransactionType;
+
+import java.util.Date;
+
+/**
+ * Ligne du relevé mensuel, lue en flux pour tout un groupe de comptes (MonthlyStatementJob)
+ * @param amount montant en centimes
+ */
+public record MonthlyStatementLine(Long accountId, Long id, Date createdAt, TransactionType transactionType,
+                                   long amount, String username) {
+}
@@ -0,0 +1,18 @@
+package ma.formations.multiconnector.service.model;
+
+import ma.formations.multiconnector.enums.TransactionType;
+
+/**
+ * Solde courant porté par une opération (BankAccountTransaction.balanceAfter)
+ * @param balanceAfter solde du compte après l'opération, en centimes (null s'il n'est pas tenu)
+ * @param amount montant de l'opération, en centimes
+ */
+public record RunningBalance(Long balanceAfter, TransactionType transactionType, long amount) {
+
+    /**
+     * Solde du compte juste avant l'opération
+     */
+    public long balanceBefore() {
+        return transactionType == TransactionType.CREDIT ? balanceAfter - amount : balanceAfter + amount;
+    }
+}
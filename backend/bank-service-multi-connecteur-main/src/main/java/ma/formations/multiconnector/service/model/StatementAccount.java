@@ -0,0 +1,9 @@
+package ma.formations.multiconnector.service.model;
+
+import java.util.Date;
+
+/**
+ * Compte à inclure dans les relevés mensuels, avec son client (null si le compte n'en a pas)
+ */
+public record StatementAccount(Long accountId, String rib, Long customerId, Date createdAt) {
+}
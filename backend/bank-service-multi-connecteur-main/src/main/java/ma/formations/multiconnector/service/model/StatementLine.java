@@ -0,0 +1,19 @@
+package ma.formations.multiconnector.service.model;
+
+import ma.formations.multiconnector.enums.TransactionType;
+
+import java.util.Date;
+
+/**
+ * Ligne de relevé lue directement par projection : hors contexte de persistance,
+ * rien ne s'accumule en mémoire pendant un export
+ * @param amount montant en centimes
+ * @param firstname prénom de l'utilisateur (historique gRPC, absent des relevés exportés)
+ */
+public record StatementLine(Long id, Date createdAt, TransactionType transactionType, long amount, String username,
+                            String firstname, String lastname) {
+
+    public StatementLine(Long id, Date createdAt, TransactionType transactionType, long amount, String username) {
+        this(id, createdAt, transactionType, amount, username, null, null);
+    }
+}
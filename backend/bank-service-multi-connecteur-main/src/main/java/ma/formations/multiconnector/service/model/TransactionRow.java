@@ -0,0 +1,15 @@
+package ma.formations.multiconnector.service.model;
+
+import ma.formations.multiconnector.enums.TransactionType;
+
+import java.util.Date;
+
+/**
+ * Opération réduite à ses colonnes, telle qu'écrite dans l'archive des opérations (TransactionArchive)
+ * @param amount montant en centimes
+ * @param userId null si l'opération n'a pas d'utilisateur
+ * @param balanceAfter solde du compte après l'opération, null s'il n'est pas porté (cf. BankAccountTransaction)
+ */
+public record TransactionRow(Long id, Long accountId, Date createdAt, TransactionType transactionType,
+                             long amount, Long userId, Long balanceAfter) {
+}
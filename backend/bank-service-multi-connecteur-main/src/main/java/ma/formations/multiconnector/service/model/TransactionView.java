@@ -0,0 +1,26 @@
+package ma.formations.multiconnector.service.model;
+
+import ma.formations.multiconnector.enums.TransactionType;
+
+import java.util.Date;
+
+/**
+ * Projection en lecture d'une opération et de son auteur (champs utilisateur null si l'opération n'en a pas)
+ */
+public interface TransactionView {
+    Long getId();
+
+    Date getCreatedAt();
+
+    TransactionType getTransactionType();
+
+    Long getAmount();
+
+    Long getUserId();
+
+    String getUsername();
+
+    String getFirstname();
+
+    String getLastname();
+}
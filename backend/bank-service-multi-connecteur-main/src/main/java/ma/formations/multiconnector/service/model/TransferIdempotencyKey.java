@@ -0,0 +1,53 @@
+package ma.formations.multiconnector.service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Date;
+
+/**
+ * Clé d'idempotence d'un virement : la réponse d'origine est conservée
+ * pour être renvoyée telle quelle en cas de rejeu par le client.
+ * Une clé n'est jamais modifiée : save() l'insère (persist) au lieu de la fusionner,
+ * si bien qu'une clé déjà présente, même dans la même transaction, est refusée.
+ */
+@Entity
+// Purge des clés expirées par date de création
+@Table(indexes = @Index(name = "ix_idempotency_key_created", columnList = "created_at"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class TransferIdempotencyKey implements Persistable<String> {
+    // username + ":" + clé fournie par le client
+    @Id
+    private String id;
+    private String username;
+    // ribFrom|ribTo|montant : une même clé ne peut pas servir à un autre virement
+    private String requestFingerprint;
+    @Lob
+    private String response;
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "created_at")
+    private Date createdAt;
+    // Faux tant que la clé n'a été ni lue ni insérée
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean stored;
+
+    @Override
+    public boolean isNew() {
+        return !stored;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        stored = true;
+    }
+}
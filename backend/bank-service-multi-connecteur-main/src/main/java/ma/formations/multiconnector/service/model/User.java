@@ -9,6 +9,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// Authentification par username, unicité de l'email (RG_6) ; vérifiés au démarrage par QueryPlanCheck
+@Table(indexes = {
+        @Index(name = "ux_user_username", columnList = "username", unique = true),
+        @Index(name = "ux_user_email", columnList = "email", unique = true)
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
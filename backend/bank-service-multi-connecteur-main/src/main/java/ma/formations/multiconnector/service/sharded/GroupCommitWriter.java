@@ -0,0 +1,248 @@
+package ma.formations.multiconnector.service.sharded;
+
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.journal.TransferJournal;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.BankAccountLookupCache;
+import ma.formations.multiconnector.service.DailyBalanceService;
+import ma.formations.multiconnector.service.TransferIdempotencyService;
+import ma.formations.multiconnector.service.dashboard.DashboardProjection;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.User;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Écrivain unique du moteur SHARDED : regroupe les virements validés par les shards
+ * et les persiste par lots dans une seule transaction (« group commit ») :
+ * insertion des opérations DEBIT/CREDIT et mise à jour des soldes par cumul.
+ * Si le lot échoue, chaque virement est rejoué seul ; un virement qui échoue
+ * encore est annulé dans les soldes en mémoire des shards.
+ * Les opérations sont datées au commit du lot : l'ordre (date, id) est celui des soldes courants écrits.
+ * La réponse de chaque virement porte le solde de ses comptes juste après lui, pas à la fin du lot.
+ */
+class GroupCommitWriter implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitWriter.class);
+
+    private static final PendingTransfer STOP = new PendingTransfer(null, null, null, null, null, 0);
+
+    private final BlockingQueue<PendingTransfer> ring;
+    private final int groupCommitSize;
+    private final ShardedTransferEngine engine;
+    private final BankAccountRepository bankAccountRepository;
+    private final BankAccountTransactionRepository bankAccountTransactionRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ModelMapper modelMapper;
+    private final TransferIdempotencyService idempotencyService;
+    private final TransferJournal transferJournal;
+    private final AccountBalanceService balanceService;
+    private final DashboardProjection dashboardProjection;
+    private final BankAccountLookupCache accountCache;
+    private final DailyBalanceService dailyBalanceService;
+
+    GroupCommitWriter(int ringSize, int groupCommitSize, ShardedTransferEngine engine,
+                      BankAccountRepository bankAccountRepository,
+                      BankAccountTransactionRepository bankAccountTransactionRepository,
+                      UserRepository userRepository, TransactionTemplate transactionTemplate,
+                      ModelMapper modelMapper, TransferIdempotencyService idempotencyService,
+                      TransferJournal transferJournal, AccountBalanceService balanceService,
+                      DashboardProjection dashboardProjection, BankAccountLookupCache accountCache,
+                      DailyBalanceService dailyBalanceService) {
+        this.ring = new ArrayBlockingQueue<>(ringSize);
+        this.groupCommitSize = groupCommitSize;
+        this.engine = engine;
+        this.bankAccountRepository = bankAccountRepository;
+        this.bankAccountTransactionRepository = bankAccountTransactionRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.modelMapper = modelMapper;
+        this.idempotencyService = idempotencyService;
+        this.transferJournal = transferJournal;
+        this.balanceService = balanceService;
+        this.dashboardProjection = dashboardProjection;
+        this.accountCache = accountCache;
+        this.dailyBalanceService = dailyBalanceService;
+    }
+
+    void submit(PendingTransfer transfer) {
+        try {
+            ring.put(transfer);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Group commit writer interrupted", e);
+        }
+    }
+
+    void stop() {
+        submit(STOP);
+    }
+
+    @Override
+    public void run() {
+        List<PendingTransfer> group = new ArrayList<>(groupCommitSize);
+        while (true) {
+            try {
+                group.add(ring.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // Tout ce qui est arrivé pendant le commit précédent part dans le même lot
+            ring.drainTo(group, groupCommitSize - 1);
+            boolean stop = group.remove(STOP);
+            if (!group.isEmpty()) {
+                commit(group);
+            }
+            group.clear();
+            if (stop) {
+                return;
+            }
+        }
+    }
+
+    private void commit(List<PendingTransfer> group) {
+        List<AddWirerTransferResponse> responses;
+        try {
+            responses = transactionTemplate.execute(status -> persist(group));
+        } catch (RuntimeException e) {
+            logger.warn("Group commit of {} transfers failed, retrying one by one", group.size(), e);
+            group.forEach(this::commitAlone);
+            return;
+        }
+        for (int i = 0; i < group.size(); i++) {
+            complete(group.get(i), responses.get(i));
+        }
+    }
+
+    private void commitAlone(PendingTransfer transfer) {
+        try {
+            complete(transfer, transactionTemplate.execute(status -> persist(List.of(transfer))).get(0));
+        } catch (RuntimeException e) {
+            // Annuler le virement dans les soldes en mémoire
+            engine.shardOf(transfer.request.getRibFrom()).adjust(transfer.idFrom, transfer.amount);
+            engine.shardOf(transfer.request.getRibTo()).adjust(transfer.idTo, -transfer.amount);
+            transfer.result.completeExceptionally(e);
+        }
+    }
+
+    private void complete(PendingTransfer transfer, AddWirerTransferResponse response) {
+        if (transfer.idempotencyKey() != null) {
+            idempotencyService.remember(transfer.username, transfer.idempotencyKey(), transfer.request, response);
+        }
+        transfer.result.complete(response);
+    }
+
+    private List<AddWirerTransferResponse> persist(List<PendingTransfer> group) {
+        // RG_13 / RG_14 : une seule mise à jour par compte, avec le cumul des débits et crédits du lot
+        Map<Long, Long> deltas = new HashMap<>();
+        Map<Long, Long> entries = new HashMap<>();
+        for (PendingTransfer transfer : group) {
+            deltas.merge(transfer.idFrom, -transfer.amount, Long::sum);
+            deltas.merge(transfer.idTo, transfer.amount, Long::sum);
+            entries.merge(transfer.idFrom, 1L, Long::sum);
+            entries.merge(transfer.idTo, 1L, Long::sum);
+        }
+        // En mode LEDGER les opérations insérées suffisent : aucune ligne de compte n'est modifiée
+        if (!balanceService.isLedger()) {
+            deltas.forEach((id, delta) -> bankAccountRepository.addToAmount(id, delta, entries.get(id)));
+        }
+        balanceService.registerLedgerWrite();
+
+        Map<Long, BankAccount> accounts = bankAccountRepository.findAllById(deltas.keySet()).stream()
+                .collect(Collectors.toMap(BankAccount::getId, Function.identity()));
+        accounts.values().forEach(accountCache::evictAfterCompletion);
+        Map<Long, User> users = new HashMap<>();
+        Date now = new Date();
+
+        // Soldes courants des comptes qui le portent : solde relu après le cumul, moins le cumul du lot,
+        // puis suivi virement par virement dans l'ordre du lot
+        Map<Long, Long> running = new HashMap<>();
+        accounts.values().stream()
+                .filter(account -> balanceService.runningBalance(account) != null)
+                .forEach(account -> running.put(account.getId(), account.getAmount() - deltas.get(account.getId())));
+
+        // RG_15 : Tracer les deux opérations de chaque virement
+        List<BankAccountTransaction> transactions = new ArrayList<>(group.size() * 2);
+        for (PendingTransfer transfer : group) {
+            User user = users.computeIfAbsent(transfer.user.getId(), userRepository::getReferenceById);
+            // Journalisé avant le commit du lot : un seul fsync pour tout le lot
+            Long journalSeq = transferJournal.append(transfer.idFrom, transfer.idTo, transfer.amount,
+                    now.getTime(), transfer.user.getId());
+            transactions.add(newTransaction(transfer, TransactionType.DEBIT, accounts.get(transfer.idFrom), user,
+                    now, journalSeq, running.computeIfPresent(transfer.idFrom, (id, balance) -> balance - transfer.amount)));
+            transactions.add(newTransaction(transfer, TransactionType.CREDIT, accounts.get(transfer.idTo), user,
+                    now, journalSeq, running.computeIfPresent(transfer.idTo, (id, balance) -> balance + transfer.amount)));
+        }
+        bankAccountTransactionRepository.saveAll(transactions);
+        // Solde exposé dans chaque réponse : solde de fin de lot (tous modes) moins le cumul du lot,
+        // puis suivi virement par virement
+        Map<Long, Long> shown = new HashMap<>();
+        accounts.values().forEach(account ->
+                shown.put(account.getId(), balanceService.balanceOf(account) - deltas.get(account.getId())));
+        // Le lot ne passe pas par les sous-soldes : tout va sur la rangée 0 de chaque jour
+        DailyBalanceService.Rollup dailyTotals = dailyBalanceService.newRollup();
+        transactions.forEach(dailyTotals::add);
+        dailyBalanceService.apply(dailyTotals);
+        for (int i = 0; i < group.size(); i++) {
+            dashboardProjection.recordTransfer(group.get(i).user, transactions.get(2 * i), transactions.get(2 * i + 1));
+        }
+
+        List<AddWirerTransferResponse> responses = new ArrayList<>(group.size());
+        for (int i = 0; i < group.size(); i++) {
+            PendingTransfer transfer = group.get(i);
+            TransactionDto transactionFrom = modelMapper.map(transactions.get(2 * i), TransactionDto.class);
+            TransactionDto transactionTo = modelMapper.map(transactions.get(2 * i + 1), TransactionDto.class);
+            transactionFrom.getBankAccount().setAmount(Money.toMad(shown.merge(transfer.idFrom, -transfer.amount, Long::sum)));
+            transactionTo.getBankAccount().setAmount(Money.toMad(shown.merge(transfer.idTo, transfer.amount, Long::sum)));
+            AddWirerTransferResponse response = AddWirerTransferResponse.builder()
+                    .message(String.format(
+                            "Virement de %s MAD du compte %s vers le compte %s effectué avec succès",
+                            Money.format(transfer.amount), transfer.request.getRibFrom(), transfer.request.getRibTo()))
+                    .transactionFrom(transactionFrom)
+                    .transactionTo(transactionTo)
+                    .build();
+            if (transfer.idempotencyKey() != null) {
+                // Clé insérée, jamais fusionnée : une clé en double dans le lot fait échouer le lot,
+                // puis le doublon échoue seul et son débit est annulé en mémoire
+                idempotencyService.record(transfer.username, transfer.idempotencyKey(), transfer.request, response);
+            }
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private BankAccountTransaction newTransaction(PendingTransfer transfer, TransactionType type,
+                                                  BankAccount bankAccount, User user, Date createdAt,
+                                                  Long journalSeq, Long balanceAfter) {
+        return BankAccountTransaction.builder()
+                .amount(transfer.amount)
+                .transactionType(type)
+                .bankAccount(bankAccount)
+                .user(user)
+                .createdAt(createdAt)
+                .journalSeq(journalSeq)
+                .balanceAfter(balanceAfter)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package ma.formations.multiconnector.service.sharded;
+
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.service.model.User;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Virement en cours de traitement dans le moteur SHARDED :
+ * débit sur le shard émetteur, crédit sur le shard destinataire, puis commit groupé.
+ */
+class PendingTransfer {
+    final AddWirerTransferRequest request;
+    final String username;
+    final User user;
+    final Long idFrom;
+    final Long idTo;
+    final long amount;
+    final CompletableFuture<AddWirerTransferResponse> result = new CompletableFuture<>();
+    // Débit / crédit appliqués aux soldes en mémoire des shards (à solder à la fin du virement)
+    volatile boolean debited;
+    volatile boolean credited;
+
+    PendingTransfer(AddWirerTransferRequest request, String username, User user, Long idFrom, Long idTo, long amount) {
+        this.request = request;
+        this.username = username;
+        this.user = user;
+        this.idFrom = idFrom;
+        this.idTo = idTo;
+        this.amount = amount;
+    }
+
+    String idempotencyKey() {
+        String key = request.getIdempotencyKey();
+        return key == null || key.isBlank() ? null : key;
+    }
+}
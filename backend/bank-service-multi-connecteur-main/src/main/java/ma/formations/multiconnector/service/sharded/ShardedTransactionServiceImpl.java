@@ -0,0 +1,301 @@
+package ma.formations.multiconnector.service.sharded;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchResponse;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.dtos.transaction.BalanceAtDto;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionPageRequest;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPageDto;
+import ma.formations.multiconnector.dtos.transaction.WirerTransferLineResult;
+import ma.formations.multiconnector.enums.TransferPhase;
+import ma.formations.multiconnector.journal.TransferJournal;
+import ma.formations.multiconnector.metrics.TransferLatencyMetrics;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.BankAccountLookupCache;
+import ma.formations.multiconnector.service.DailyBalanceService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.TransactionServiceImpl;
+import ma.formations.multiconnector.service.dashboard.DashboardProjection;
+import ma.formations.multiconnector.service.TransferIdempotencyService;
+import ma.formations.multiconnector.service.TransferRules;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.User;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * UC-5 : moteur de virement SHARDED (bank.transfer.engine=SHARDED)
+ * Les contrôles sans état (montant, utilisateur, existence et statut des comptes) sont faits
+ * par le thread appelant ; le solde est vérifié et modifié sans verrou par le shard propriétaire
+ * du compte émetteur, puis le crédit est transmis au shard du compte destinataire.
+ * La réponse est renvoyée une fois le virement persisté par le commit groupé.
+ * Les soldes en mémoire des shards sont ceux de la base plus les virements en cours du moteur ;
+ * un mouvement validé hors du moteur (reprise du journal, moteur TRANSACTIONAL appelé directement)
+ * les fait relire (AccountBalanceService.addBalanceListener).
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "bank.transfer.engine", havingValue = "SHARDED")
+public class ShardedTransactionServiceImpl implements ITransactionService {
+
+    private final BankAccountRepository bankAccountRepository;
+    private final UserRepository userRepository;
+    private final TransferProperties transferProperties;
+    private final TransferIdempotencyService idempotencyService;
+    private final TransactionServiceImpl transactionalService;
+    private final ShardedTransferEngine engine;
+    private final TransferLatencyMetrics latencyMetrics;
+    private final BankAccountLookupCache accountCache;
+    // Virements en cours par clé d'idempotence (username:clé)
+    private final ConcurrentMap<String, CompletableFuture<Void>> inFlightKeys = new ConcurrentHashMap<>();
+
+    public ShardedTransactionServiceImpl(BankAccountRepository bankAccountRepository,
+                                         BankAccountTransactionRepository bankAccountTransactionRepository,
+                                         UserRepository userRepository,
+                                         ModelMapper modelMapper,
+                                         TransactionTemplate transactionTemplate,
+                                         TransferProperties transferProperties,
+                                         TransferIdempotencyService idempotencyService,
+                                         TransactionServiceImpl transactionalService,
+                                         TransferJournal transferJournal,
+                                         AccountBalanceService balanceService,
+                                         TransferLatencyMetrics latencyMetrics,
+                                         DashboardProjection dashboardProjection,
+                                         BankAccountLookupCache accountCache,
+                                         DailyBalanceService dailyBalanceService) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.userRepository = userRepository;
+        this.transferProperties = transferProperties;
+        this.idempotencyService = idempotencyService;
+        this.transactionalService = transactionalService;
+        this.latencyMetrics = latencyMetrics;
+        this.accountCache = accountCache;
+        this.engine = new ShardedTransferEngine(transferProperties, bankAccountRepository,
+                bankAccountTransactionRepository, userRepository, transactionTemplate,
+                modelMapper, idempotencyService, transferJournal, balanceService, dashboardProjection,
+                accountCache, dailyBalanceService);
+        balanceService.addBalanceListener(engine::invalidate);
+    }
+
+    @PostConstruct
+    void start() {
+        engine.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        engine.stop();
+    }
+
+    /**
+     * Phases mesurées : USER_LOOKUP, ACCOUNT_LOOKUP, RULE_CHECKS (RG_11) sur le thread appelant,
+     * puis COMMIT = attente du shard et du commit groupé (RG_12, insertions et mapping inclus)
+     */
+    @Override
+    public AddWirerTransferResponse wiredTransfer(AddWirerTransferRequest dto, String username) {
+        latencyMetrics.start();
+        try {
+            return wiredTransferIdempotent(dto, username);
+        } finally {
+            latencyMetrics.finish();
+        }
+    }
+
+    /**
+     * Une seule requête par clé d'idempotence traverse le pipeline à la fois : les suivantes
+     * attendent son issue puis renvoient sa réponse (ou retentent si elle a échoué).
+     * Deux virements de même clé ne peuvent donc pas partir dans le même commit groupé.
+     */
+    private AddWirerTransferResponse wiredTransferIdempotent(AddWirerTransferRequest dto, String username) {
+        String idempotencyKey = dto.getIdempotencyKey();
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return transfer(dto, username);
+        }
+        String inFlightId = username + ":" + idempotencyKey;
+        while (true) {
+            Optional<AddWirerTransferResponse> replay = idempotencyService.findReplay(username, idempotencyKey, dto);
+            if (replay.isPresent()) {
+                return replay.get();
+            }
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            CompletableFuture<Void> running = inFlightKeys.putIfAbsent(inFlightId, done);
+            if (running == null) {
+                try {
+                    return transfer(dto, username);
+                } catch (DataIntegrityViolationException e) {
+                    // Clé déjà enregistrée par une autre instance : renvoyer la réponse enregistrée
+                    return idempotencyService.findReplay(username, idempotencyKey, dto).orElseThrow(() -> e);
+                } finally {
+                    inFlightKeys.remove(inFlightId, done);
+                    done.complete(null);
+                }
+            }
+            running.join();
+        }
+    }
+
+    private AddWirerTransferResponse transfer(AddWirerTransferRequest dto, String username) {
+        User user = findUser(username);
+        latencyMetrics.mark(TransferPhase.USER_LOOKUP);
+        AddWirerTransferResponse response = await(submit(dto, username, user));
+        latencyMetrics.mark(TransferPhase.COMMIT);
+        return response;
+    }
+
+    /**
+     * Lot de virements : toutes les lignes sont soumises au pipeline puis attendues.
+     * Contrairement au moteur TRANSACTIONAL, chaque ligne est persistée indépendamment.
+     * Une ligne portant une clé d'idempotence déjà utilisée est un rejeu : elle n'est pas soumise.
+     */
+    @Override
+    public AddWirerTransferBatchResponse wiredTransferBatch(AddWirerTransferBatchRequest dto, String username) {
+        List<AddWirerTransferRequest> lines = dto.getTransfers();
+        if (lines == null || lines.isEmpty()) {
+            throw new BusinessException("Le lot de virements est vide");
+        }
+        if (lines.size() > transferProperties.getBatchMaxSize()) {
+            throw new BusinessException(String.format(
+                    "Le lot contient %d virements (maximum autorisé : %d)",
+                    lines.size(), transferProperties.getBatchMaxSize()));
+        }
+        User user = findUser(username);
+
+        List<CompletableFuture<AddWirerTransferResponse>> pending = new ArrayList<>(lines.size());
+        List<WirerTransferLineResult> results = new ArrayList<>(lines.size());
+        Map<String, Integer> keys = new HashMap<>();
+        Set<Integer> replayed = new HashSet<>();
+        for (int i = 0; i < lines.size(); i++) {
+            AddWirerTransferRequest line = lines.get(i);
+            results.add(WirerTransferLineResult.builder()
+                    .line(i)
+                    .ribFrom(line.getRibFrom())
+                    .ribTo(line.getRibTo())
+                    .amount(line.getAmount())
+                    .build());
+            String idempotencyKey = line.getIdempotencyKey() == null || line.getIdempotencyKey().isBlank()
+                    ? null
+                    : line.getIdempotencyKey();
+            try {
+                if (idempotencyKey != null) {
+                    TransferRules.checkBatchKey(keys, idempotencyKey, i);
+                    Optional<AddWirerTransferResponse> replay =
+                            idempotencyService.findReplay(username, idempotencyKey, line);
+                    if (replay.isPresent()) {
+                        replayed.add(i);
+                        pending.add(CompletableFuture.completedFuture(replay.get()));
+                        continue;
+                    }
+                }
+                pending.add(submit(line, username, user));
+            } catch (BusinessException e) {
+                pending.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        int succeeded = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            WirerTransferLineResult result = results.get(i);
+            try {
+                await(pending.get(i));
+                result.setSuccess(true);
+                result.setMessage(replayed.contains(i)
+                        ? String.format("Virement déjà effectué (clé d'idempotence %s)",
+                                lines.get(i).getIdempotencyKey())
+                        : "Virement effectué");
+                succeeded++;
+            } catch (RuntimeException e) {
+                // Ligne rejetée (règle métier ou échec de persistance) : les autres lignes sont conservées
+                result.setSuccess(false);
+                result.setMessage(e.getMessage());
+            }
+        }
+        return AddWirerTransferBatchResponse.builder()
+                .message(String.format("Lot de %d virements traité : %d effectués, %d rejetés",
+                        lines.size(), succeeded, lines.size() - succeeded))
+                .succeeded(succeeded)
+                .failed(lines.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    @Override
+    public List<TransactionDto> getTransactions(GetTransactionListRequest dto) {
+        return transactionalService.getTransactions(dto);
+    }
+
+    @Override
+    public TransactionPageDto getTransactionPage(GetTransactionPageRequest dto) {
+        return transactionalService.getTransactionPage(dto);
+    }
+
+    @Override
+    public BalanceAtDto balanceAt(String rib, String at) {
+        return transactionalService.balanceAt(rib, at);
+    }
+
+    private CompletableFuture<AddWirerTransferResponse> submit(AddWirerTransferRequest dto, String username, User user) {
+        long amount = Money.ofMad(dto.getAmount());
+        TransferRules.checkAmount(amount);
+        // Identifiants résolus par l'index des RIB, comptes relus par clé primaire (statut à jour)
+        BankAccount bankAccountFrom = accountCache.findIdByRib(dto.getRibFrom())
+                .flatMap(bankAccountRepository::findById)
+                .orElseThrow(() -> TransferRules.accountNotFound(dto.getRibFrom()));
+        BankAccount bankAccountTo = accountCache.findIdByRib(dto.getRibTo())
+                .flatMap(bankAccountRepository::findById)
+                .orElseThrow(() -> TransferRules.recipientNotFound(dto.getRibTo()));
+        latencyMetrics.mark(TransferPhase.ACCOUNT_LOOKUP);
+        // RG_11 : le statut est contrôlé ici, RG_12 (solde) par le shard du compte émetteur
+        TransferRules.checkAccountStatus(bankAccountFrom, bankAccountTo);
+        latencyMetrics.mark(TransferPhase.RULE_CHECKS);
+
+        return engine.submit(new PendingTransfer(dto, username, user,
+                bankAccountFrom.getId(), bankAccountTo.getId(), amount));
+    }
+
+    private User findUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new BusinessException(
+                        String.format("Utilisateur [%s] introuvable", username)));
+    }
+
+    private static AddWirerTransferResponse await(CompletableFuture<AddWirerTransferResponse> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Virement interrompu");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
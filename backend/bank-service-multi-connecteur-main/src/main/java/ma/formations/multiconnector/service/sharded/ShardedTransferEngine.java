@@ -0,0 +1,130 @@
+package ma.formations.multiconnector.service.sharded;
+
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.journal.TransferJournal;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.BankAccountLookupCache;
+import ma.formations.multiconnector.service.DailyBalanceService;
+import ma.formations.multiconnector.service.TransferIdempotencyService;
+import ma.formations.multiconnector.service.dashboard.DashboardProjection;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccount;
+import org.modelmapper.ModelMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline du moteur SHARDED : N shards mono-thread (répartition par hachage du RIB)
+ * et un écrivain unique pour le commit groupé.
+ * Le nombre de virements en vol est borné par la taille d'anneau, ce qui garantit
+ * qu'aucun anneau ne déborde et applique une contre-pression aux appelants.
+ * Chaque virement terminé est soldé auprès des shards qui l'ont appliqué en mémoire (TransferShard.settled).
+ */
+class ShardedTransferEngine {
+
+    private static final long SUBMIT_TIMEOUT_SECONDS = 5;
+
+    private final TransferShard[] shards;
+    private final GroupCommitWriter writer;
+    private final Semaphore inFlight;
+    private final List<Thread> threads = new ArrayList<>();
+
+    ShardedTransferEngine(TransferProperties transferProperties,
+                          BankAccountRepository bankAccountRepository,
+                          BankAccountTransactionRepository bankAccountTransactionRepository,
+                          UserRepository userRepository, TransactionTemplate transactionTemplate,
+                          ModelMapper modelMapper, TransferIdempotencyService idempotencyService,
+                          TransferJournal transferJournal, AccountBalanceService balanceService,
+                          DashboardProjection dashboardProjection, BankAccountLookupCache accountCache,
+                          DailyBalanceService dailyBalanceService) {
+        int ringSize = transferProperties.getShardRingSize();
+        this.inFlight = new Semaphore(ringSize);
+        this.shards = new TransferShard[transferProperties.getShardCount()];
+        for (int i = 0; i < shards.length; i++) {
+            // Un virement en vol occupe au plus une commande, deux corrections et deux soldes dans un même anneau
+            shards[i] = new TransferShard(i, 5 * ringSize, bankAccountRepository, balanceService, this);
+        }
+        this.writer = new GroupCommitWriter(ringSize, transferProperties.getGroupCommitSize(), this,
+                bankAccountRepository, bankAccountTransactionRepository, userRepository,
+                transactionTemplate, modelMapper, idempotencyService, transferJournal, balanceService,
+                dashboardProjection, accountCache, dailyBalanceService);
+    }
+
+    void start() {
+        for (TransferShard shard : shards) {
+            threads.add(startThread(shard, shard.toString()));
+        }
+        threads.add(startThread(writer, "TransferGroupCommitWriter"));
+    }
+
+    /**
+     * Arrêt ordonné : les shards traitent leurs commandes en attente, puis l'écrivain vide son anneau
+     */
+    void stop() throws InterruptedException {
+        for (TransferShard shard : shards) {
+            shard.stop();
+        }
+        for (int i = 0; i < shards.length; i++) {
+            threads.get(i).join();
+        }
+        writer.stop();
+        threads.get(shards.length).join();
+    }
+
+    CompletableFuture<AddWirerTransferResponse> submit(PendingTransfer transfer) {
+        try {
+            if (!inFlight.tryAcquire(SUBMIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new BusinessException("Le service de virement est saturé, veuillez réessayer");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Virement interrompu");
+        }
+        transfer.result.whenComplete((response, error) -> {
+            settle(transfer);
+            inFlight.release();
+        });
+        shardOf(transfer.request.getRibFrom()).debit(transfer);
+        return transfer.result;
+    }
+
+    /**
+     * Le solde du compte a été modifié hors du moteur (mouvement validé) : le shard propriétaire le relira
+     */
+    void invalidate(BankAccount bankAccount) {
+        shardOf(bankAccount.getRib()).invalidate(bankAccount.getId());
+    }
+
+    private void settle(PendingTransfer transfer) {
+        if (transfer.debited) {
+            shardOf(transfer.request.getRibFrom()).settled(transfer.idFrom);
+        }
+        if (transfer.credited) {
+            shardOf(transfer.request.getRibTo()).settled(transfer.idTo);
+        }
+    }
+
+    TransferShard shardOf(String rib) {
+        return shards[Math.floorMod(rib.hashCode(), shards.length)];
+    }
+
+    GroupCommitWriter writer() {
+        return writer;
+    }
+
+    private static Thread startThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
@@ -0,0 +1,215 @@
+package ma.formations.multiconnector.service.sharded;
+
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.TransferRules;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shard mono-thread : seul propriétaire des soldes de ses comptes, il les modifie sans verrou.
+ * Les commandes arrivent par un anneau borné pré-alloué (ArrayBlockingQueue).
+ * Le solde d'un compte est chargé depuis la base au premier accès, puis maintenu en mémoire.
+ * Un mouvement validé hors du moteur (invalidate) fait relire le solde en base dès qu'aucun virement
+ * du moteur n'est plus en cours sur le compte : tant qu'il y en a, la base ne porte pas encore leur effet.
+ */
+class TransferShard implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferShard.class);
+
+    private sealed interface Command permits Debit, Credit, Adjust, Settled, Stop {
+    }
+
+    private record Debit(PendingTransfer transfer) implements Command {
+    }
+
+    private record Credit(PendingTransfer transfer) implements Command {
+    }
+
+    // Correction d'un solde en mémoire (annulation d'un virement dont le commit a échoué)
+    private record Adjust(Long accountId, long delta) implements Command {
+    }
+
+    // Virement terminé (persisté ou annulé) : son effet en mémoire n'est plus en attente de la base
+    private record Settled(Long accountId) implements Command {
+    }
+
+    private record Stop() implements Command {
+    }
+
+    private final int index;
+    private final BlockingQueue<Command> ring;
+    private final BankAccountRepository bankAccountRepository;
+    private final AccountBalanceService balanceService;
+    private final ShardedTransferEngine engine;
+    // Soldes en centimes, accédés uniquement par le thread du shard
+    private final Map<Long, long[]> balances = new HashMap<>();
+    // Virements appliqués en mémoire et non encore terminés, par compte
+    private final Map<Long, Integer> unsettled = new HashMap<>();
+    // Comptes modifiés hors du moteur, à relire quand leurs virements en cours seront terminés
+    private final Set<Long> stale = new HashSet<>();
+    // Comptes signalés par d'autres threads, traités avant la commande suivante
+    private final Set<Long> invalidated = ConcurrentHashMap.newKeySet();
+
+    TransferShard(int index, int ringSize, BankAccountRepository bankAccountRepository,
+                  AccountBalanceService balanceService, ShardedTransferEngine engine) {
+        this.index = index;
+        this.ring = new ArrayBlockingQueue<>(ringSize);
+        this.bankAccountRepository = bankAccountRepository;
+        this.balanceService = balanceService;
+        this.engine = engine;
+    }
+
+    void debit(PendingTransfer transfer) {
+        enqueue(new Debit(transfer));
+    }
+
+    void credit(PendingTransfer transfer) {
+        enqueue(new Credit(transfer));
+    }
+
+    void adjust(Long accountId, long delta) {
+        enqueue(new Adjust(accountId, delta));
+    }
+
+    void settled(Long accountId) {
+        enqueue(new Settled(accountId));
+    }
+
+    /**
+     * Le solde du compte a été modifié en base hors du moteur ; sans passer par l'anneau,
+     * qu'un flot de signalements ne doit pas remplir
+     */
+    void invalidate(Long accountId) {
+        invalidated.add(accountId);
+    }
+
+    void stop() {
+        enqueue(new Stop());
+    }
+
+    private void enqueue(Command command) {
+        try {
+            // Le nombre de virements en vol est borné par le moteur : l'anneau ne reste jamais plein
+            ring.put(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Transfer shard " + index + " interrupted", e);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            Command command;
+            try {
+                command = ring.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (command instanceof Stop) {
+                return;
+            }
+            drainInvalidations();
+            try {
+                handle(command);
+            } catch (RuntimeException e) {
+                logger.error("Transfer shard {} failed to handle {}", index, command, e);
+                if (command instanceof Debit debit) {
+                    debit.transfer().result.completeExceptionally(e);
+                } else if (command instanceof Credit credit) {
+                    // Le débit a déjà été appliqué : le restituer
+                    PendingTransfer transfer = credit.transfer();
+                    engine.shardOf(transfer.request.getRibFrom()).adjust(transfer.idFrom, transfer.amount);
+                    transfer.result.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private void handle(Command command) {
+        if (command instanceof Debit debit) {
+            PendingTransfer transfer = debit.transfer();
+            long[] from = balance(transfer.idFrom);
+            // RG_12 : solde suffisant, vérifié sur le solde en mémoire du shard propriétaire
+            try {
+                TransferRules.checkBalance(from[0], transfer.amount);
+            } catch (BusinessException e) {
+                transfer.result.completeExceptionally(e);
+                return;
+            }
+            from[0] -= transfer.amount;
+            hold(transfer.idFrom);
+            transfer.debited = true;
+
+            TransferShard target = engine.shardOf(transfer.request.getRibTo());
+            if (target == this) {
+                applyCredit(transfer);
+            } else {
+                target.credit(transfer);
+            }
+        } else if (command instanceof Credit credit) {
+            applyCredit(credit.transfer());
+        } else if (command instanceof Adjust adjust) {
+            balance(adjust.accountId())[0] += adjust.delta();
+        } else if (command instanceof Settled settled) {
+            release(settled.accountId());
+        }
+    }
+
+    private void applyCredit(PendingTransfer transfer) {
+        balance(transfer.idTo)[0] += transfer.amount;
+        hold(transfer.idTo);
+        transfer.credited = true;
+        engine.writer().submit(transfer);
+    }
+
+    private void hold(Long accountId) {
+        unsettled.merge(accountId, 1, Integer::sum);
+    }
+
+    private void release(Long accountId) {
+        if (unsettled.merge(accountId, -1, Integer::sum) <= 0) {
+            unsettled.remove(accountId);
+            if (stale.remove(accountId)) {
+                balances.remove(accountId);
+            }
+        }
+    }
+
+    private void drainInvalidations() {
+        for (Iterator<Long> it = invalidated.iterator(); it.hasNext(); ) {
+            Long accountId = it.next();
+            it.remove();
+            if (unsettled.containsKey(accountId)) {
+                stale.add(accountId);
+            } else {
+                balances.remove(accountId);
+            }
+        }
+    }
+
+    private long[] balance(Long accountId) {
+        return balances.computeIfAbsent(accountId, id -> new long[]{
+                bankAccountRepository.findById(id)
+                        .map(balanceService::balanceOf)
+                        .orElseThrow(() -> new IllegalStateException("Bank account " + id + " no longer exists"))
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "TransferShard-" + index;
+    }
+}
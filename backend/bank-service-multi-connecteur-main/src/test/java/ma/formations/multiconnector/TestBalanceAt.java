@@ -0,0 +1,93 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.model.BankAccount;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:balanceatdb")
+public class TestBalanceAt {
+    private static final String RIB_FROM = "666600000000000000000001";
+    private static final String RIB_TO = "666600000000000000000002";
+
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private AccountBalanceService accountBalanceService;
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+    @Autowired
+    private BankAccountTransactionRepository bankAccountTransactionRepository;
+    @Autowired
+    private CommonTools commonTools;
+
+    /**
+     * Chaque opération porte le solde après son application ; le solde à une date est lu sur une opération,
+     * ou recalculé depuis le solde actuel quand les opérations ne le portent pas (compte réparti)
+     */
+    @Test
+    void balanceAtPastInstants() throws InterruptedException {
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_FROM).amount(100.0).customerIdentityRef("A100").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_TO).amount(0.0).customerIdentityRef("A200").build());
+
+        Date t0 = tick();
+        transfer(RIB_FROM, RIB_TO, 30.0);
+        Date t1 = tick();
+        transfer(RIB_TO, RIB_FROM, 20.0);
+        Date t2 = tick();
+
+        assertThat(bankAccountTransactionRepository.findAll())
+                .allSatisfy(transaction -> assertThat(transaction.getBalanceAfter()).isNotNull());
+        assertThat(balanceAt(RIB_FROM, t0)).isEqualTo(10_000);
+        assertThat(balanceAt(RIB_FROM, t1)).isEqualTo(7_000);
+        assertThat(balanceAt(RIB_FROM, t2)).isEqualTo(9_000);
+        assertThat(balanceAt(RIB_TO, t0)).isEqualTo(0);
+        assertThat(balanceAt(RIB_TO, t1)).isEqualTo(3_000);
+        assertThat(balanceAt(RIB_TO, t2)).isEqualTo(1_000);
+
+        // Compte réparti : ses crédits ne portent pas de solde courant
+        accountBalanceService.configureSubBalances(RIB_TO, 2);
+        transfer(RIB_FROM, RIB_TO, 5.0);
+        Date t3 = tick();
+        assertThat(balanceAt(RIB_TO, t2)).isEqualTo(1_000);
+        assertThat(balanceAt(RIB_TO, t3)).isEqualTo(1_500);
+        assertThat(balanceAt(RIB_FROM, t3)).isEqualTo(8_500);
+
+        // Connecteurs : date au format graphql.date.format (à la seconde)
+        String later = commonTools.dateToString(new Date(System.currentTimeMillis() + 60_000));
+        assertThat(transactionService.balanceAt(RIB_TO, later).getBalance()).isEqualTo(15.0);
+    }
+
+    private long balanceAt(String rib, Date at) {
+        BankAccount bankAccount = bankAccountRepository.findByRib(rib).orElseThrow();
+        return accountBalanceService.balanceAt(bankAccount, at);
+    }
+
+    private void transfer(String from, String to, double amount) {
+        transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                .ribFrom(from).ribTo(to).amount(amount).build(), "user1");
+    }
+
+    private static Date tick() throws InterruptedException {
+        Thread.sleep(5);
+        Date now = new Date();
+        Thread.sleep(5);
+        return now;
+    }
+}
@@ -27,6 +27,7 @@ public class TestBankAccountConverter {
         BankAccount bo = modelMapper.map(dto, BankAccount.class);
         assertThat(bo.getCustomer()).isNotNull();
         assertThat(bo.getCustomer().getIdentityRef()).isEqualTo(dto.getCustomerIdentityRef());
+        assertThat(bo.getAmount()).isEqualTo(1500000L);
     }
 
 }
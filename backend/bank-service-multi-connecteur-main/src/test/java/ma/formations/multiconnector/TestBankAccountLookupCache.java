@@ -0,0 +1,64 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.metrics.CacheStatsDto;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.service.BankAccountLookupCache;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ITransactionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:lookupcachedb")
+public class TestBankAccountLookupCache {
+    private static final String RIB_FROM = "151500000000000000000001";
+    private static final String RIB_TO = "151500000000000000000002";
+
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private BankAccountLookupCache accountCache;
+
+    /**
+     * Les lectures répétées d'un compte sont servies par le cache ;
+     * un virement invalide les deux comptes à son commit et le solde relu est à jour.
+     */
+    @Test
+    void transferInvalidatesCachedAccounts() {
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_FROM).amount(100.0).customerIdentityRef("A100").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_TO).amount(0.0).customerIdentityRef("A200").build());
+
+        CacheStatsDto before = accountStats();
+        assertThat(bankAccountService.getBankAccountByRib(RIB_FROM).getAmount()).isEqualTo(100.0);
+        // La copie renvoyée peut être modifiée sans altérer le cache
+        bankAccountService.getBankAccountByRib(RIB_FROM).setAmount(-1.0);
+        assertThat(bankAccountService.getBankAccountByRib(RIB_FROM).getAmount()).isEqualTo(100.0);
+        assertThat(bankAccountService.getBankAccountByRib(RIB_TO).getAmount()).isEqualTo(0.0);
+        CacheStatsDto warm = accountStats();
+        assertThat(warm.getMisses() - before.getMisses()).isEqualTo(2);
+        assertThat(warm.getHits() - before.getHits()).isEqualTo(2);
+
+        transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                .ribFrom(RIB_FROM).ribTo(RIB_TO).amount(40.0).build(), "user1");
+
+        assertThat(bankAccountService.getBankAccountByRib(RIB_FROM).getAmount()).isEqualTo(60.0);
+        assertThat(bankAccountService.getBankAccountByRib(RIB_TO).getAmount()).isEqualTo(40.0);
+        CacheStatsDto after = accountStats();
+        assertThat(after.getInvalidations() - warm.getInvalidations()).isEqualTo(2);
+        assertThat(after.getMisses() - warm.getMisses()).isEqualTo(2);
+    }
+
+    private CacheStatsDto accountStats() {
+        return accountCache.stats().stream()
+                .filter(stats -> stats.getName().equals("bankAccountByRib"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
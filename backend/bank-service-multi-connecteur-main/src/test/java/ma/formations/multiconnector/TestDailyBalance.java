@@ -0,0 +1,122 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dtos.balance.DailyBalanceDto;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.DailyBalanceService;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.job.DailyBalanceRebuildJob;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:dailybalancedb")
+public class TestDailyBalance {
+    private static final String RIB_FROM = "555500000000000000000001";
+    private static final String RIB_TO = "555500000000000000000002";
+    private static final String RIB_ROLLBACK_FROM = "555500000000000000000011";
+    private static final String RIB_ROLLBACK_TO = "555500000000000000000012";
+
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private AccountBalanceService accountBalanceService;
+    @Autowired
+    private DailyBalanceService dailyBalanceService;
+    @Autowired
+    private DailyBalanceRebuildJob dailyBalanceRebuildJob;
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Agrégat du jour tenu à chaque virement (y compris les crédits d'un compte réparti),
+     * puis identique après reconstruction depuis les opérations
+     */
+    @Test
+    void dailyAggregatesFollowTransfers() {
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_FROM).amount(100.0).customerIdentityRef("A100").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_TO).amount(10.0).customerIdentityRef("A200").build());
+
+        transfer(RIB_FROM, RIB_TO, 30.0);
+        transfer(RIB_TO, RIB_FROM, 20.0);
+        accountBalanceService.configureSubBalances(RIB_TO, 2);
+        transfer(RIB_FROM, RIB_TO, 5.0);
+        transfer(RIB_FROM, RIB_TO, 1.5);
+
+        assertToday(RIB_FROM, 100.0, 83.5, 3, 36.5, 1, 20.0);
+        assertToday(RIB_TO, 10.0, 26.5, 1, 20.0, 3, 36.5);
+
+        assertThat(dailyBalanceRebuildJob.rebuildAll().getDays()).isGreaterThanOrEqualTo(2);
+        assertToday(RIB_FROM, 100.0, 83.5, 3, 36.5, 1, 20.0);
+        assertToday(RIB_TO, 10.0, 26.5, 1, 20.0, 3, 36.5);
+    }
+
+    /**
+     * La ligne d'un nouveau jour est insérée dans la transaction appelante (sans seconde connexion) :
+     * elle disparaît avec elle si elle est annulée, puis est recréée par le virement suivant.
+     * wiredTransfer ouvre sa propre transaction : les cumuls sont appliqués directement.
+     */
+    @Test
+    void newDayRowBelongsToTheTransferTransaction() {
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_ROLLBACK_FROM).amount(50.0).customerIdentityRef("A100").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_ROLLBACK_TO).amount(0.0).customerIdentityRef("A200").build());
+        String today = LocalDate.now().toString();
+
+        BankAccount from = bankAccountRepository.findByRib(RIB_ROLLBACK_FROM).orElseThrow();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            dailyBalanceService.apply(dailyBalanceService.newRollup().add(BankAccountTransaction.builder()
+                    .bankAccount(from).createdAt(new Date()).transactionType(TransactionType.DEBIT).amount(1_000)
+                    .build()));
+            assertThat(dailyBalanceService.getDailyBalances(RIB_ROLLBACK_FROM, today, today)).hasSize(1);
+            status.setRollbackOnly();
+        });
+        assertThat(dailyBalanceService.getDailyBalances(RIB_ROLLBACK_FROM, today, today)).isEmpty();
+
+        transfer(RIB_ROLLBACK_FROM, RIB_ROLLBACK_TO, 10.0);
+        assertToday(RIB_ROLLBACK_FROM, 50.0, 40.0, 1, 10.0, 0, 0.0);
+        assertToday(RIB_ROLLBACK_TO, 0.0, 10.0, 0, 0.0, 1, 10.0);
+    }
+
+    private void assertToday(String rib, double opening, double closing,
+                             long debitCount, double debitSum, long creditCount, double creditSum) {
+        String today = LocalDate.now().toString();
+        List<DailyBalanceDto> days = dailyBalanceService.getDailyBalances(rib, today, today);
+        assertThat(days).hasSize(1);
+        DailyBalanceDto day = days.get(0);
+        assertThat(day.getDay()).isEqualTo(today);
+        assertThat(day.getOpeningBalance()).isEqualTo(opening);
+        assertThat(day.getClosingBalance()).isEqualTo(closing);
+        assertThat(day.getDebitCount()).isEqualTo(debitCount);
+        assertThat(day.getDebitSum()).isEqualTo(debitSum);
+        assertThat(day.getCreditCount()).isEqualTo(creditCount);
+        assertThat(day.getCreditSum()).isEqualTo(creditSum);
+    }
+
+    private void transfer(String from, String to, double amount) {
+        transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                .ribFrom(from).ribTo(to).amount(amount).build(), "user1");
+    }
+}
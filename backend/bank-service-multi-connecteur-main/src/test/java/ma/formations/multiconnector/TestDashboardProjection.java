@@ -0,0 +1,145 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.customer.AddCustomerRequest;
+import ma.formations.multiconnector.dtos.dashboard.DashboardResponse;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.metrics.LatencyHistogram;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ICustomerService;
+import ma.formations.multiconnector.service.IDashboardService;
+import ma.formations.multiconnector.service.ITransactionService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:dashboarddb")
+public class TestDashboardProjection {
+    private static final String USERNAME = "dashboard1";
+    private static final String RIB_MAIN = "131300000000000000000001";
+    private static final String RIB_SECOND = "131300000000000000000002";
+    private static final String RIB_OTHER = "131300000000000000000003";
+    private static final String BENCHMARK_USERNAME = "dashboard2";
+    private static final String BENCHMARK_RIB = "131300000000000000000011";
+    private static final String BENCHMARK_RIB_OTHER = "131300000000000000000013";
+    private static final int READS = 1000;
+
+    @Autowired
+    private ICustomerService customerService;
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private IDashboardService dashboardService;
+    @Autowired
+    private TransferProperties transferProperties;
+
+    /**
+     * La projection, tenue à jour par les virements et les créations de compte,
+     * donne le même tableau de bord que la lecture en base.
+     */
+    @Test
+    void projectionMatchesDatabaseRead() {
+        createCustomer(USERNAME, "D100");
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_MAIN).amount(500.0).customerIdentityRef("D100").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_OTHER).amount(100.0).customerIdentityRef("A200").build());
+
+        // Vue construite avant les virements, puis mise à jour à chaque commit
+        assertThat(dashboardService.getDashboard(USERNAME, null, 0).getTotalTransactions()).isZero();
+        for (int i = 0; i < 12; i++) {
+            transfer(RIB_MAIN, RIB_OTHER, 10.0 + i);
+        }
+        for (int i = 0; i < 3; i++) {
+            transfer(RIB_OTHER, RIB_MAIN, 5.0);
+        }
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_SECOND).amount(42.0).customerIdentityRef("D100").build());
+
+        DashboardResponse projected = dashboardService.getDashboard(USERNAME, RIB_MAIN, 0);
+        transferProperties.setDashboardProjectionEnabled(false);
+        DashboardResponse fromDatabase;
+        try {
+            fromDatabase = dashboardService.getDashboard(USERNAME, RIB_MAIN, 0);
+        } finally {
+            transferProperties.setDashboardProjectionEnabled(true);
+        }
+
+        assertThat(projected.getSolde()).isEqualTo(500.0 - 186.0 + 15.0).isEqualTo(fromDatabase.getSolde());
+        assertThat(projected.getTotalTransactions()).isEqualTo(15).isEqualTo(fromDatabase.getTotalTransactions());
+        assertThat(projected.getTotalPages()).isEqualTo(fromDatabase.getTotalPages());
+        assertThat(projected.getDernieresTransactions()).extracting(TransactionDto::getId)
+                .containsExactlyInAnyOrderElementsOf(fromDatabase.getDernieresTransactions().stream()
+                        .map(TransactionDto::getId).toList());
+        assertThat(projected.getDernieresTransactions()).extracting(TransactionDto::getIntitule)
+                .containsExactlyInAnyOrderElementsOf(fromDatabase.getDernieresTransactions().stream()
+                        .map(TransactionDto::getIntitule).toList());
+        assertThat(projected.getAutresComptes()).extracting(BankAccountDto::getRib, BankAccountDto::getAmount)
+                .containsExactlyElementsOf(fromDatabase.getAutresComptes().stream()
+                        .map(account -> tuple(account.getRib(), account.getAmount()))
+                        .toList());
+    }
+
+    /**
+     * Banc d'essai : latences p50 / p99 de getDashboard lu en base puis dans la projection
+     */
+    @Test
+    @Tag("benchmark")
+    void projectionVersusDatabaseLatency() {
+        createCustomer(BENCHMARK_USERNAME, "D200");
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(BENCHMARK_RIB).amount(500.0).customerIdentityRef("D200").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(BENCHMARK_RIB_OTHER).amount(0.0).customerIdentityRef("A200").build());
+        for (int i = 0; i < 15; i++) {
+            transfer(BENCHMARK_RIB, BENCHMARK_RIB_OTHER, 1.0);
+        }
+
+        LatencyHistogram database = measure(false);
+        LatencyHistogram projection = measure(true);
+        System.out.printf("getDashboard (%d lectures) base p50=%d µs p99=%d µs | projection p50=%d µs p99=%d µs%n", READS,
+                database.valueAtPercentile(50) / 1000, database.valueAtPercentile(99) / 1000,
+                projection.valueAtPercentile(50) / 1000, projection.valueAtPercentile(99) / 1000);
+        assertThat(projection.count()).isEqualTo(READS);
+    }
+
+    private void createCustomer(String username, String identityRef) {
+        customerService.createCustomer(AddCustomerRequest.builder()
+                .username(username).identityRef(identityRef).firstname("Dash").lastname("Board")
+                .dateAnniversaire(new Date()).email(username + "@example.com").adressePostale("Rabat")
+                .build());
+    }
+
+    private void transfer(String ribFrom, String ribTo, double amount) {
+        transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                .ribFrom(ribFrom).ribTo(ribTo).amount(amount).build(), "user1");
+    }
+
+    private LatencyHistogram measure(boolean projectionEnabled) {
+        transferProperties.setDashboardProjectionEnabled(projectionEnabled);
+        try {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (int i = 0; i < READS * 2; i++) {
+                long start = System.nanoTime();
+                dashboardService.getDashboard(BENCHMARK_USERNAME, BENCHMARK_RIB, 0);
+                if (i >= READS) {
+                    histogram.record(System.nanoTime() - start);
+                }
+            }
+            return histogram;
+        } finally {
+            transferProperties.setDashboardProjectionEnabled(true);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package ma.formations.multiconnector;
+
+import jakarta.persistence.EntityManagerFactory;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.customer.AddCustomerRequest;
+import ma.formations.multiconnector.dtos.dashboard.DashboardResponse;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ICustomerService;
+import ma.formations.multiconnector.service.IDashboardService;
+import ma.formations.multiconnector.service.ITransactionService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dashqcdb",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+public class TestDashboardQueryCount {
+    private static final String USERNAME = "dashboard2";
+    private static final String RIB_MAIN = "141400000000000000000001";
+    private static final String RIB_OTHER = "141400000000000000000002";
+    private static final List<String> INITIATORS = List.of("user1", "user2", "user3", "user4");
+    /** Client, comptes, lignes, comptage et solde : borne indépendante du nombre d'utilisateurs affichés. */
+    private static final long MAX_STATEMENTS = 5;
+
+    @Autowired
+    private ICustomerService customerService;
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private IDashboardService dashboardService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Les intitulés affichent l'initiateur de chaque opération : les utilisateurs sont lus par la requête
+     * des lignes, pas un par un (N+1), en construction de projection comme en lecture paginée.
+     */
+    @Test
+    void dashboardRendersUsersWithoutExtraQueries() {
+        customerService.createCustomer(AddCustomerRequest.builder()
+                .username(USERNAME).identityRef("D200").firstname("Query").lastname("Count")
+                .dateAnniversaire(new Date()).email("dashboard2@example.com").adressePostale("Rabat")
+                .build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_MAIN).amount(1000.0).customerIdentityRef("D200").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_OTHER).amount(1000.0).customerIdentityRef("A100").build());
+        for (int i = 0; i < 20; i++) {
+            boolean debit = i % 2 == 0;
+            transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                    .ribFrom(debit ? RIB_MAIN : RIB_OTHER)
+                    .ribTo(debit ? RIB_OTHER : RIB_MAIN)
+                    .amount(1.0 + i)
+                    .build(), INITIATORS.get(i % INITIATORS.size()));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        DashboardResponse secondPage = dashboardService.getDashboard(USERNAME, RIB_MAIN, 1);
+        long pagedStatements = statistics.getPrepareStatementCount();
+
+        assertThat(secondPage.getDernieresTransactions()).hasSize(10);
+        assertThat(secondPage.getDernieresTransactions())
+                .extracting(TransactionDto::getUser)
+                .allSatisfy(user -> assertThat(INITIATORS).contains(user.getUsername()));
+        assertThat(secondPage.getDernieresTransactions())
+                .extracting(TransactionDto::getIntitule)
+                .allSatisfy(intitule -> assertThat(intitule).isNotBlank());
+        assertThat(pagedStatements).isLessThanOrEqualTo(MAX_STATEMENTS);
+
+        statistics.clear();
+        DashboardResponse projected = dashboardService.getDashboard(USERNAME, RIB_MAIN, 0);
+        long projectionStatements = statistics.getPrepareStatementCount();
+
+        assertThat(projected.getDernieresTransactions()).hasSize(10);
+        assertThat(projectionStatements).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+}
@@ -0,0 +1,192 @@
+package ma.formations.multiconnector;
+
+import io.grpc.CallCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import ma.formations.multiconnector.dtos.TokenVo;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.user.UserRequest;
+import ma.formations.multiconnector.grpc.stub.Bank;
+import ma.formations.multiconnector.grpc.stub.BankServiceGrpc;
+import ma.formations.multiconnector.metrics.LatencyHistogram;
+import ma.formations.multiconnector.service.IBankAccountService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:grpcdb",
+        "grpc.server.port=-1",
+        "grpc.server.in-process-name=bank-test",
+        "bank.transactions.stream.chunk-size=3"
+})
+public class TestGrpcBankService {
+    private static final String RIB_FROM = "121200000000000000000001";
+    private static final String RIB_TO = "121200000000000000000002";
+    private static final int WARMUP = 200;
+    private static final int CALLS = 2000;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private IBankAccountService bankAccountService;
+
+    private ManagedChannel channel;
+    private BankServiceGrpc.BankServiceBlockingStub stub;
+
+    @BeforeEach
+    void setUp() {
+        channel = InProcessChannelBuilder.forName("bank-test").directExecutor().build();
+        stub = BankServiceGrpc.newBlockingStub(channel).withCallCredentials(basicAuth("superadmin", "superadmin"));
+        if (bankAccountService.getAllBankAccounts().stream().noneMatch(account -> RIB_FROM.equals(account.getRib()))) {
+            bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                    .rib(RIB_FROM).amount(1000.0).customerIdentityRef("A100").build());
+            bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                    .rib(RIB_TO).amount(0.0).customerIdentityRef("A200").build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+    }
+
+    /**
+     * Même lecture de compte via gRPC (canal en mémoire) et via REST (HTTP local)
+     */
+    @Test
+    void grpcAndRestReadTheSameAccount() {
+        Bank.BankAccountByRibResponse grpcResponse = stub.bankAccountByRib(
+                Bank.BankAccountByRibRequest.newBuilder().setRib(RIB_FROM).build());
+        BankAccountDto restResponse = restTemplate.exchange("/api/rest/bank?rib=" + RIB_FROM, HttpMethod.GET,
+                restRequest(), BankAccountDto.class).getBody();
+        assertThat(grpcResponse.getBankAccount().getRib()).isEqualTo(restResponse.getRib()).isEqualTo(RIB_FROM);
+        assertThat(grpcResponse.getBankAccount().getAmount()).isEqualTo(restResponse.getAmount());
+    }
+
+    /**
+     * Banc d'essai : même lecture de compte via gRPC et via REST, latences affichées en p50 / p99
+     */
+    @Test
+    @Tag("benchmark")
+    void grpcVersusRestLatency() {
+        HttpEntity<Void> request = restRequest();
+        String url = "/api/rest/bank?rib=" + RIB_FROM;
+        Bank.BankAccountByRibRequest grpcRequest = Bank.BankAccountByRibRequest.newBuilder().setRib(RIB_FROM).build();
+
+        LatencyHistogram grpc = new LatencyHistogram();
+        LatencyHistogram rest = new LatencyHistogram();
+        for (int i = 0; i < WARMUP + CALLS; i++) {
+            long start = System.nanoTime();
+            Bank.BankAccountByRibResponse grpcResponse = stub.bankAccountByRib(grpcRequest);
+            long grpcNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            BankAccountDto restResponse = restTemplate.exchange(url, HttpMethod.GET, request, BankAccountDto.class).getBody();
+            long restNanos = System.nanoTime() - start;
+            if (i >= WARMUP) {
+                grpc.record(grpcNanos);
+                rest.record(restNanos);
+            }
+            assertThat(grpcResponse.getBankAccount().getRib()).isEqualTo(restResponse.getRib());
+            assertThat(grpcResponse.getBankAccount().getAmount()).isEqualTo(restResponse.getAmount());
+        }
+        System.out.printf("bankAccountByRib (%d appels) gRPC p50=%d µs p99=%d µs | REST p50=%d µs p99=%d µs%n", CALLS,
+                grpc.valueAtPercentile(50) / 1000, grpc.valueAtPercentile(99) / 1000,
+                rest.valueAtPercentile(50) / 1000, rest.valueAtPercentile(99) / 1000);
+        assertThat(grpc.count()).isEqualTo(CALLS);
+        assertThat(rest.count()).isEqualTo(CALLS);
+    }
+
+    /**
+     * Virements puis historique en flux : toutes les opérations arrivent, par paquets de chunk-size,
+     * identiques à celles de l'historique unaire (identifiant, compte complet, utilisateur)
+     */
+    @Test
+    void transfersThenStreamedHistory() {
+        for (int i = 0; i < 7; i++) {
+            Bank.AddWirerTransferResponse response = stub.addWirerTransfer(Bank.AddWirerTransferRequest.newBuilder()
+                    .setRibFrom(RIB_FROM).setRibTo(RIB_TO).setAmount(1.0).build());
+            assertThat(response.getTransactionFrom().getTransactionType()).isEqualTo("DEBIT");
+        }
+
+        Bank.GetTransactionsRequest request = Bank.GetTransactionsRequest.newBuilder()
+                .setRib(RIB_TO).setDateFrom("2000-01-01 00:00:00").setDateTo("2100-01-01 00:00:00").build();
+        List<Integer> chunks = new ArrayList<>();
+        List<Bank.TransactionDto> streamed = new ArrayList<>();
+        stub.streamTransactions(request).forEachRemaining(chunk -> {
+            chunks.add(chunk.getTransactionCount());
+            streamed.addAll(chunk.getTransactionList());
+        });
+        assertThat(chunks).containsExactly(3, 3, 1);
+        assertThat(streamed).isEqualTo(stub.getTransactions(request).getTransactionList());
+        Bank.TransactionDto first = streamed.get(0);
+        assertThat(first.getId()).isPositive();
+        assertThat(first.getBankAccount().getId()).isPositive();
+        assertThat(first.getBankAccount().getCustomer().getIdentityRef()).isEqualTo("A200");
+        assertThat(first.getUser().getUsername()).isEqualTo("superadmin");
+    }
+
+    /**
+     * Statuts des erreurs : validation (comme @Valid en REST), accès refusé, erreur de base de données
+     */
+    @Test
+    void errorsMapToGrpcStatuses() {
+        assertThatThrownBy(() -> stub.createCustomer(Bank.CreateCustomerRequest.newBuilder()
+                .setUsername("grpc-invalid").setIdentityRef("G100").setEmail("not-an-email").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, e -> {
+                    assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+                    assertThat(e.getStatus().getDescription()).contains("L'adresse email doit être valide");
+                });
+        assertThatThrownBy(() -> stub.withCallCredentials(basicAuth("client", "client"))
+                .createCustomer(Bank.CreateCustomerRequest.getDefaultInstance()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.PERMISSION_DENIED));
+        // RIB déjà attribué : violation de l'index unique, détail non renvoyé au client
+        assertThatThrownBy(() -> stub.addBankAccount(Bank.AddBankAccountRequest.newBuilder()
+                .setRib(RIB_FROM).setAmount(1.0).setCustomerIdentityRef("A100").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, e -> {
+                    assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INTERNAL);
+                    assertThat(e.getStatus().getDescription()).doesNotContain("ux_bank_account_rib");
+                });
+    }
+
+    private HttpEntity<Void> restRequest() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(restTemplate.postForObject("/auth/signin",
+                new UserRequest("superadmin", "superadmin"), TokenVo.class).getJwtToken());
+        return new HttpEntity<>(headers);
+    }
+
+    private static CallCredentials basicAuth(String username, String password) {
+        String token = Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        Metadata.Key<String> authorization = Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
+        return new CallCredentials() {
+            @Override
+            public void applyRequestMetadata(RequestInfo requestInfo, Executor appExecutor, MetadataApplier applier) {
+                Metadata headers = new Metadata();
+                headers.put(authorization, "Basic " + token);
+                applier.apply(headers);
+            }
+        };
+    }
+}
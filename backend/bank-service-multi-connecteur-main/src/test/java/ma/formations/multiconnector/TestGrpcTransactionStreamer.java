@@ -0,0 +1,272 @@
+package ma.formations.multiconnector;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.enums.StatementFormat;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.grpc.stub.Bank;
+import ma.formations.multiconnector.presentation.grpc.GrpcMapper;
+import ma.formations.multiconnector.presentation.grpc.GrpcTransactionStreamer;
+import ma.formations.multiconnector.service.IStatementExportService;
+import ma.formations.multiconnector.service.model.GetTransactionListBo;
+import ma.formations.multiconnector.service.model.StatementLine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contrôle de flux du flux gRPC de l'historique, avec un curseur et un client simulés :
+ * le client n'est prêt que pour le nombre de paquets qu'il a demandés.
+ */
+public class TestGrpcTransactionStreamer {
+    private static final int CHUNK_SIZE = 3;
+    private static final int LINES = 100;
+    private static final GetTransactionListBo CRITERIA = GetTransactionListBo.builder()
+            .rib("111111111111111111111111").build();
+
+    private GrpcTransactionStreamer streamer;
+
+    @AfterEach
+    void tearDown() {
+        streamer.shutdown();
+    }
+
+    /**
+     * Tant que le client n'est pas prêt, rien n'est envoyé et le curseur n'est lu que d'un paquet d'avance ;
+     * chaque onReady libère exactement les paquets demandés.
+     */
+    @Test
+    void cursorFollowsClientReadiness() throws InterruptedException {
+        FakeCursor cursor = new FakeCursor(LINES);
+        streamer = streamer(cursor, 2);
+        FakeObserver observer = new FakeObserver();
+
+        streamer.stream(CRITERIA, observer);
+        awaitUntil(() -> cursor.read.get() == CHUNK_SIZE);
+        Thread.sleep(200);
+        assertThat(cursor.read.get()).isEqualTo(CHUNK_SIZE);
+        assertThat(observer.chunks).isEmpty();
+
+        observer.grant(2);
+        awaitUntil(() -> observer.chunks.size() == 2 && cursor.read.get() == 3 * CHUNK_SIZE);
+        Thread.sleep(200);
+        assertThat(observer.chunks).hasSize(2);
+        assertThat(cursor.read.get()).isEqualTo(3 * CHUNK_SIZE);
+        assertThat(observer.completed).isFalse();
+
+        observer.grant(Integer.MAX_VALUE / 2);
+        awaitUntil(() -> observer.completed);
+        assertThat(observer.chunks).hasSize((LINES + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        assertThat(observer.chunks.stream().mapToInt(Bank.GetTransactionsResponse::getTransactionCount).sum())
+                .isEqualTo(LINES);
+        assertThat(observer.error).isNull();
+        assertThat(cursor.closed).isTrue();
+    }
+
+    /**
+     * Un appel annulé pendant l'attente du client arrête la lecture et ferme le curseur, sans réponse ni erreur
+     */
+    @Test
+    void cancellationStopsTheCursor() throws InterruptedException {
+        FakeCursor cursor = new FakeCursor(LINES);
+        streamer = streamer(cursor, 2);
+        FakeObserver observer = new FakeObserver();
+
+        streamer.stream(CRITERIA, observer);
+        observer.grant(1);
+        awaitUntil(() -> observer.chunks.size() == 1 && cursor.read.get() == 2 * CHUNK_SIZE);
+
+        observer.cancel();
+        awaitUntil(() -> cursor.closed);
+        assertThat(cursor.read.get()).isEqualTo(2 * CHUNK_SIZE);
+        assertThat(observer.chunks).hasSize(1);
+        assertThat(observer.completed).isFalse();
+        assertThat(observer.error).isNull();
+    }
+
+    /**
+     * Au-delà de max-concurrent, un flux est refusé immédiatement (RESOURCE_EXHAUSTED) ;
+     * la place est rendue dès qu'un flux en cours est annulé.
+     */
+    @Test
+    void streamsBeyondMaxConcurrentAreRejected() throws InterruptedException {
+        FakeCursor cursor = new FakeCursor(LINES);
+        streamer = streamer(cursor, 1);
+        FakeObserver first = new FakeObserver();
+        streamer.stream(CRITERIA, first);
+        awaitUntil(() -> cursor.read.get() == CHUNK_SIZE);
+
+        FakeObserver rejected = new FakeObserver();
+        streamer.stream(CRITERIA, rejected);
+        assertThat(rejected.error).isNotNull();
+        assertThat(Status.fromThrowable(rejected.error).getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+        assertThat(rejected.chunks).isEmpty();
+
+        first.cancel();
+        awaitUntil(() -> cursor.closed);
+        FakeObserver next = new FakeObserver();
+        next.grant(Integer.MAX_VALUE / 2);
+        awaitUntil(() -> {
+            // Le thread du flux annulé peut ne pas être encore revenu au pool
+            next.error = null;
+            streamer.stream(CRITERIA, next);
+            return next.error == null;
+        });
+        awaitUntil(() -> next.completed);
+        assertThat(next.chunks.stream().mapToInt(Bank.GetTransactionsResponse::getTransactionCount).sum())
+                .isEqualTo(LINES);
+    }
+
+    private static GrpcTransactionStreamer streamer(FakeCursor cursor, int maxConcurrent) {
+        TransferProperties properties = new TransferProperties();
+        properties.setTransactionStreamChunkSize(CHUNK_SIZE);
+        properties.setTransactionStreamMaxConcurrent(maxConcurrent);
+        CommonTools commonTools = new CommonTools();
+        commonTools.setDateFormat("yyyy-MM-dd HH:mm:ss");
+        return new GrpcTransactionStreamer(cursor, new GrpcMapper(commonTools), properties);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition non atteinte à temps").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Curseur simulé : compte les lignes effectivement lues et sa fermeture
+     */
+    private static final class FakeCursor implements IStatementExportService {
+        private final int size;
+        private final AtomicInteger read = new AtomicInteger();
+        private volatile boolean closed;
+
+        FakeCursor(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public GetTransactionListBo prepare(GetTransactionListRequest dto) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long export(GetTransactionListBo criteria, StatementFormat format, OutputStream out) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <R> R readStatement(GetTransactionListBo criteria, Function<Stream<StatementLine>, R> reader) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <R> R readTransactions(GetTransactionListBo criteria, Function<Stream<TransactionDto>, R> reader) {
+            closed = false;
+            read.set(0);
+            Stream<TransactionDto> transactions = LongStream.rangeClosed(1, size)
+                    .mapToObj(id -> {
+                        read.incrementAndGet();
+                        return TransactionDto.builder().id(id).createdAt("2024-01-01 00:00:00")
+                                .transactionType(TransactionType.CREDIT.name()).amount(1.0).build();
+                    })
+                    .onClose(() -> closed = true);
+            try (transactions) {
+                return reader.apply(transactions);
+            }
+        }
+    }
+
+    /**
+     * Client simulé : prêt tant qu'il lui reste des paquets demandés
+     */
+    private static final class FakeObserver extends ServerCallStreamObserver<Bank.GetTransactionsResponse> {
+        private final List<Bank.GetTransactionsResponse> chunks = new CopyOnWriteArrayList<>();
+        private final AtomicInteger credits = new AtomicInteger();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private volatile Runnable onReadyHandler = () -> {
+        };
+        private volatile Runnable onCancelHandler = () -> {
+        };
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        void grant(int count) {
+            credits.addAndGet(count);
+            onReadyHandler.run();
+        }
+
+        void cancel() {
+            cancelled.set(true);
+            onCancelHandler.run();
+        }
+
+        @Override
+        public boolean isReady() {
+            return !cancelled.get() && credits.get() > 0;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {
+            this.onReadyHandler = onReadyHandler;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        @Override
+        public void setOnCancelHandler(Runnable onCancelHandler) {
+            this.onCancelHandler = onCancelHandler;
+        }
+
+        @Override
+        public void setCompression(String compression) {
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+        }
+
+        @Override
+        public void request(int count) {
+        }
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+        }
+
+        @Override
+        public void onNext(Bank.GetTransactionsResponse value) {
+            credits.decrementAndGet();
+            chunks.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onCompleted() {
+            completed = true;
+        }
+    }
+}
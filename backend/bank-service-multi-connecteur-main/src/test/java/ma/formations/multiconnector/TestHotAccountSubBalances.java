@@ -0,0 +1,151 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.model.BankAccount;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Comptes chauds : THREADS émetteurs distincts créditent le même compte marchand, pour chaque K.
+ * La somme des soldes et le nombre d'opérations doivent rester exacts ; le banc d'essai (profil benchmark)
+ * affiche en plus le débit de crédits.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:hotaccountdb;LOCK_TIMEOUT=10000")
+public class TestHotAccountSubBalances {
+    private static final int THREADS = 8;
+    private static final int CREDITS_PER_THREAD = 20;
+    private static final int BENCHMARK_CREDITS_PER_THREAD = 200;
+    private static final int[] SUB_BALANCE_COUNTS = {0, 1, 4, 8};
+
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private AccountBalanceService accountBalanceService;
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+    @Autowired
+    private BankAccountTransactionRepository bankAccountTransactionRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentCreditsStayExactWithSubBalances() throws InterruptedException {
+        for (int run = 0; run < SUB_BALANCE_COUNTS.length; run++) {
+            credit(run, SUB_BALANCE_COUNTS[run], CREDITS_PER_THREAD);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void creditThroughputWithSubBalances() throws InterruptedException {
+        for (int run = 0; run < SUB_BALANCE_COUNTS.length; run++) {
+            int k = SUB_BALANCE_COUNTS[run];
+            double seconds = credit(SUB_BALANCE_COUNTS.length + run, k, BENCHMARK_CREDITS_PER_THREAD);
+            System.out.printf("K=%d : %.0f crédits/s%n", k, THREADS * BENCHMARK_CREDITS_PER_THREAD / seconds);
+        }
+    }
+
+    /**
+     * Répartition retirée entre la lecture sans verrou du compte et son crédit :
+     * le crédit est reporté sur la ligne du compte, relue sous verrou, au lieu d'être perdu
+     */
+    @Test
+    void creditFollowsAConcurrentReconfiguration() {
+        String merchant = String.format("4444%020d", 9000);
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(merchant).amount(0.0).customerIdentityRef("A200").build());
+        accountBalanceService.configureSubBalances(merchant, 2);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            BankAccount stale = bankAccountRepository.findByRib(merchant).orElseThrow();
+            assertThat(accountBalanceService.isSplit(stale)).isTrue();
+            CompletableFuture.runAsync(() -> accountBalanceService.configureSubBalances(merchant, 0)).join();
+            assertThat(accountBalanceService.credit(stale, 500)).isEqualTo(-1);
+            assertThat(stale.getSubBalanceCount()).isZero();
+        });
+        assertThat(bankAccountService.getBankAccountByRib(merchant).getAmount()).isEqualTo(5.0);
+        assertThat(accountBalanceService.isKnownSplit(bankAccountRepository.findByRib(merchant).orElseThrow().getId()))
+                .isFalse();
+    }
+
+    /**
+     * THREADS émetteurs versent chacun creditsPerThread crédits sur un nouveau compte marchand à k sous-soldes
+     * @return la durée des crédits, en secondes
+     */
+    private double credit(int run, int k, int creditsPerThread) throws InterruptedException {
+        String merchant = String.format("4444%020d", run * 100);
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(merchant).amount(0.0).customerIdentityRef("A200").build());
+        accountBalanceService.configureSubBalances(merchant, k);
+        for (int t = 0; t < THREADS; t++) {
+            bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                    .rib(String.format("4444%020d", run * 100 + t + 1))
+                    .amount((double) creditsPerThread)
+                    .customerIdentityRef("A100").build());
+        }
+
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            String sender = String.format("4444%020d", run * 100 + t + 1);
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < creditsPerThread; i++) {
+                    try {
+                        transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                                .ribFrom(sender).ribTo(merchant).amount(1.0).build(), "user1");
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        assertThat(errors.get()).isZero();
+        assertThat(bankAccountService.getBankAccountByRib(merchant).getAmount())
+                .isEqualTo((double) THREADS * creditsPerThread);
+
+        // Un débit reverse les sous-soldes : le compteur d'opérations suit, sans COUNT(*)
+        transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                .ribFrom(merchant).ribTo(String.format("4444%020d", run * 100 + 1)).amount(1.0).build(), "user1");
+        assertThat(transactionCount(merchant)).isEqualTo(THREADS * creditsPerThread + 1);
+        assertThat(transactionCount(String.format("4444%020d", run * 100 + 2))).isEqualTo(creditsPerThread);
+        return seconds;
+    }
+
+    private long transactionCount(String rib) {
+        BankAccount bankAccount = bankAccountRepository.findByRib(rib).orElseThrow();
+        long counted = accountBalanceService.transactionCountOf(bankAccount);
+        assertThat(counted).isEqualTo(bankAccountTransactionRepository
+                .sumLedgerAfterId(bankAccount.getId(), 0).entries());
+        return counted;
+    }
+}
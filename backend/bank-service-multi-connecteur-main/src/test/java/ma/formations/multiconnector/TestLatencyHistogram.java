@@ -0,0 +1,26 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.metrics.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class TestLatencyHistogram {
+
+    /**
+     * Les percentiles sont exacts à la précision des sous-intervalles (~3 %)
+     */
+    @Test
+    void percentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        assertThat(histogram.count()).isEqualTo(100_000);
+        assertThat((double) histogram.valueAtPercentile(50)).isCloseTo(50_000_000, within(50_000_000 * 0.035));
+        assertThat((double) histogram.valueAtPercentile(99)).isCloseTo(99_000_000, within(99_000_000 * 0.035));
+        assertThat((double) histogram.valueAtPercentile(99.9)).isCloseTo(99_900_000, within(99_900_000 * 0.035));
+        assertThat(histogram.max()).isEqualTo(100_000_000);
+    }
+}
@@ -0,0 +1,185 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountSnapshotRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dtos.balance.DailyBalanceDto;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.DailyBalanceService;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.job.BalanceSnapshotRebuildJob;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountSnapshot;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ledgerdb",
+        "bank.balance.mode=LEDGER",
+        "bank.balance.snapshot-interval=3"
+})
+public class TestLedgerBalance {
+    private static final String RIB_FROM = "555500000000000000000001";
+    private static final String RIB_TO = "555500000000000000000002";
+    private static final String RIB_SLOW = "555500000000000000000003";
+    private static final String RIB_PEER = "555500000000000000000004";
+    private static final String RIB_PAYER = "555500000000000000000005";
+    private static final String RIB_MERCHANT = "555500000000000000000006";
+
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private BalanceSnapshotRebuildJob balanceSnapshotRebuildJob;
+    @Autowired
+    private AccountBalanceService balanceService;
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+    @Autowired
+    private BankAccountTransactionRepository bankAccountTransactionRepository;
+    @Autowired
+    private BankAccountSnapshotRepository bankAccountSnapshotRepository;
+    @Autowired
+    private DailyBalanceService dailyBalanceService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Le solde dérivé (instantané + queue du registre) reste exact au fil des instantanés
+     * et après leur reconstruction.
+     */
+    @Test
+    void ledgerBalanceMatchesTransfers() {
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_FROM).amount(100.0).customerIdentityRef("A100").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_TO).amount(0.0).customerIdentityRef("A200").build());
+
+        for (int i = 0; i < 10; i++) {
+            transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                    .ribFrom(RIB_FROM).ribTo(RIB_TO).amount(7.5).build(), "user1");
+        }
+        assertThat(bankAccountService.getBankAccountByRib(RIB_FROM).getAmount()).isEqualTo(25.0);
+        assertThat(bankAccountService.getBankAccountByRib(RIB_TO).getAmount()).isEqualTo(75.0);
+
+        assertThatThrownBy(() -> transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                .ribFrom(RIB_FROM).ribTo(RIB_TO).amount(30.0).build(), "user1"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Solde insuffisant");
+
+        assertThat(balanceSnapshotRebuildJob.rebuildAll().getAccounts()).isPositive();
+        assertThat(bankAccountService.getBankAccountByRib(RIB_FROM).getAmount()).isEqualTo(25.0);
+        assertThat(bankAccountService.getBankAccountByRib(RIB_TO).getAmount()).isEqualTo(75.0);
+    }
+
+    /**
+     * Une opération insérée par une transaction encore en cours (datée dans le passé) n'est couverte
+     * par aucun instantané pris pendant ce temps : elle est comptée dans la queue une fois validée.
+     */
+    @Test
+    void snapshotStopsAtTheCommittedWatermark() throws Exception {
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_SLOW).amount(100.0).customerIdentityRef("A100").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_PEER).amount(0.0).customerIdentityRef("A200").build());
+        transfer(RIB_SLOW, RIB_PEER, 2);
+
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Long> slowWrite = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            BankAccount account = bankAccountRepository.findByRib(RIB_SLOW).orElseThrow();
+            balanceService.debit(account, 1000);
+            BankAccountTransaction debit = bankAccountTransactionRepository.save(BankAccountTransaction.builder()
+                    .amount(1000)
+                    .transactionType(TransactionType.DEBIT)
+                    .bankAccount(account)
+                    .createdAt(new Date(System.currentTimeMillis() - 3_600_000))
+                    .build());
+            inserted.countDown();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return debit.getId();
+        }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // Au-delà de snapshot-interval opérations : un instantané est pris pendant l'écriture en cours
+        transfer(RIB_SLOW, RIB_PEER, 3);
+        release.countDown();
+        Long slowId = slowWrite.get(30, TimeUnit.SECONDS);
+
+        Long accountId = bankAccountRepository.findByRib(RIB_SLOW).orElseThrow().getId();
+        BankAccountSnapshot snapshot =
+                bankAccountSnapshotRepository.findFirstByBankAccount_IdOrderByUpToIdDesc(accountId).orElseThrow();
+        assertThat(snapshot.getUpToId()).isLessThan(slowId);
+        assertThat(bankAccountService.getBankAccountByRib(RIB_SLOW).getAmount()).isEqualTo(85.0);
+    }
+
+    /**
+     * Un crédit encore en cours (transaction ouverte) ne bloque pas les virements vers le même compte :
+     * les crédits du jour sont répartis sur plusieurs rangées, aucune ligne n'est partagée
+     */
+    @Test
+    void ledgerCreditsDoNotLockTheRecipientDay() throws Exception {
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_PAYER).amount(100.0).customerIdentityRef("A100").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_MERCHANT).amount(0.0).customerIdentityRef("A200").build());
+        transfer(RIB_PAYER, RIB_MERCHANT, 1);
+
+        CountDownLatch applied = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> pendingCredit = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            BankAccount merchant = bankAccountRepository.findByRib(RIB_MERCHANT).orElseThrow();
+            dailyBalanceService.apply(dailyBalanceService.newRollup().add(BankAccountTransaction.builder()
+                    .bankAccount(merchant).createdAt(new Date()).transactionType(TransactionType.CREDIT).amount(500)
+                    .build()));
+            applied.countDown();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            status.setRollbackOnly();
+        }));
+        assertThat(applied.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture.runAsync(() -> transfer(RIB_PAYER, RIB_MERCHANT, 3)).get(5, TimeUnit.SECONDS);
+        release.countDown();
+        pendingCredit.get(30, TimeUnit.SECONDS);
+
+        String today = LocalDate.now().toString();
+        List<DailyBalanceDto> days = dailyBalanceService.getDailyBalances(RIB_MERCHANT, today, today);
+        assertThat(days).hasSize(1);
+        assertThat(days.get(0).getCreditCount()).isEqualTo(4);
+        assertThat(days.get(0).getClosingBalance()).isEqualTo(4.0);
+    }
+
+    private void transfer(String from, String to, int count) {
+        for (int i = 0; i < count; i++) {
+            transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                    .ribFrom(from).ribTo(to).amount(1.0).build(), "user1");
+        }
+    }
+}
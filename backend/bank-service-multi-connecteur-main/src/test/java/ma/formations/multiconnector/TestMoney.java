@@ -0,0 +1,26 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestMoney {
+
+    /**
+     * Conversion exacte jusqu'au centime ; un montant plus précis est refusé, jamais arrondi
+     */
+    @Test
+    void amountsBeyondTheCentimeAreRejected() {
+        assertThat(Money.ofMad(10.01)).isEqualTo(1_001);
+        assertThat(Money.ofMad(0.1)).isEqualTo(10);
+        assertThat(Money.ofMad(1234.5)).isEqualTo(123_450);
+        assertThat(Money.ofMad(-20.0)).isEqualTo(-2_000);
+        assertThatThrownBy(() -> Money.ofMad(10.005))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("2 décimales");
+        assertThatThrownBy(() -> Money.ofMad(0.001)).isInstanceOf(BusinessException.class);
+    }
+}
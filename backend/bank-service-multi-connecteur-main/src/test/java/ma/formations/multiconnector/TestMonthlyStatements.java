@@ -0,0 +1,120 @@
+package ma.formations.multiconnector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ma.formations.multiconnector.archive.TransactionArchive;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.transaction.MonthlyStatementsResponse;
+import ma.formations.multiconnector.enums.AccountStatus;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.job.MonthlyStatementJob;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:monthlystatementsdb",
+        "bank.statements.directory=target/test-statements"
+})
+public class TestMonthlyStatements {
+    private static final Path STATEMENTS = Path.of("target/test-statements");
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static {
+        // Base H2 neuve à chaque exécution : le point de reprise d'une exécution précédente ne doit pas être relu
+        if (Files.isDirectory(STATEMENTS)) {
+            try (Stream<Path> files = Files.walk(STATEMENTS)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Autowired
+    private MonthlyStatementJob monthlyStatementJob;
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+    @Autowired
+    private BankAccountTransactionRepository bankAccountTransactionRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Un fichier par propriétaire avec soldes d'ouverture et de clôture ; relancé, le batch repart du point de reprise
+     */
+    @Test
+    void monthlyStatementsAreWrittenOnceAndResumed() throws IOException {
+        YearMonth month = YearMonth.now().minusMonths(1);
+        Date start = TransactionArchive.startOf(month);
+        Date opened = new Date(start.getTime() - TimeUnit.DAYS.toMillis(10));
+        Date d1 = new Date(start.getTime() + TimeUnit.DAYS.toMillis(4));
+        Date d2 = new Date(start.getTime() + TimeUnit.DAYS.toMillis(9));
+        // Soldes d'ouverture 100 et 0 MAD, puis A -> B 30 MAD et B -> A 10 MAD
+        BankAccount a = bankAccountRepository.save(BankAccount.builder().rib("333300000000000000000001").amount(8_000)
+                .createdAt(opened).accountStatus(AccountStatus.OPENED).build());
+        BankAccount b = bankAccountRepository.save(BankAccount.builder().rib("333300000000000000000002").amount(2_000)
+                .createdAt(opened).accountStatus(AccountStatus.OPENED).build());
+        User user = userRepository.findByUsername("user1").orElseThrow();
+        bankAccountTransactionRepository.saveAll(List.of(
+                operation(a, user, d1, TransactionType.DEBIT, 3_000, 7_000),
+                operation(b, user, d1, TransactionType.CREDIT, 3_000, 3_000),
+                operation(b, user, d2, TransactionType.DEBIT, 1_000, 2_000),
+                operation(a, user, d2, TransactionType.CREDIT, 1_000, 8_000)));
+
+        MonthlyStatementsResponse first = monthlyStatementJob.generate(month.toString());
+        assertThat(first.getFiles()).isEqualTo(2);
+        assertThat(first.getLines()).isEqualTo(4);
+
+        List<JsonNode> statement = read(STATEMENTS.resolve(month.toString()).resolve("account-" + a.getId() + ".ndjson"));
+        assertThat(statement).hasSize(4);
+        assertThat(statement.get(0).get("openingBalance").decimalValue()).isEqualByComparingTo("100.00");
+        assertThat(statement.get(1).get("transactionType").asText()).isEqualTo("DEBIT");
+        assertThat(statement.get(2).get("username").asText()).isEqualTo("user1");
+        assertThat(statement.get(3).get("closingBalance").decimalValue()).isEqualByComparingTo("80.00");
+        assertThat(statement.get(3).get("creditCount").asLong()).isEqualTo(1);
+
+        MonthlyStatementsResponse second = monthlyStatementJob.generate(month.toString());
+        assertThat(second.getFiles()).isZero();
+        assertThat(second.getSkipped()).isEqualTo(2);
+    }
+
+    private static List<JsonNode> read(Path file) throws IOException {
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            nodes.add(MAPPER.readTree(line));
+        }
+        return nodes;
+    }
+
+    private static BankAccountTransaction operation(BankAccount account, User user, Date createdAt,
+                                                    TransactionType type, long amount, long balanceAfter) {
+        return BankAccountTransaction.builder()
+                .bankAccount(account)
+                .user(user)
+                .createdAt(createdAt)
+                .transactionType(type)
+                .amount(amount)
+                .balanceAfter(balanceAfter)
+                .build();
+    }
+}
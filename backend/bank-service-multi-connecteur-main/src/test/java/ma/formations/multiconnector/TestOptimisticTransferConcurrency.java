@@ -0,0 +1,113 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.dtos.TokenVo;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.metrics.AccountContentionDto;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.user.UserRequest;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:optimisticdb;LOCK_TIMEOUT=10000",
+        "bank.transfer.concurrency-mode=OPTIMISTIC",
+        "bank.transfer.optimistic.max-retries=50",
+        "bank.transfer.optimistic.backoff-ms=1"
+})
+public class TestOptimisticTransferConcurrency {
+    private static final String RIB_A = "202000000000000000000001";
+    private static final String RIB_B = "202000000000000000000002";
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 50;
+    private static final double INITIAL_AMOUNT = 1000.0;
+
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    /**
+     * Mode OPTIMISTIC sur deux comptes seulement : les conflits de version sont rejoués,
+     * aucune mise à jour n'est perdue et les compteurs de /transfer-contention augmentent.
+     */
+    @Test
+    void conflictingTransfersAreRetriedAndConserveTotalBalance() throws InterruptedException {
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_A).amount(INITIAL_AMOUNT).customerIdentityRef("A100").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_B).amount(INITIAL_AMOUNT).customerIdentityRef("A200").build());
+        assertThat(totalRetries(contention())).isZero();
+
+        AtomicInteger unexpectedErrors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    boolean forward = random.nextBoolean();
+                    try {
+                        transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                                .ribFrom(forward ? RIB_A : RIB_B)
+                                .ribTo(forward ? RIB_B : RIB_A)
+                                .amount((double) (1 + random.nextInt(20)))
+                                .build(), "user1");
+                    } catch (BusinessException e) {
+                        // Solde insuffisant : refus métier attendu
+                    } catch (Exception e) {
+                        unexpectedErrors.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(unexpectedErrors.get()).isZero();
+        double total = bankAccountService.getBankAccountByRib(RIB_A).getAmount()
+                + bankAccountService.getBankAccountByRib(RIB_B).getAmount();
+        assertThat(total).isEqualTo(2 * INITIAL_AMOUNT);
+
+        List<AccountContentionDto> contention = contention();
+        assertThat(contention).extracting(AccountContentionDto::getRib).containsAnyOf(RIB_A, RIB_B);
+        assertThat(totalRetries(contention)).isPositive();
+        assertThat(contention).allSatisfy(account -> assertThat(account.getConflicts()).isGreaterThanOrEqualTo(account.getRetries()));
+    }
+
+    private List<AccountContentionDto> contention() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(restTemplate.postForObject("/auth/signin",
+                new UserRequest("superadmin", "superadmin"), TokenVo.class).getJwtToken());
+        AccountContentionDto[] body = restTemplate.exchange("/api/rest/metrics/transfer-contention", HttpMethod.GET,
+                new HttpEntity<>(headers), AccountContentionDto[].class).getBody();
+        return Arrays.asList(body);
+    }
+
+    private static long totalRetries(List<AccountContentionDto> contention) {
+        return contention.stream().mapToLong(AccountContentionDto::getRetries).sum();
+    }
+}
@@ -0,0 +1,176 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.CustomerRepository;
+import ma.formations.multiconnector.dao.QueryPlanCheck;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.journal.TransferJournalRecovery;
+import ma.formations.multiconnector.service.model.Customer;
+import ma.formations.multiconnector.service.model.StatementLine;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplandb",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "ma.formations.multiconnector.TestQueryPlanCheck$SqlCapture"
+})
+public class TestQueryPlanCheck {
+
+    @Autowired
+    private QueryPlanCheck queryPlanCheck;
+    @Autowired
+    private TransferJournalRecovery transferJournalRecovery;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+    @Autowired
+    private BankAccountTransactionRepository bankAccountTransactionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Les requêtes fréquentes passent par les index déclarés ; une colonne non indexée est bien détectée
+     */
+    @Test
+    void hotQueriesUseIndexes() {
+        // Contrôle déjà passé au démarrage du contexte, avant la reprise du journal et les connecteurs
+        assertThat(queryPlanCheck.isRunning()).isTrue();
+        assertThat(queryPlanCheck.getPhase()).isLessThan(transferJournalRecovery.getPhase());
+        assertThatCode(() -> queryPlanCheck.check()).doesNotThrowAnyException();
+        assertThat(jdbcTemplate.queryForObject(
+                "EXPLAIN select \"id\" from \"bank_account_transaction\" where \"bank_account_id\" = 0 " +
+                        "order by \"created_at\" desc, \"id\" desc", String.class))
+                .contains("ix_transaction_account_created");
+        assertThat(jdbcTemplate.queryForObject(
+                "EXPLAIN select \"id\" from \"user\" where \"firstname\" = '0'", String.class))
+                .contains(".tableScan");
+    }
+
+    /**
+     * Chaque requête de QueryPlanCheck correspond à une méthode de dépôt : le SQL généré par Hibernate
+     * pour cette méthode ne parcourt aucune table et passe par les index retenus pour la requête écrite à la main.
+     */
+    @Test
+    void hotQueriesMatchGeneratedSql() {
+        Map<String, Runnable> calls = repositoryCalls();
+        assertThat(calls.keySet()).containsExactlyInAnyOrderElementsOf(QueryPlanCheck.hotQueries().keySet());
+        Set<String> indexes = Set.copyOf(jdbcTemplate.queryForList(
+                "select INDEX_NAME from INFORMATION_SCHEMA.INDEXES where TABLE_SCHEMA = 'PUBLIC'", String.class));
+
+        QueryPlanCheck.hotQueries().forEach((name, sql) -> {
+            String generated = capture(calls.get(name));
+            String plan = queryPlanCheck.explain(generated);
+            assertThat(plan).as(name + " : " + generated).doesNotContain(".tableScan");
+            assertThat(indexesIn(plan, indexes)).as(name + " : " + plan)
+                    .containsAll(indexesIn(queryPlanCheck.explain(sql), indexes));
+        });
+    }
+
+    /**
+     * Un appel par requête vérifiée, avec des paramètres quelconques : seul le SQL émis compte
+     */
+    private Map<String, Runnable> repositoryCalls() {
+        Date from = new Date(0);
+        Date to = new Date();
+        Customer customer = customerRepository.findByIdentityRef("A100").orElseThrow();
+        Map<String, Runnable> calls = new LinkedHashMap<>();
+        calls.put("BankAccountRepository.findByRib", () -> bankAccountRepository.findByRib("0"));
+        calls.put("BankAccountRepository.findByCustomer", () -> bankAccountRepository.findByCustomer(customer));
+        calls.put("BankAccountTransactionRepository.findByBankAccount_RibAndCreatedAtBetween",
+                () -> bankAccountTransactionRepository.findByBankAccount_RibAndCreatedAtBetween("0", from, to));
+        calls.put("BankAccountTransactionRepository.findViewsByAccount",
+                () -> bankAccountTransactionRepository.findViewsByAccount(-1L, from, to));
+        calls.put("BankAccountTransactionRepository.findDashboardRows",
+                () -> bankAccountTransactionRepository.findDashboardRows(-1L, to, PageRequest.of(0, 10)));
+        calls.put("BankAccountTransactionRepository.streamStatement", () -> inTransaction(() -> {
+            try (Stream<StatementLine> lines = bankAccountTransactionRepository.streamStatement(-1L, from, to)) {
+                lines.count();
+            }
+        }));
+        calls.put("BankAccountTransactionRepository.sumLedgerAfterId",
+                () -> bankAccountTransactionRepository.sumLedgerAfterId(-1L, 0));
+        calls.put("BankAccountTransactionRepository.findRunningBalanceAtOrBefore",
+                () -> bankAccountTransactionRepository.findRunningBalanceAtOrBefore(-1L, to, PageRequest.of(0, 1)));
+        calls.put("BankAccountTransactionRepository.findRunningBalanceAfter",
+                () -> bankAccountTransactionRepository.findRunningBalanceAfter(-1L, from, PageRequest.of(0, 1)));
+        calls.put("BankAccountTransactionRepository.sumLedgerAfter",
+                () -> bankAccountTransactionRepository.sumLedgerAfter(-1L, from));
+        calls.put("BankAccountTransactionRepository.existsByJournalSeq",
+                () -> bankAccountTransactionRepository.existsByJournalSeq(-1L));
+        calls.put("UserRepository.findByUsername", () -> userRepository.findByUsername("0"));
+        calls.put("UserRepository.findByEmail", () -> userRepository.findByEmail("0"));
+        return calls;
+    }
+
+    private void inTransaction(Runnable call) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> call.run());
+    }
+
+    /**
+     * @return la première requête de lecture émise par Hibernate pendant l'appel, sur le thread courant
+     */
+    private static String capture(Runnable call) {
+        List<String> statements = new ArrayList<>();
+        SqlCapture.STATEMENTS.set(statements);
+        try {
+            call.run();
+        } finally {
+            SqlCapture.STATEMENTS.remove();
+        }
+        return statements.stream()
+                .filter(sql -> sql.regionMatches(true, 0, "select", 0, 6))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Aucune requête de lecture émise : " + statements));
+    }
+
+    private static Set<String> indexesIn(String plan, Set<String> indexes) {
+        return indexes.stream()
+                .filter(index -> Pattern.compile("(?<!\\w)" + Pattern.quote(index) + "(?!\\w)").matcher(plan).find())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Relevé des requêtes SQL préparées par Hibernate, limité au thread qui l'a demandé
+     * (hibernate.session_factory.statement_inspector)
+     */
+    public static class SqlCapture implements StatementInspector {
+        static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = STATEMENTS.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.CustomerRepository;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.customer.CustomerDto;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.enums.AccountStatus;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ICustomerService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.Customer;
+import ma.formations.multiconnector.service.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Lectures projetées (getAllBankAccounts, getAllCustomers, getTransactions) : mêmes DTO que l'ancien chemin
+ * entités + ModelMapper, puis banc d'essai avant / après (appels/s et octets alloués par appel, profil benchmark).
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:readprojectionsdb")
+public class TestReadProjections {
+    private static final String RIB_HISTORY = "181800000000000000000001";
+    private static final int ACCOUNTS = 2_000;
+    private static final int TRANSACTIONS = 2_000;
+    private static final int CALLS = 50;
+
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private ICustomerService customerService;
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+    @Autowired
+    private BankAccountTransactionRepository bankAccountTransactionRepository;
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ModelMapper modelMapper;
+    @Autowired
+    private CommonTools commonTools;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Jeu de données commun aux deux tests, inséré une seule fois dans la base du contexte
+     */
+    @BeforeEach
+    void seed() {
+        if (bankAccountRepository.findByRib(RIB_HISTORY).isPresent()) {
+            return;
+        }
+        Customer customer = customerRepository.findByIdentityRef("A100").orElseThrow();
+        Date createdAt = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(30));
+        List<BankAccount> accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(BankAccount.builder().rib(String.format("1919%020d", i)).amount(1_000L * i)
+                    .createdAt(createdAt).accountStatus(AccountStatus.OPENED)
+                    .customer(i % 2 == 0 ? customer : null).build());
+        }
+        bankAccountRepository.saveAll(accounts);
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_HISTORY).amount(1_000_000.0).customerIdentityRef("A200").build());
+        BankAccount history = bankAccountRepository.findByRib(RIB_HISTORY).orElseThrow();
+        User user = userRepository.findByUsername("user1").orElseThrow();
+        List<BankAccountTransaction> operations = new ArrayList<>();
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            operations.add(BankAccountTransaction.builder().bankAccount(history).user(user)
+                    .createdAt(new Date(createdAt.getTime() + TimeUnit.MINUTES.toMillis(i)))
+                    .transactionType(i % 3 == 0 ? TransactionType.CREDIT : TransactionType.DEBIT)
+                    .amount(100L + i).build());
+        }
+        bankAccountTransactionRepository.saveAll(operations);
+    }
+
+    @Test
+    void projectionsMatchEntityMapping() {
+        assertThat(bankAccountService.getAllBankAccounts())
+                .extracting(BankAccountDto::getId, BankAccountDto::getRib, BankAccountDto::getAmount,
+                        BankAccountDto::getCreatedAt, dto -> dto.getCustomer() == null ? null : dto.getCustomer().getIdentityRef())
+                .containsExactlyInAnyOrderElementsOf(entityAccounts().stream()
+                        .map(dto -> tuple(dto.getId(), dto.getRib(), dto.getAmount(), dto.getCreatedAt(),
+                                dto.getCustomer() == null ? null : dto.getCustomer().getIdentityRef()))
+                        .toList());
+        assertThat(customerService.getAllCustomers())
+                .containsExactlyInAnyOrderElementsOf(entityCustomers());
+        List<TransactionDto> projected = transactionService.getTransactions(historyRequest());
+        assertThat(projected).hasSize(TRANSACTIONS)
+                .extracting(TransactionDto::getId, TransactionDto::getAmount, TransactionDto::getCreatedAt,
+                        TransactionDto::getTransactionType, t -> t.getUser().getUsername(), t -> t.getBankAccount().getRib())
+                .containsExactlyInAnyOrderElementsOf(entityTransactions().stream()
+                        .map(t -> tuple(t.getId(), t.getAmount(), t.getCreatedAt(), t.getTransactionType(),
+                                t.getUser().getUsername(), t.getBankAccount().getRib()))
+                        .toList());
+    }
+
+    /**
+     * Banc d'essai : appels/s et octets alloués par appel, entités + ModelMapper puis projections
+     */
+    @Test
+    @Tag("benchmark")
+    void projectionsAllocateLess() {
+        GetTransactionListRequest request = historyRequest();
+        report("getAllBankAccounts", this::entityAccounts, bankAccountService::getAllBankAccounts);
+        report("getAllCustomers", this::entityCustomers, customerService::getAllCustomers);
+        report("getTransactions", this::entityTransactions, () -> transactionService.getTransactions(request));
+    }
+
+    /**
+     * Période couvrant tout l'historique inséré par seed (y compris lors d'un appel précédent)
+     */
+    private GetTransactionListRequest historyRequest() {
+        return GetTransactionListRequest.builder().rib(RIB_HISTORY)
+                .dateFrom(commonTools.dateToString(historyFrom()))
+                .dateTo(commonTools.dateToString(historyTo()))
+                .build();
+    }
+
+    private static Date historyFrom() {
+        return new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(31));
+    }
+
+    private static Date historyTo() {
+        return new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1));
+    }
+
+    // Ancien chemin : entités gérées (transaction en écriture) puis mapping réflexif
+
+    private List<BankAccountDto> entityAccounts() {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                bankAccountRepository.findAll().stream().map(b -> modelMapper.map(b, BankAccountDto.class)).toList());
+    }
+
+    private List<CustomerDto> entityCustomers() {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                customerRepository.findAll().stream().map(c -> modelMapper.map(c, CustomerDto.class)).toList());
+    }
+
+    private List<TransactionDto> entityTransactions() {
+        Date from = historyFrom();
+        Date to = historyTo();
+        return new TransactionTemplate(transactionManager).execute(status ->
+                bankAccountTransactionRepository.findByBankAccount_RibAndCreatedAtBetween(RIB_HISTORY, from, to).stream()
+                        .map(t -> modelMapper.map(t, TransactionDto.class)).toList());
+    }
+
+    private static void report(String name, Supplier<? extends List<?>> entities, Supplier<? extends List<?>> projections) {
+        double[] before = measure(entities);
+        double[] after = measure(projections);
+        System.out.printf("%s (%d lignes) entités+ModelMapper : %.0f appels/s, %.0f Ko/appel | projection : %.0f appels/s, %.0f Ko/appel%n",
+                name, entities.get().size(), before[0], before[1] / 1024, after[0], after[1] / 1024);
+    }
+
+    /**
+     * @return appels par seconde et octets alloués par appel (thread courant), après un passage de chauffe
+     */
+    private static double[] measure(Supplier<? extends List<?>> read) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Function<Integer, double[]> run = calls -> {
+            long allocated = threads.getCurrentThreadAllocatedBytes();
+            long begin = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                assertThat(read.get()).isNotEmpty();
+            }
+            double seconds = (System.nanoTime() - begin) / 1e9;
+            return new double[]{calls / seconds, (double) (threads.getCurrentThreadAllocatedBytes() - allocated) / calls};
+        };
+        run.apply(CALLS);
+        return run.apply(CALLS);
+    }
+}
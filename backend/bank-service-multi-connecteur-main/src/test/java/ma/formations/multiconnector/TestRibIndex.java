@@ -0,0 +1,146 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.common.RibIndex;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.enums.AccountStatus;
+import ma.formations.multiconnector.service.BankAccountRibIndex;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.model.BankAccount;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Index mémoire des RIB : exactitude, puis banc d'essai face à la recherche en base (findIdByRib),
+ * exécuté seulement avec le profil benchmark. Le nombre de comptes indexés se règle par -Drib-index.bench.size
+ * (10000000 pour 10M comptes, prévoir -Xmx1g) ;
+ * la comparaison avec H2 porte sur DB_ACCOUNTS comptes.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:ribindexdb")
+public class TestRibIndex {
+    private static final int DB_ACCOUNTS = 20_000;
+    private static final int LOOKUPS = 200_000;
+
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+    @Autowired
+    private BankAccountRibIndex ribIndex;
+
+    @Test
+    void findsEveryRibAfterGrowing() {
+        RibIndex index = new RibIndex(1);
+        for (long i = 0; i < 100_000; i++) {
+            index.put(rib(i), i);
+        }
+        assertThat(index.size()).isEqualTo(100_000);
+        for (long i = 0; i < 100_000; i++) {
+            assertThat(index.find(rib(i))).isEqualTo(i);
+        }
+        index.put(rib(7), 700);
+        assertThat(index.find(rib(7))).isEqualTo(700);
+        assertThat(index.size()).isEqualTo(100_000);
+        assertThat(index.find(rib(100_000))).isEqualTo(RibIndex.NOT_FOUND);
+        // Seuls les RIB de 24 chiffres sont indexés
+        index.put("RIB_1", 1);
+        assertThat(index.find("RIB_1")).isEqualTo(RibIndex.NOT_FOUND);
+        assertThat(index.find(null)).isEqualTo(RibIndex.NOT_FOUND);
+    }
+
+    /**
+     * Un compte créé est résolu par l'index dès le commit de sa création
+     */
+    @Test
+    void savedAccountIsIndexed() {
+        String rib = "777700000000000000000001";
+        int before = ribIndex.size();
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(rib).amount(10.0).customerIdentityRef("A100").build());
+        assertThat(ribIndex.size()).isEqualTo(before + 1);
+        assertThat(ribIndex.findIdByRib(rib))
+                .isEqualTo(bankAccountRepository.findIdByRib(rib));
+    }
+
+    /**
+     * Un compte inséré sans passer par saveBankAccount est trouvé en base au premier accès, puis servi par l'index
+     */
+    @Test
+    void accountMissingFromIndexIsLoadedFromRepository() {
+        List<BankAccount> accounts = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            accounts.add(BankAccount.builder().rib(String.format("7778%020d", i)).amount(0).createdAt(new Date())
+                    .accountStatus(AccountStatus.OPENED).build());
+        }
+        bankAccountRepository.saveAll(accounts);
+        int before = ribIndex.size();
+        for (BankAccount account : accounts) {
+            assertThat(ribIndex.findIdByRib(account.getRib())).contains(account.getId());
+        }
+        assertThat(ribIndex.size()).isEqualTo(before + accounts.size());
+        assertThat(ribIndex.findIdByRib(String.format("7778%020d", 10))).isEmpty();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void lookupThroughputAgainstRepository() {
+        int size = Integer.getInteger("rib-index.bench.size", 1_000_000);
+        RibIndex index = new RibIndex(size);
+        long begin = System.nanoTime();
+        for (long i = 0; i < size; i++) {
+            index.put(rib(i), i);
+        }
+        System.out.printf("RibIndex : %d comptes chargés en %d ms, %d Mo%n", size,
+                (System.nanoTime() - begin) / 1_000_000, index.footprintBytes() / (1024 * 1024));
+        double indexRate = lookupRate(size, r -> index.find(r));
+        System.out.printf("RibIndex (%d comptes) : %.0f recherches/s%n", size, indexRate);
+
+        List<BankAccount> accounts = new ArrayList<>(DB_ACCOUNTS);
+        for (long i = 0; i < DB_ACCOUNTS; i++) {
+            accounts.add(BankAccount.builder().rib(rib(i)).amount(0).createdAt(new Date())
+                    .accountStatus(AccountStatus.OPENED).build());
+            if (accounts.size() == 1_000) {
+                bankAccountRepository.saveAll(accounts);
+                accounts.clear();
+            }
+        }
+        bankAccountRepository.saveAll(accounts);
+        double repositoryRate = lookupRate(DB_ACCOUNTS, r -> bankAccountRepository.findIdByRib(r).orElseThrow());
+        System.out.printf("findIdByRib (%d comptes) : %.0f recherches/s%n", DB_ACCOUNTS, repositoryRate);
+        // Comptes insérés sans passer par saveBankAccount : premier accès en base, puis servis par l'index
+        double serviceRate = lookupRate(DB_ACCOUNTS, r -> ribIndex.findIdByRib(r).orElseThrow());
+        System.out.printf("BankAccountRibIndex (%d comptes) : %.0f recherches/s%n", DB_ACCOUNTS, serviceRate);
+
+        assertThat(indexRate).isGreaterThan(repositoryRate);
+    }
+
+    private static double lookupRate(int accounts, ToLongFunction<String> lookup) {
+        String[] ribs = new String[LOOKUPS];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < LOOKUPS; i++) {
+            ribs[i] = rib(random.nextInt(accounts));
+        }
+        long checksum = 0;
+        long begin = System.nanoTime();
+        for (String rib : ribs) {
+            checksum += lookup.applyAsLong(rib);
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        assertThat(checksum).isNotNegative();
+        return LOOKUPS / seconds;
+    }
+
+    private static String rib(long i) {
+        return String.format("8888%020d", i);
+    }
+}
@@ -0,0 +1,359 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.TransferIdempotencyKeyRepository;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchResponse;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.dtos.transaction.WirerTransferLineResult;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.TransactionServiceImpl;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.sharded.ShardedTransactionServiceImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shardeddb;LOCK_TIMEOUT=10000",
+        "bank.transfer.engine=SHARDED"
+})
+public class TestShardedTransferEngine {
+    private static final int ACCOUNTS = 8;
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 500;
+    private static final double INITIAL_AMOUNT = 1000.0;
+
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private TransactionServiceImpl transactionalService;
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+    @Autowired
+    private TransferIdempotencyKeyRepository idempotencyKeyRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Les virements croisés entre shards ne créent ni ne perdent d'argent,
+     * et les soldes persistés par le commit groupé restent cohérents.
+     */
+    @Test
+    void shardedTransfersConserveTotalBalance() throws InterruptedException {
+        assertThat(transactionService).isInstanceOf(ShardedTransactionServiceImpl.class);
+        List<String> ribs = accounts("6666", ACCOUNTS, INITIAL_AMOUNT);
+
+        AtomicInteger unexpectedErrors = new AtomicInteger();
+        runTransfers(transactionService, ribs, THREADS, TRANSFERS_PER_THREAD, unexpectedErrors);
+
+        assertThat(unexpectedErrors.get()).isZero();
+        assertThat(total(ribs)).isEqualTo(ACCOUNTS * INITIAL_AMOUNT);
+    }
+
+    @Test
+    void insufficientBalanceIsRejectedByTheShard() {
+        String rib = account("6666", 99, 10.0);
+
+        assertThatThrownBy(() -> transactionService.wiredTransfer(transfer(rib, "111111111111111111111111", 20.0, null), "user1"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Solde insuffisant");
+    }
+
+    /**
+     * Requêtes simultanées avec la même clé : une seule traverse le pipeline,
+     * les autres renvoient sa réponse.
+     */
+    @Test
+    void concurrentSameKeyTransfersMoveMoneyOnce() throws Exception {
+        String from = account("6767", 1, 100.0);
+        String to = account("6767", 2, 0.0);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<AddWirerTransferResponse>> responses = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            responses.add(executor.submit(() -> {
+                start.await();
+                return transactionService.wiredTransfer(transfer(from, to, 30.0, "sharded-same-key"), "user1");
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        Long transactionId = responses.get(0).get().getTransactionFrom().getId();
+        for (Future<AddWirerTransferResponse> response : responses) {
+            assertThat(response.get().getTransactionFrom().getId()).isEqualTo(transactionId);
+        }
+        assertThat(bankAccountService.getBankAccountByRib(from).getAmount()).isEqualTo(70.0);
+        assertThat(bankAccountService.getBankAccountByRib(to).getAmount()).isEqualTo(30.0);
+    }
+
+    /**
+     * Deux virements de même clé dans un même commit groupé : le lot échoue sur la clé en double,
+     * chaque virement est rejoué seul, le doublon échoue et son effet est annulé dans les soldes
+     * en mémoire des shards.
+     */
+    @Test
+    void duplicateKeyInAGroupIsRetriedAloneAndRolledBackInMemory() throws Exception {
+        String blocked = account("6868", 1, 0.0);
+        String from = account("6868", 2, 100.0);
+        String to = account("6868", 3, 0.0);
+        String other = account("6868", 4, 100.0);
+
+        // Le compte [blocked] est verrouillé : l'écrivain reste bloqué sur le premier virement
+        // et les suivants s'accumulent dans son anneau, puis partent dans un même lot
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        Future<?> lock = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            bankAccountRepository.findAllByRibInForUpdate(List.of(blocked));
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+        Future<AddWirerTransferResponse> blocker = executor.submit(() ->
+                transactionService.wiredTransfer(transfer(other, blocked, 10.0, null), "user1"));
+        Thread.sleep(300);
+        Future<AddWirerTransferBatchResponse> batch = executor.submit(() ->
+                transactionService.wiredTransferBatch(AddWirerTransferBatchRequest.builder()
+                        .transfers(List.of(
+                                transfer(other, to, 5.0, null),
+                                transfer(from, to, 30.0, "sharded-group-key"),
+                                transfer(from, to, 30.0, "sharded-group-key")))
+                        .build(), "user1"));
+        Thread.sleep(300);
+        release.countDown();
+        lock.get(10, TimeUnit.SECONDS);
+        blocker.get(10, TimeUnit.SECONDS);
+        AddWirerTransferBatchResponse response = batch.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Le virement sans clé du même lot est validé lors du rejeu un par un
+        assertThat(response.getResults()).extracting(WirerTransferLineResult::isSuccess)
+                .containsExactly(true, true, false);
+        assertThat(idempotencyKeyRepository.existsById("user1:sharded-group-key")).isTrue();
+        assertThat(bankAccountService.getBankAccountByRib(from).getAmount()).isEqualTo(70.0);
+        assertThat(bankAccountService.getBankAccountByRib(to).getAmount()).isEqualTo(35.0);
+        assertThat(bankAccountService.getBankAccountByRib(other).getAmount()).isEqualTo(85.0);
+
+        // Soldes en mémoire annulés : tout le solde persisté est disponible, pas un centime de plus
+        transactionService.wiredTransfer(transfer(from, other, 70.0, null), "user1");
+        assertThatThrownBy(() -> transactionService.wiredTransfer(transfer(from, other, 0.01, null), "user1"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Solde insuffisant");
+        transactionService.wiredTransfer(transfer(to, other, 35.0, null), "user1");
+        assertThatThrownBy(() -> transactionService.wiredTransfer(transfer(to, other, 0.01, null), "user1"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Solde insuffisant");
+        assertThat(bankAccountService.getBankAccountByRib(other).getAmount()).isEqualTo(190.0);
+    }
+
+    /**
+     * Virements d'un même commit groupé : chaque réponse porte le solde juste après son virement,
+     * pas celui de la fin du lot
+     */
+    @Test
+    void groupedResponsesCarryTheBalanceAfterEachTransfer() throws Exception {
+        String blocked = account("7272", 1, 0.0);
+        String from = account("7272", 2, 100.0);
+        String to = account("7272", 3, 0.0);
+
+        // Écrivain bloqué sur le premier virement : les suivants partent ensemble dans le lot suivant
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2 + THREADS);
+        Future<?> lock = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            bankAccountRepository.findAllByRibInForUpdate(List.of(blocked));
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+        Future<AddWirerTransferResponse> blocker = executor.submit(() ->
+                transactionService.wiredTransfer(transfer(from, blocked, 10.0, null), "user1"));
+        Thread.sleep(300);
+        List<Future<AddWirerTransferResponse>> responses = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            responses.add(executor.submit(() -> transactionService.wiredTransfer(transfer(from, to, 1.0, null), "user1")));
+        }
+        Thread.sleep(300);
+        release.countDown();
+        lock.get(10, TimeUnit.SECONDS);
+        assertThat(blocker.get(10, TimeUnit.SECONDS).getTransactionFrom().getBankAccount().getAmount()).isEqualTo(90.0);
+        List<Double> fromAmounts = new ArrayList<>();
+        List<Double> toAmounts = new ArrayList<>();
+        for (Future<AddWirerTransferResponse> response : responses) {
+            fromAmounts.add(response.get(30, TimeUnit.SECONDS).getTransactionFrom().getBankAccount().getAmount());
+            toAmounts.add(response.get().getTransactionTo().getBankAccount().getAmount());
+        }
+        executor.shutdown();
+
+        assertThat(fromAmounts).containsExactlyInAnyOrder(89.0, 88.0, 87.0, 86.0, 85.0, 84.0, 83.0, 82.0);
+        assertThat(toAmounts).containsExactlyInAnyOrder(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
+    }
+
+    /**
+     * Mouvements validés hors du moteur (moteur TRANSACTIONAL appelé directement) :
+     * le shard relit le solde du compte au lieu de garder sa valeur en mémoire
+     */
+    @Test
+    void shardsReloadBalancesWrittenOutsideTheEngine() {
+        String from = account("7373", 1, 10.0);
+        String to = account("7373", 2, 0.0);
+        String other = account("7373", 3, 0.0);
+
+        transactionService.wiredTransfer(transfer(from, to, 5.0, null), "user1");
+        transactionalService.wiredTransfer(transfer(from, other, 5.0, null), "user1");
+        assertThatThrownBy(() -> transactionService.wiredTransfer(transfer(from, to, 5.0, null), "user1"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Solde insuffisant");
+
+        transactionalService.wiredTransfer(transfer(other, from, 2.0, null), "user1");
+        transactionService.wiredTransfer(transfer(from, to, 2.0, null), "user1");
+        assertThat(bankAccountService.getBankAccountByRib(from).getAmount()).isZero();
+        assertThat(bankAccountService.getBankAccountByRib(to).getAmount()).isEqualTo(7.0);
+        assertThat(bankAccountService.getBankAccountByRib(other).getAmount()).isEqualTo(3.0);
+    }
+
+    /**
+     * Lot : une ligne dont la clé a déjà servi n'est pas soumise au pipeline, une clé répétée dans le lot
+     * rejette la ligne
+     */
+    @Test
+    void batchLinesHonourIdempotencyKeys() {
+        String from = account("7474", 1, 10.0);
+        String to = account("7474", 2, 0.0);
+        transactionService.wiredTransfer(transfer(from, to, 1.0, "sharded-batch-1"), "user1");
+
+        AddWirerTransferBatchResponse response = transactionService.wiredTransferBatch(
+                AddWirerTransferBatchRequest.builder().transfers(List.of(
+                        transfer(from, to, 1.0, "sharded-batch-1"),
+                        transfer(from, to, 2.0, "sharded-batch-2"),
+                        transfer(from, to, 3.0, "sharded-batch-2"))).build(), "user1");
+        assertThat(response.getResults()).extracting(WirerTransferLineResult::isSuccess)
+                .containsExactly(true, true, false);
+        assertThat(response.getResults().get(0).getMessage()).contains("déjà effectué");
+        assertThat(bankAccountService.getBankAccountByRib(from).getAmount()).isEqualTo(7.0);
+        assertThat(bankAccountService.getBankAccountByRib(to).getAmount()).isEqualTo(3.0);
+    }
+
+    /**
+     * Débit mesuré des deux moteurs sur la même charge (comptes distincts) :
+     * le moteur SHARDED doit dépasser le moteur TRANSACTIONAL.
+     */
+    @Test
+    @Tag("benchmark")
+    void shardedThroughputExceedsTransactionalEngine() throws InterruptedException {
+        int accounts = 64;
+        int threads = 16;
+        int transfersPerThread = 2_000;
+        List<String> shardedRibs = accounts("6969", accounts, 1_000_000.0);
+        List<String> transactionalRibs = accounts("7070", accounts, 1_000_000.0);
+
+        AtomicInteger unexpectedErrors = new AtomicInteger();
+        double shardedRate = runTransfers(transactionService, shardedRibs, threads, transfersPerThread, unexpectedErrors);
+        double transactionalRate = runTransfers(transactionalService, transactionalRibs, threads, transfersPerThread,
+                unexpectedErrors);
+        System.out.printf("SHARDED : %.0f virements/s, TRANSACTIONAL : %.0f virements/s (%d threads, %d comptes)%n",
+                shardedRate, transactionalRate, threads, accounts);
+
+        assertThat(unexpectedErrors.get()).isZero();
+        assertThat(total(shardedRibs)).isEqualTo(accounts * 1_000_000.0);
+        assertThat(shardedRate).isGreaterThan(transactionalRate);
+    }
+
+    /**
+     * Virements aléatoires entre les comptes, lancés simultanément par plusieurs threads
+     * @return le débit mesuré en virements par seconde
+     */
+    private static double runTransfers(ITransactionService service, List<String> ribs, int threads,
+                                       int transfersPerThread, AtomicInteger unexpectedErrors) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < transfersPerThread; i++) {
+                    int from = random.nextInt(ribs.size());
+                    int to = (from + 1 + random.nextInt(ribs.size() - 1)) % ribs.size();
+                    try {
+                        service.wiredTransfer(transfer(ribs.get(from), ribs.get(to), 1 + random.nextInt(50), null), "user1");
+                    } catch (BusinessException e) {
+                        // Solde insuffisant : refus métier attendu
+                    } catch (Exception e) {
+                        unexpectedErrors.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        return threads * transfersPerThread * 1e9 / (System.nanoTime() - begin);
+    }
+
+    private List<String> accounts(String prefix, int count, double amount) {
+        List<String> ribs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ribs.add(account(prefix, i, amount));
+        }
+        return ribs;
+    }
+
+    private String account(String prefix, int index, double amount) {
+        String rib = prefix + String.format("%020d", index);
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(rib)
+                .amount(amount)
+                .customerIdentityRef("A100")
+                .build());
+        return rib;
+    }
+
+    private double total(List<String> ribs) {
+        return ribs.stream()
+                .mapToDouble(rib -> bankAccountService.getBankAccountByRib(rib).getAmount())
+                .sum();
+    }
+
+    private static AddWirerTransferRequest transfer(String from, String to, double amount, String idempotencyKey) {
+        return AddWirerTransferRequest.builder()
+                .ribFrom(from)
+                .ribTo(to)
+                .amount(amount)
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+}
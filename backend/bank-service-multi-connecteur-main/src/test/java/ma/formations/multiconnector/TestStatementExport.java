@@ -0,0 +1,99 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.enums.StatementFormat;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.export.StatementWriter;
+import ma.formations.multiconnector.service.model.StatementLine;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestStatementExport {
+    private static final long ROWS = 3_000_000;
+
+    /**
+     * Un export de plusieurs millions de lignes est écrit au fil de l'eau :
+     * la sortie a déjà reçu la première moitié quand la seconde est produite.
+     */
+    @Test
+    void millionsOfRowsAreStreamed() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        AtomicLong writtenAtHalf = new AtomicLong();
+        Stream<StatementLine> lines = LongStream.rangeClosed(1, ROWS)
+                .peek(id -> {
+                    if (id == ROWS / 2) {
+                        writtenAtHalf.set(out.bytes);
+                    }
+                })
+                .mapToObj(TestStatementExport::syntheticLine);
+
+        long count = StatementWriter.write(lines, StatementFormat.NDJSON, dates(), out);
+
+        assertThat(count).isEqualTo(ROWS);
+        assertThat(out.newLines).isEqualTo(ROWS);
+        assertThat(writtenAtHalf.get()).isGreaterThan(out.bytes / 3);
+    }
+
+    @Test
+    void csvEscapesAndFormatsAmounts() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StatementWriter.write(Stream.of(
+                new StatementLine(1L, new Date(0), TransactionType.DEBIT, 123456, "user1"),
+                new StatementLine(2L, new Date(0), TransactionType.CREDIT, 5, "a,\"b\"")),
+                StatementFormat.CSV, dates(), out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,createdAt,transactionType,amount,username\n" +
+                        "1,1970-01-01 00:00:00,DEBIT,1234.56,user1\n" +
+                        "2,1970-01-01 00:00:00,CREDIT,0.05,\"a,\"\"b\"\"\"\n");
+    }
+
+    /**
+     * Même motif que graphql.date.format, en UTC pour un résultat indépendant du fuseau de la machine
+     */
+    private static DateFormat dates() {
+        DateFormat dates = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        dates.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return dates;
+    }
+
+    private static StatementLine syntheticLine(long id) {
+        return new StatementLine(id, new Date(1_600_000_000_000L + id * 1000),
+                id % 2 == 0 ? TransactionType.CREDIT : TransactionType.DEBIT, id % 100_000, "user1");
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long bytes;
+        private long newLines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                newLines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    newLines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.archive.TransactionArchive;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.ArchiveSegmentRepository;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.ArchiveTransactionsResponse;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionPageRequest;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPageDto;
+import ma.formations.multiconnector.enums.AccountStatus;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.job.TransactionArchiveJob;
+import ma.formations.multiconnector.service.model.ArchiveSegment;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archivedb",
+        "bank.archive.directory=target/test-archive",
+        "bank.archive.horizon-days=365"
+})
+public class TestTransactionArchive {
+    private static final String RIB_A = "444400000000000000000001";
+    private static final String RIB_B = "444400000000000000000002";
+    private static final Path ARCHIVE = Path.of("target/test-archive");
+
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private TransactionArchiveJob transactionArchiveJob;
+    @Autowired
+    private AccountBalanceService accountBalanceService;
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+    @Autowired
+    private BankAccountTransactionRepository bankAccountTransactionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CommonTools commonTools;
+    @Autowired
+    private TransactionArchive transactionArchive;
+    @Autowired
+    private ArchiveSegmentRepository archiveSegmentRepository;
+    @Autowired
+    private TransferProperties transferProperties;
+
+    /**
+     * Les mois anciens quittent la base pour un segment sur disque ; l'historique et le solde
+     * à une date passée restent identiques. Les segments laissés dans le répertoire par une exécution
+     * précédente (autre base H2) ne sont pas relus.
+     */
+    @Test
+    void oldMonthsAreArchivedAndStillRead() throws IOException {
+        long now = System.currentTimeMillis();
+        Date opened = new Date(now - TimeUnit.DAYS.toMillis(1000));
+        Date d1 = new Date(now - TimeUnit.DAYS.toMillis(730));
+        Date d2 = new Date(d1.getTime() + TimeUnit.DAYS.toMillis(31));
+        // Soldes d'ouverture 100 et 0 MAD, puis A -> B 30 MAD et B -> A 10 MAD
+        BankAccount a = bankAccountRepository.save(BankAccount.builder().rib(RIB_A).amount(8_000)
+                .createdAt(opened).accountStatus(AccountStatus.OPENED).build());
+        BankAccount b = bankAccountRepository.save(BankAccount.builder().rib(RIB_B).amount(2_000)
+                .createdAt(opened).accountStatus(AccountStatus.OPENED).build());
+        User user = userRepository.findByUsername("user1").orElseThrow();
+        bankAccountTransactionRepository.saveAll(List.of(
+                operation(a, user, d1, TransactionType.DEBIT, 3_000, 7_000),
+                operation(b, user, d1, TransactionType.CREDIT, 3_000, 3_000),
+                operation(b, user, d2, TransactionType.DEBIT, 1_000, 2_000),
+                operation(a, user, d2, TransactionType.CREDIT, 1_000, 8_000)));
+        transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                .ribFrom(RIB_A).ribTo(RIB_B).amount(5.0).build(), "user1");
+
+        Date from = new Date(opened.getTime());
+        Date to = new Date(now + TimeUnit.DAYS.toMillis(1));
+        List<TransactionDto> before = history(RIB_A, from, to);
+
+        ArchiveTransactionsResponse response = transactionArchiveJob.archiveOldMonths();
+        assertThat(response.getTransactions()).isEqualTo(4);
+        assertThat(response.getMonths()).isEqualTo(2);
+        assertThat(bankAccountTransactionRepository.findByBankAccount_RibAndCreatedAtBetween(RIB_A, from, d2)).isEmpty();
+        List<ArchiveSegment> manifest = archiveSegmentRepository.findAll();
+        assertThat(manifest).hasSize(2)
+                .allSatisfy(segment -> assertThat(ARCHIVE.resolve(segment.getFileName())).exists());
+        assertThat(transactionArchive.countOf(a.getId())).isEqualTo(2);
+
+        List<TransactionDto> after = history(RIB_A, from, to);
+        assertThat(after).extracting(TransactionDto::getId)
+                .containsExactlyInAnyOrderElementsOf(before.stream().map(TransactionDto::getId).toList());
+        assertThat(after).extracting(TransactionDto::getAmount).containsExactly(30.0, 10.0, 5.0);
+        assertThat(after.get(0).getUser().getUsername()).isEqualTo("user1");
+
+        // Pagination par curseur : la page qui atteint les mois archivés est complétée par l'archive
+        TransactionPageDto first = page(RIB_A, from, to, 2, null);
+        assertThat(first.getEdges()).extracting(edge -> edge.getNode().getAmount()).containsExactly(5.0, 10.0);
+        assertThat(first.getPageInfo().isHasNextPage()).isTrue();
+        assertThat(first.getEdges().get(1).getNode().getBankAccount().getRib()).isEqualTo(RIB_A);
+        TransactionPageDto second = page(RIB_A, from, to, 2, first.getPageInfo().getEndCursor());
+        assertThat(second.getEdges()).extracting(edge -> edge.getNode().getAmount()).containsExactly(30.0);
+        assertThat(second.getEdges().get(0).getNode().getUser().getUsername()).isEqualTo("user1");
+        assertThat(second.getPageInfo().isHasNextPage()).isFalse();
+
+        BankAccount current = bankAccountRepository.findByRib(RIB_A).orElseThrow();
+        assertThat(accountBalanceService.balanceAt(current, new Date(d1.getTime() - 1))).isEqualTo(10_000);
+        assertThat(accountBalanceService.balanceAt(current, new Date(d1.getTime() + 1))).isEqualTo(7_000);
+        assertThat(accountBalanceService.balanceAt(current, new Date(d2.getTime() + 1))).isEqualTo(8_000);
+        assertThat(accountBalanceService.balanceAt(current, to)).isEqualTo(7_500);
+
+        // Un second passage n'a plus rien à archiver
+        assertThat(transactionArchiveJob.archiveOldMonths().getTransactions()).isZero();
+
+        // À la réouverture, un segment absent du manifeste (archivage annulé, autre base) est ignoré
+        Files.copy(ARCHIVE.resolve(manifest.get(0).getFileName()),
+                ARCHIVE.resolve("tx-1990-01-00000000000000000001.seg"), StandardCopyOption.REPLACE_EXISTING);
+        TransactionArchive reopened = new TransactionArchive(transferProperties, archiveSegmentRepository);
+        reopened.open();
+        assertThat(reopened.hotFrom()).isEqualTo(transactionArchive.hotFrom());
+        assertThat(reopened.countOf(a.getId())).isEqualTo(2);
+        assertThat(reopened.find(a.getId(), from, to)).hasSize(2);
+    }
+
+    private TransactionPageDto page(String rib, Date from, Date to, int size, String after) {
+        return transactionService.getTransactionPage(GetTransactionPageRequest.builder()
+                .rib(rib)
+                .dateFrom(commonTools.dateToString(from))
+                .dateTo(commonTools.dateToString(to))
+                .size(size)
+                .after(after)
+                .build());
+    }
+
+    private List<TransactionDto> history(String rib, Date from, Date to) {
+        return transactionService.getTransactions(GetTransactionListRequest.builder()
+                .rib(rib)
+                .dateFrom(commonTools.dateToString(from))
+                .dateTo(commonTools.dateToString(to))
+                .build());
+    }
+
+    private static BankAccountTransaction operation(BankAccount account, User user, Date createdAt,
+                                                    TransactionType type, long amount, long balanceAfter) {
+        return BankAccountTransaction.builder()
+                .bankAccount(account)
+                .user(user)
+                .createdAt(createdAt)
+                .transactionType(type)
+                .amount(amount)
+                .balanceAfter(balanceAfter)
+                .build();
+    }
+}
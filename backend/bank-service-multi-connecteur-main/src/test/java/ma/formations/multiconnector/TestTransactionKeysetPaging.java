@@ -0,0 +1,71 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionPageRequest;
+import ma.formations.multiconnector.dtos.transaction.TransactionEdgeDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPageDto;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ITransactionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pagingdb",
+        "bank.transactions.page.max-size=4"
+})
+public class TestTransactionKeysetPaging {
+    private static final String RIB_FROM = "333300000000000000000001";
+    private static final String RIB_TO = "333300000000000000000002";
+    private static final int TRANSFERS = 10;
+
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private IBankAccountService bankAccountService;
+
+    /**
+     * Parcourir l'historique page par page restitue chaque opération une seule fois,
+     * de la plus récente à la plus ancienne, avec une taille de page plafonnée.
+     */
+    @Test
+    void cursorWalkReturnsEveryTransactionOnce() {
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_FROM).amount(1000.0).customerIdentityRef("A100").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_TO).amount(0.0).customerIdentityRef("A200").build());
+        for (int i = 0; i < TRANSFERS; i++) {
+            transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                    .ribFrom(RIB_FROM).ribTo(RIB_TO).amount(1.0 + i).build(), "user1");
+        }
+
+        List<Long> ids = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        TransactionPageDto page;
+        do {
+            page = transactionService.getTransactionPage(GetTransactionPageRequest.builder()
+                    .rib(RIB_FROM)
+                    .dateFrom("2000-01-01 00:00:00")
+                    .dateTo("2100-01-01 00:00:00")
+                    .size(100)
+                    .after(after)
+                    .build());
+            assertThat(page.getEdges()).hasSizeLessThanOrEqualTo(4);
+            page.getEdges().stream().map(TransactionEdgeDto::getNode).forEach(node -> ids.add(node.getId()));
+            after = page.getPageInfo().getEndCursor();
+            pages++;
+        } while (page.getPageInfo().isHasNextPage());
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(ids).hasSize(TRANSFERS).doesNotHaveDuplicates()
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+}
@@ -0,0 +1,116 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.dao.TransferIdempotencyKeyRepository;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.TransferIdempotencyService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.TransferIdempotencyKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class TestTransferIdempotency {
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private TransferIdempotencyService idempotencyService;
+    @Autowired
+    private TransferIdempotencyKeyRepository idempotencyKeyRepository;
+
+    /**
+     * Un rejeu avec la même clé renvoie la réponse d'origine sans débiter une seconde fois.
+     */
+    @Test
+    void replayWithSameKeyDoesNotDebitTwice() {
+        AddWirerTransferRequest request = AddWirerTransferRequest.builder()
+                .ribFrom("111111111111111111111111")
+                .ribTo("222222222222222222222222")
+                .amount(10.0)
+                .idempotencyKey("test-replay-1")
+                .build();
+        Double before = bankAccountService.getBankAccountByRib("111111111111111111111111").getAmount();
+        long hits = idempotencyService.stats().getHits();
+
+        AddWirerTransferResponse first = transactionService.wiredTransfer(request, "user1");
+        AddWirerTransferResponse second = transactionService.wiredTransfer(request, "user1");
+
+        assertThat(second.getMessage()).isEqualTo(first.getMessage());
+        // Rejeu servi par le cache borné, sans relire la table des clés
+        assertThat(idempotencyService.stats().getHits()).isEqualTo(hits + 1);
+        assertThat(bankAccountService.getBankAccountByRib("111111111111111111111111").getAmount())
+                .isEqualTo(before - 10.0);
+    }
+
+    @Test
+    void sameKeyForAnotherTransferIsRejected() {
+        transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                .ribFrom("111111111111111111111111")
+                .ribTo("222222222222222222222222")
+                .amount(5.0)
+                .idempotencyKey("test-conflict-1")
+                .build(), "user1");
+
+        assertThatThrownBy(() -> transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                .ribFrom("111111111111111111111111")
+                .ribTo("222222222222222222222222")
+                .amount(6.0)
+                .idempotencyKey("test-conflict-1")
+                .build(), "user1"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    /**
+     * La longueur de la clé est vérifiée par le service, quel que soit le connecteur
+     */
+    @Test
+    void tooLongKeyIsRejectedBeforeAnyDebit() {
+        Double before = bankAccountService.getBankAccountByRib("111111111111111111111111").getAmount();
+        assertThatThrownBy(() -> transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                .ribFrom("111111111111111111111111")
+                .ribTo("222222222222222222222222")
+                .amount(1.0)
+                .idempotencyKey("k".repeat(TransferIdempotencyService.MAX_KEY_LENGTH + 1))
+                .build(), "user1"))
+                .isInstanceOf(BusinessException.class);
+        assertThat(bankAccountService.getBankAccountByRib("111111111111111111111111").getAmount()).isEqualTo(before);
+    }
+
+    /**
+     * Une clé persistée plus ancienne que le TTL est ignorée, puis purgée
+     */
+    @Test
+    void expiredKeysAreIgnoredAndPurged() {
+        Date expired = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2));
+        idempotencyKeyRepository.save(TransferIdempotencyKey.builder()
+                .id("user1:test-expired-1").username("user1").requestFingerprint("other").response("{}")
+                .createdAt(expired).build());
+        idempotencyKeyRepository.save(TransferIdempotencyKey.builder()
+                .id("user1:test-expired-2").username("user1").requestFingerprint("other").response("{}")
+                .createdAt(expired).build());
+
+        // Fingerprint différent : une clé encore valide serait refusée
+        transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                .ribFrom("111111111111111111111111")
+                .ribTo("222222222222222222222222")
+                .amount(1.0)
+                .idempotencyKey("test-expired-1")
+                .build(), "user1");
+        assertThat(idempotencyKeyRepository.findById("user1:test-expired-1").orElseThrow().getCreatedAt()).isAfter(expired);
+
+        assertThat(idempotencyService.purgeExpired()).isPositive();
+        assertThat(idempotencyKeyRepository.existsById("user1:test-expired-2")).isFalse();
+        assertThat(idempotencyKeyRepository.existsById("user1:test-expired-1")).isTrue();
+    }
+}
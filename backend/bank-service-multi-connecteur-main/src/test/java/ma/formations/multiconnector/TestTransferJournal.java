@@ -0,0 +1,55 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:journaldb",
+        "bank.transfer.journal.enabled=true",
+        "bank.transfer.journal.directory=target/test-journal",
+        "bank.transfer.journal.file-size-mb=1"
+})
+public class TestTransferJournal {
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private BankAccountTransactionRepository bankAccountTransactionRepository;
+
+    /**
+     * Chaque virement validé porte son numéro de séquence dans le journal,
+     * et le journal est écrit sur disque.
+     */
+    @Test
+    void committedTransferIsJournaled() throws IOException {
+        transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                .ribFrom("111111111111111111111111")
+                .ribTo("222222222222222222222222")
+                .amount(1.0)
+                .build(), "user1");
+
+        List<BankAccountTransaction> transactions = bankAccountTransactionRepository.findAll();
+        BankAccountTransaction last = transactions.stream()
+                .max(Comparator.comparing(BankAccountTransaction::getId))
+                .orElseThrow();
+        assertThat(last.getJournalSeq()).isNotNull();
+        assertThat(bankAccountTransactionRepository.existsByJournalSeq(last.getJournalSeq())).isTrue();
+
+        try (Stream<Path> files = Files.list(Path.of("target/test-journal"))) {
+            assertThat(files.filter(f -> f.getFileName().toString().endsWith(".journal"))).isNotEmpty();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.config.TransferProperties;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.journal.TransferJournal;
+import ma.formations.multiconnector.journal.TransferJournalRecovery;
+import ma.formations.multiconnector.service.AccountBalanceService;
+import ma.formations.multiconnector.service.DailyBalanceService;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.dashboard.DashboardProjection;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reprise du journal sur des redémarrages simulés : chaque redémarrage ouvre un nouveau
+ * journal sur le même répertoire (le journal du contexte reste désactivé, ses séquences
+ * ne se mêlent pas à celles du test).
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:journalrecoverydb")
+public class TestTransferJournalRecovery {
+    private static final String RIB_FROM = "717100000000000000000001";
+    private static final String RIB_TO = "717100000000000000000002";
+
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+    @Autowired
+    private BankAccountTransactionRepository bankAccountTransactionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private AccountBalanceService balanceService;
+    @Autowired
+    private DailyBalanceService dailyBalanceService;
+    @Autowired
+    private DashboardProjection dashboardProjection;
+
+    /**
+     * Un virement journalisé sans issue est rejoué une seule fois, même après plusieurs redémarrages
+     * sans reprise (chacun ouvre un nouveau fichier) ; un virement annulé (ABORT) n'est jamais rejoué.
+     */
+    @Test
+    void unresolvedTransferIsReplayedExactlyOnce() throws IOException {
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_FROM).amount(100.0).customerIdentityRef("A100").build());
+        bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                .rib(RIB_TO).amount(0.0).customerIdentityRef("A200").build());
+        long fromId = bankAccountRepository.findByRib(RIB_FROM).orElseThrow().getId();
+        long toId = bankAccountRepository.findByRib(RIB_TO).orElseThrow().getId();
+        long userId = userRepository.findByUsername("user1").orElseThrow().getId();
+        Path directory = Path.of("target", "test-journal-recovery", String.valueOf(System.nanoTime()));
+
+        // Arrêt brutal : un virement écrit sans issue, un virement dont la transaction a été annulée
+        TransferJournal journal = open(directory);
+        long unresolvedSeq = journal.append(fromId, toId, 1000, System.currentTimeMillis(), userId);
+        transactionTemplate.executeWithoutResult(status -> {
+            journal.append(fromId, toId, 5000, System.currentTimeMillis(), userId);
+            status.setRollbackOnly();
+        });
+        journal.close();
+
+        // Deux redémarrages interrompus avant la reprise
+        open(directory).close();
+        open(directory).close();
+
+        TransferJournal restarted = open(directory);
+        assertThat(recovery(restarted).recover()).isEqualTo(1);
+        restarted.close();
+        TransferJournal restartedAgain = open(directory);
+        assertThat(recovery(restartedAgain).recover()).isZero();
+        restartedAgain.close();
+
+        assertThat(bankAccountTransactionRepository.findAll().stream()
+                .filter(transaction -> Long.valueOf(unresolvedSeq).equals(transaction.getJournalSeq())))
+                .hasSize(2);
+        assertThat(bankAccountService.getBankAccountByRib(RIB_FROM).getAmount()).isEqualTo(90.0);
+        assertThat(bankAccountService.getBankAccountByRib(RIB_TO).getAmount()).isEqualTo(10.0);
+    }
+
+    private TransferJournal open(Path directory) throws IOException {
+        TransferProperties properties = new TransferProperties();
+        properties.setJournalEnabled(true);
+        properties.setJournalDirectory(directory.toString());
+        properties.setJournalFileSizeMb(1);
+        TransferJournal journal = new TransferJournal(properties);
+        journal.open();
+        return journal;
+    }
+
+    private TransferJournalRecovery recovery(TransferJournal journal) {
+        return new TransferJournalRecovery(journal, bankAccountRepository, bankAccountTransactionRepository,
+                userRepository, transactionTemplate, balanceService, dailyBalanceService, dashboardProjection);
+    }
+}
@@ -0,0 +1,272 @@
+package ma.formations.multiconnector;
+
+import io.grpc.CallCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import ma.formations.multiconnector.dtos.TokenVo;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchResponse;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.WirerTransferLineResult;
+import ma.formations.multiconnector.dtos.user.UserRequest;
+import ma.formations.multiconnector.grpc.stub.Bank;
+import ma.formations.multiconnector.grpc.stub.BankServiceGrpc;
+import ma.formations.multiconnector.presentation.graphql.TransactionGraphqlController;
+import ma.formations.multiconnector.presentation.soap.BankSoapController;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:transferbatchdb",
+        "grpc.server.port=-1",
+        "grpc.server.in-process-name=bank-batch-test",
+        "bank.transfer.batch.max-size=10"
+})
+public class TestWiredTransferBatch {
+    private static final String RIB_A = "212100000000000000000001";
+    private static final String RIB_B = "212100000000000000000002";
+    private static final String RIB_C = "212100000000000000000003";
+    private static final String RIB_UNKNOWN = "212199999999999999999999";
+
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private BankSoapController bankSoapController;
+    @Autowired
+    private TransactionGraphqlController transactionGraphqlController;
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        channel = InProcessChannelBuilder.forName("bank-batch-test").directExecutor().build();
+        if (bankAccountService.getAllBankAccounts().stream().noneMatch(account -> RIB_A.equals(account.getRib()))) {
+            bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                    .rib(RIB_A).amount(100.0).customerIdentityRef("A100").build());
+            bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                    .rib(RIB_B).amount(0.0).customerIdentityRef("A200").build());
+            bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                    .rib(RIB_C).amount(50.0).customerIdentityRef("A200").build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Une ligne en échec au milieu du lot (solde insuffisant, RIB inconnu) est rejetée seule :
+     * les autres lignes sont appliquées dans l'ordre et la somme des soldes est conservée.
+     */
+    @Test
+    void failingLinesInTheMiddleAreRejectedAlone() {
+        double total = total();
+        double a = balance(RIB_A);
+        double b = balance(RIB_B);
+        double c = balance(RIB_C);
+        int historyB = history(RIB_B);
+
+        AddWirerTransferBatchResponse response = transactionService.wiredTransferBatch(batch(
+                line(RIB_A, RIB_B, 30.0),
+                line(RIB_A, RIB_B, 10_000.0),
+                line(RIB_UNKNOWN, RIB_B, 1.0),
+                line(RIB_B, RIB_C, 10.0),
+                line(RIB_C, RIB_A, 20.0)), "user1");
+
+        assertThat(response.getSucceeded()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(WirerTransferLineResult::getLine).containsExactly(0, 1, 2, 3, 4);
+        assertThat(response.getResults()).extracting(WirerTransferLineResult::isSuccess)
+                .containsExactly(true, false, false, true, true);
+        assertThat(response.getResults()).extracting(WirerTransferLineResult::getMessage).doesNotContainNull();
+        assertThat(response.getResults().get(1).getRibFrom()).isEqualTo(RIB_A);
+        assertThat(response.getResults().get(1).getAmount()).isEqualTo(10_000.0);
+
+        assertThat(balance(RIB_A)).isEqualTo(a - 30.0 + 20.0);
+        assertThat(balance(RIB_B)).isEqualTo(b + 30.0 - 10.0);
+        assertThat(balance(RIB_C)).isEqualTo(c + 10.0 - 20.0);
+        assertThat(total()).isEqualTo(total);
+        // Une opération par ligne effectuée sur le compte, aucune pour les lignes rejetées
+        assertThat(history(RIB_B)).isEqualTo(historyB + 2);
+    }
+
+    /**
+     * Lignes dépendantes : le solde suivi en mémoire refuse une ligne qui ne passe
+     * qu'avec le solde d'avant le lot
+     */
+    @Test
+    void balanceIsTrackedAcrossLines() {
+        double total = total();
+        double a = balance(RIB_A);
+        AddWirerTransferBatchResponse response = transactionService.wiredTransferBatch(batch(
+                line(RIB_A, RIB_B, a),
+                line(RIB_A, RIB_C, 1.0)), "user1");
+
+        assertThat(response.getResults()).extracting(WirerTransferLineResult::isSuccess).containsExactly(true, false);
+        assertThat(balance(RIB_A)).isZero();
+        assertThat(total()).isEqualTo(total);
+        // Remise en état pour les autres tests
+        transactionService.wiredTransfer(line(RIB_B, RIB_A, a), "user1");
+    }
+
+    /**
+     * Clés d'idempotence par ligne : une ligne déjà exécutée (par un lot ou un virement unitaire) n'est pas
+     * rejouée ; une clé répétée dans le lot, ou reprise pour un autre virement, rejette la ligne
+     */
+    @Test
+    void lineIdempotencyKeysAreHonoured() {
+        double total = total();
+        double a = balance(RIB_A);
+
+        AddWirerTransferBatchResponse first = transactionService.wiredTransferBatch(batch(
+                keyedLine(RIB_A, RIB_B, 2.0, "batch-line-1"),
+                keyedLine(RIB_A, RIB_C, 3.0, "batch-line-1"),
+                keyedLine(RIB_A, RIB_C, 1.0, "batch-line-2")), "user1");
+        assertThat(first.getResults()).extracting(WirerTransferLineResult::isSuccess).containsExactly(true, false, true);
+        assertThat(first.getResults().get(1).getMessage()).contains("batch-line-1");
+        assertThat(balance(RIB_A)).isEqualTo(a - 3.0);
+
+        AddWirerTransferBatchResponse again = transactionService.wiredTransferBatch(batch(
+                keyedLine(RIB_A, RIB_B, 2.0, "batch-line-1"),
+                keyedLine(RIB_A, RIB_C, 5.0, "batch-line-2")), "user1");
+        assertThat(again.getResults()).extracting(WirerTransferLineResult::isSuccess).containsExactly(true, false);
+        assertThat(again.getResults().get(0).getMessage()).contains("déjà effectué");
+
+        // Le virement unitaire de même clé renvoie la réponse enregistrée par le lot
+        AddWirerTransferResponse replay = transactionService.wiredTransfer(
+                keyedLine(RIB_A, RIB_B, 2.0, "batch-line-1"), "user1");
+        assertThat(replay.getTransactionFrom().getAmount()).isEqualTo(2.0);
+        assertThat(replay.getTransactionFrom().getBankAccount().getAmount()).isEqualTo(a - 2.0);
+        assertThat(balance(RIB_A)).isEqualTo(a - 3.0);
+        assertThat(total()).isEqualTo(total);
+    }
+
+    @Test
+    void emptyOrOversizedBatchIsRefused() {
+        assertThatThrownBy(() -> transactionService.wiredTransferBatch(batch(), "user1"))
+                .isInstanceOf(BusinessException.class);
+        AddWirerTransferRequest[] lines = new AddWirerTransferRequest[11];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = line(RIB_A, RIB_B, 1.0);
+        }
+        double total = total();
+        double a = balance(RIB_A);
+        assertThatThrownBy(() -> transactionService.wiredTransferBatch(batch(lines), "user1"))
+                .isInstanceOf(BusinessException.class);
+        assertThat(balance(RIB_A)).isEqualTo(a);
+        assertThat(total()).isEqualTo(total);
+    }
+
+    /**
+     * Le même lot (une ligne valide, une ligne rejetée) sur chaque connecteur : REST, gRPC, SOAP, GraphQL
+     */
+    @Test
+    void everyConnectorReturnsPerLineResults() {
+        double total = total();
+        double a = balance(RIB_A);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(restTemplate.postForObject("/auth/signin",
+                new UserRequest("superadmin", "superadmin"), TokenVo.class).getJwtToken());
+        ResponseEntity<AddWirerTransferBatchResponse> rest = restTemplate.exchange("/api/rest/transaction/batch",
+                HttpMethod.POST, new HttpEntity<>(batch(line(RIB_A, RIB_B, 1.0), line(RIB_UNKNOWN, RIB_B, 1.0)), headers),
+                AddWirerTransferBatchResponse.class);
+        assertThat(rest.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(rest.getBody().getResults()).extracting(WirerTransferLineResult::isSuccess).containsExactly(true, false);
+
+        Bank.AddWirerTransferBatchResponse grpc = BankServiceGrpc.newBlockingStub(channel)
+                .withCallCredentials(basicAuth("superadmin", "superadmin"))
+                .addWirerTransferBatch(Bank.AddWirerTransferBatchRequest.newBuilder()
+                        .addTransfers(Bank.AddWirerTransferRequest.newBuilder().setRibFrom(RIB_A).setRibTo(RIB_B).setAmount(1.0))
+                        .addTransfers(Bank.AddWirerTransferRequest.newBuilder().setRibFrom(RIB_UNKNOWN).setRibTo(RIB_B).setAmount(1.0))
+                        .build());
+        assertThat(grpc.getSucceeded()).isEqualTo(1);
+        assertThat(grpc.getResultsList()).extracting(Bank.WirerTransferLineResult::getSuccess).containsExactly(true, false);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("superadmin", null,
+                List.of(new SimpleGrantedAuthority("ADD_WIRED_TRANSFER"))));
+        AddWirerTransferBatchResponse soap = bankSoapController.createWirerTransferBatch(
+                batch(line(RIB_A, RIB_B, 1.0), line(RIB_UNKNOWN, RIB_B, 1.0)));
+        assertThat(soap.getResults()).extracting(WirerTransferLineResult::isSuccess).containsExactly(true, false);
+        AddWirerTransferBatchResponse graphql = transactionGraphqlController.addWirerTransferBatch(
+                batch(line(RIB_A, RIB_B, 1.0), line(RIB_UNKNOWN, RIB_B, 1.0)));
+        assertThat(graphql.getResults()).extracting(WirerTransferLineResult::isSuccess).containsExactly(true, false);
+        SecurityContextHolder.clearContext();
+
+        assertThat(balance(RIB_A)).isEqualTo(a - 4.0);
+        assertThat(total()).isEqualTo(total);
+    }
+
+    private double balance(String rib) {
+        return bankAccountService.getBankAccountByRib(rib).getAmount();
+    }
+
+    private int history(String rib) {
+        return transactionService.getTransactions(GetTransactionListRequest.builder()
+                .rib(rib).dateFrom("2000-01-01 00:00:00").dateTo("2100-01-01 00:00:00").build()).size();
+    }
+
+    private double total() {
+        return balance(RIB_A) + balance(RIB_B) + balance(RIB_C);
+    }
+
+    private static AddWirerTransferBatchRequest batch(AddWirerTransferRequest... lines) {
+        return AddWirerTransferBatchRequest.builder().transfers(List.of(lines)).build();
+    }
+
+    private static AddWirerTransferRequest line(String ribFrom, String ribTo, double amount) {
+        return AddWirerTransferRequest.builder().ribFrom(ribFrom).ribTo(ribTo).amount(amount).build();
+    }
+
+    private static AddWirerTransferRequest keyedLine(String ribFrom, String ribTo, double amount,
+                                                     String idempotencyKey) {
+        return AddWirerTransferRequest.builder().ribFrom(ribFrom).ribTo(ribTo).amount(amount)
+                .idempotencyKey(idempotencyKey).build();
+    }
+
+    private static CallCredentials basicAuth(String username, String password) {
+        String token = Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        Metadata.Key<String> authorization = Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
+        return new CallCredentials() {
+            @Override
+            public void applyRequestMetadata(RequestInfo requestInfo, Executor appExecutor, MetadataApplier applier) {
+                Metadata headers = new Metadata();
+                headers.put(authorization, "Basic " + token);
+                applier.apply(headers);
+            }
+        };
+    }
+}
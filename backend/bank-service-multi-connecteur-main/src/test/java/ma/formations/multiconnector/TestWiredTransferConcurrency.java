@@ -0,0 +1,87 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:stressdb;LOCK_TIMEOUT=10000")
+public class TestWiredTransferConcurrency {
+    private static final int ACCOUNTS = 4;
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 100;
+    private static final double INITIAL_AMOUNT = 1000.0;
+
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private IBankAccountService bankAccountService;
+
+    /**
+     * Des virements concurrents sur les mêmes comptes ne doivent perdre aucune mise à jour :
+     * la somme des soldes reste constante.
+     */
+    @Test
+    void concurrentTransfersConserveTotalBalance() throws InterruptedException {
+        List<String> ribs = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String rib = String.format("7777%020d", i);
+            bankAccountService.saveBankAccount(AddBankAccountRequest.builder()
+                    .rib(rib)
+                    .amount(INITIAL_AMOUNT)
+                    .customerIdentityRef("A100")
+                    .build());
+            ribs.add(rib);
+        }
+
+        AtomicInteger unexpectedErrors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    int from = random.nextInt(ACCOUNTS);
+                    int to = (from + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                    try {
+                        transactionService.wiredTransfer(AddWirerTransferRequest.builder()
+                                .ribFrom(ribs.get(from))
+                                .ribTo(ribs.get(to))
+                                .amount((double) (1 + random.nextInt(50)))
+                                .build(), "user1");
+                    } catch (BusinessException e) {
+                        // Solde insuffisant : refus métier attendu
+                    } catch (Exception e) {
+                        unexpectedErrors.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        double total = ribs.stream()
+                .mapToDouble(rib -> bankAccountService.getBankAccountByRib(rib).getAmount())
+                .sum();
+        assertThat(unexpectedErrors.get()).isZero();
+        assertThat(total).isEqualTo(ACCOUNTS * INITIAL_AMOUNT);
+    }
+}